@@ -82,6 +82,7 @@ public class CrossfadeDrawerLayoutActvitiy extends AppCompatActivity {
                 .withActivity(this)
                 .withToolbar(toolbar)
                 .withDrawerLayout(crossfadeDrawerLayout)
+                .withSharedViewPool(true)
                 .withHasStableIds(true)
                 .withDrawerWidthDp(72)
                 .withAccountHeader(headerResult) //set the AccountHeader we created earlier for the header
@@ -114,7 +115,7 @@ public class CrossfadeDrawerLayoutActvitiy extends AppCompatActivity {
         //define maxDrawerWidth
         crossfadeDrawerLayout.setMaxWidthPx(DrawerUIUtils.getOptimalDrawerWidth(this));
         //add second view (which is the miniDrawer)
-        miniResult = new MiniDrawer().withDrawer(result).withAccountHeader(headerResult);
+        miniResult = new MiniDrawer().withDrawer(result).withAccountHeader(headerResult).withSharedViewPool(true);
         //build the view for the MiniDrawer
         View view = miniResult.build(this);
         //set the background of the MiniDrawer as this would be transparent
@@ -109,6 +109,7 @@ public class DrawerActivity extends AppCompatActivity {
                 .withActivity(this)
                 .withToolbar(toolbar)
                 .withHasStableIds(true)
+                .withPrewarm(true) //create the ViewHolders below the first screen while the activity is idle, so the first scroll is smooth
                 .withAccountHeader(headerResult) //set the AccountHeader we created earlier for the header
                 .addDrawerItems(
                         new PrimaryDrawerItem().withName(R.string.drawer_item_compact_header).withDescription(R.string.drawer_item_compact_header_desc).withIcon(GoogleMaterial.Icon.gmd_sun).withIdentifier(1).withSelectable(false),
@@ -198,7 +199,7 @@ public class DrawerActivity extends AppCompatActivity {
                 .build();
 
         //if you have many different types of DrawerItems you can magically pre-cache those items to get a better scroll performance
-        //make sure to init the cache after the DrawerBuilder was created as this will first clear the cache to make sure no old elements are in
+        //make sure to init the cache after the Drawer was built, the ViewHolders are put into the RecycledViewPool of its RecyclerView
         RecyclerViewCacheUtil.getInstance().withCacheSize(2).init(result);
 
         //only set the active selection or active profile if we do not recreate the activity
@@ -40,6 +40,7 @@ public class MultiDrawerActivity extends AppCompatActivity {
         result = new DrawerBuilder()
                 .withActivity(this)
                 .withHeader(R.layout.header)
+                .withSharedViewPool(true)
                 .withSavedInstance(savedInstanceState)
                 .addDrawerItems(
                         new PrimaryDrawerItem().withName(R.string.drawer_item_home).withIcon(FontAwesome.Icon.faw_home).withBadge("99").withIdentifier(1),
@@ -115,6 +116,7 @@ public class MultiDrawerActivity extends AppCompatActivity {
                 .withActivity(this)
                 .withFooter(R.layout.footer)
                 .withDisplayBelowStatusBar(true)
+                .withSharedViewPool(true)
                 .withSavedInstance(savedInstanceState)
                 .addDrawerItems(
                         new PrimaryDrawerItem().withName(R.string.drawer_item_custom).withIcon(FontAwesome.Icon.faw_eye),
@@ -0,0 +1,143 @@
+package com.mikepenz.materialdrawer.adapter;
+
+import android.content.Context;
+import android.os.Debug;
+import android.support.test.InstrumentationRegistry;
+import android.support.test.runner.AndroidJUnit4;
+import android.support.v7.widget.LinearLayoutManager;
+import android.support.v7.widget.RecyclerView;
+import android.util.SparseArray;
+import android.view.ContextThemeWrapper;
+import android.view.View;
+import android.widget.TextView;
+
+import com.mikepenz.materialdrawer.R;
+import com.mikepenz.materialdrawer.icons.MaterialDrawerFont;
+import com.mikepenz.materialdrawer.model.DividerDrawerItem;
+import com.mikepenz.materialdrawer.model.PrimaryDrawerItem;
+import com.mikepenz.materialdrawer.model.SecondaryDrawerItem;
+import com.mikepenz.materialdrawer.model.SectionDrawerItem;
+import com.mikepenz.materialdrawer.model.SwitchDrawerItem;
+import com.mikepenz.materialdrawer.model.ToggleDrawerItem;
+import com.mikepenz.materialdrawer.model.interfaces.IDrawerItem;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Created by mikepenz on 02.11.15.
+ * Scrolls over 1000 rows of the built-in items like the RecyclerView does it (a few ViewHolders per type which are
+ * bound to the next rows) and counts the allocations of the binds once every item was bound before.
+ * Setting the texts allocates inside of the TextView (the single line transformation), so the binds must not allocate
+ * more than setting the texts of the same rows.
+ */
+@RunWith(AndroidJUnit4.class)
+public class BindAllocationTest {
+    private static final int ROWS = 1000;
+    //the ViewHolders per viewType, like the attached and recycled views of a RecyclerView
+    private static final int HOLDERS = 12;
+    private static final int[] TEXT_IDS = new int[]{R.id.material_drawer_name, R.id.material_drawer_description, R.id.material_drawer_badge, R.id.material_drawer_toggle};
+
+    private DrawerAdapter mAdapter;
+    private final SparseArray<RecyclerView.ViewHolder[]> mHolders = new SparseArray<>();
+    private RecyclerView.ViewHolder[] mRowHolders;
+
+    @Before
+    public void setUp() {
+        Context ctx = new ContextThemeWrapper(InstrumentationRegistry.getTargetContext(), R.style.MaterialDrawerTheme);
+        RecyclerView recyclerView = new RecyclerView(ctx);
+        recyclerView.setLayoutManager(new LinearLayoutManager(ctx));
+
+        ArrayList<IDrawerItem> drawerItems = new ArrayList<>();
+        for (int i = 0; i < ROWS; i++) {
+            switch (i % 8) {
+                case 0:
+                    drawerItems.add(new SectionDrawerItem().withName("Section " + i));
+                    break;
+                case 1:
+                    drawerItems.add(new DividerDrawerItem());
+                    break;
+                case 2:
+                    drawerItems.add(new SwitchDrawerItem().withName("Switch " + i).withIcon(MaterialDrawerFont.Icon.mdf_person).withChecked(i % 3 == 0));
+                    break;
+                case 3:
+                    drawerItems.add(new ToggleDrawerItem().withName("Toggle " + i).withChecked(i % 3 == 0));
+                    break;
+                case 4:
+                case 5:
+                    drawerItems.add(new SecondaryDrawerItem().withName("Secondary " + i).withIcon(MaterialDrawerFont.Icon.mdf_arrow_drop_down).withBadge(String.valueOf(i)));
+                    break;
+                default:
+                    drawerItems.add(new PrimaryDrawerItem().withName("Primary " + i).withDescription("Description " + i).withIcon(MaterialDrawerFont.Icon.mdf_person).withBadge(String.valueOf(i)));
+                    break;
+            }
+        }
+        mAdapter = new DrawerAdapter();
+        recyclerView.setAdapter(mAdapter);
+        mAdapter.setDrawerItems(drawerItems);
+
+        //the holder of every row is picked before, so the measured loops only bind
+        mRowHolders = new RecyclerView.ViewHolder[mAdapter.getItemCount()];
+        for (int position = 0; position < mRowHolders.length; position++) {
+            int viewType = mAdapter.getItemViewType(position);
+            RecyclerView.ViewHolder[] holders = mHolders.get(viewType);
+            if (holders == null) {
+                holders = new RecyclerView.ViewHolder[HOLDERS];
+                for (int i = 0; i < HOLDERS; i++) {
+                    holders[i] = mAdapter.createViewHolder(recyclerView, viewType);
+                }
+                mHolders.put(viewType, holders);
+            }
+            mRowHolders[position] = holders[position % HOLDERS];
+        }
+    }
+
+    @Test
+    public void scrollingDoesNotAllocatePerBind() {
+        //the first scroll creates the drawables of the items
+        scroll();
+        scroll();
+
+        Debug.resetThreadAllocCount();
+        Debug.startAllocCounting();
+        scroll();
+        Debug.stopAllocCounting();
+        int bindAllocations = Debug.getThreadAllocCount();
+
+        Debug.resetThreadAllocCount();
+        setTexts();
+        int textAllocations = Debug.getThreadAllocCount();
+
+        assertTrue("binding " + ROWS + " rows allocated " + bindAllocations + " objects, setting their texts " + textAllocations, bindAllocations <= textAllocations);
+    }
+
+    private void scroll() {
+        for (int position = 0; position < mRowHolders.length; position++) {
+            mAdapter.bindViewHolder(mRowHolders[position], position);
+        }
+    }
+
+    /**
+     * binds every row and sets the texts the bind set (the visible TextViews) again. only setting the texts is counted
+     */
+    private void setTexts() {
+        for (int position = 0; position < mRowHolders.length; position++) {
+            mAdapter.bindViewHolder(mRowHolders[position], position);
+            View itemView = mRowHolders[position].itemView;
+            Debug.startAllocCounting();
+            for (int id : TEXT_IDS) {
+                View view = itemView.findViewById(id);
+                if (view instanceof TextView && view.getVisibility() == View.VISIBLE) {
+                    TextView textView = (TextView) view;
+                    textView.setText(textView.getText());
+                }
+            }
+            Debug.stopAllocCounting();
+        }
+    }
+}
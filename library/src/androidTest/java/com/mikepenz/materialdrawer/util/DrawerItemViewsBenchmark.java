@@ -0,0 +1,91 @@
+package com.mikepenz.materialdrawer.util;
+
+import android.content.Context;
+import android.support.test.InstrumentationRegistry;
+import android.support.test.runner.AndroidJUnit4;
+import android.support.v7.widget.LinearLayoutManager;
+import android.support.v7.widget.RecyclerView;
+import android.util.Log;
+import android.view.ContextThemeWrapper;
+
+import com.mikepenz.materialdrawer.R;
+import com.mikepenz.materialdrawer.model.DividerDrawerItem;
+import com.mikepenz.materialdrawer.model.PrimaryDrawerItem;
+import com.mikepenz.materialdrawer.model.SecondaryDrawerItem;
+import com.mikepenz.materialdrawer.model.SecondarySwitchDrawerItem;
+import com.mikepenz.materialdrawer.model.SecondaryToggleDrawerItem;
+import com.mikepenz.materialdrawer.model.SectionDrawerItem;
+import com.mikepenz.materialdrawer.model.SwitchDrawerItem;
+import com.mikepenz.materialdrawer.model.ToggleDrawerItem;
+import com.mikepenz.materialdrawer.model.interfaces.IDrawerItem;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Created by mikepenz on 02.11.15.
+ * Compares the creation time per ViewHolder of the inflated layouts with the views built by DrawerItemViews.
+ * The results are logged with the tag "DrawerItemViews".
+ */
+@RunWith(AndroidJUnit4.class)
+public class DrawerItemViewsBenchmark {
+    private static final String TAG = "DrawerItemViews";
+    private static final int WARM_UP = 50;
+    private static final int RUNS = 500;
+
+    private RecyclerView mParent;
+
+    @Before
+    public void setUp() {
+        Context ctx = new ContextThemeWrapper(InstrumentationRegistry.getTargetContext(), R.style.MaterialDrawerTheme);
+        mParent = new RecyclerView(ctx);
+        //the layoutParams of the holders are generated by the layoutManager
+        mParent.setLayoutManager(new LinearLayoutManager(ctx));
+    }
+
+    @After
+    public void tearDown() {
+        DrawerItemViews.setEnabled(false);
+    }
+
+    @Test
+    public void viewsBuiltInCodeAreCreatedFasterThanInflatedOnes() {
+        IDrawerItem[] drawerItems = new IDrawerItem[]{
+                new PrimaryDrawerItem(), new SecondaryDrawerItem(),
+                new SwitchDrawerItem(), new SecondarySwitchDrawerItem(),
+                new ToggleDrawerItem(), new SecondaryToggleDrawerItem(),
+                new SectionDrawerItem(), new DividerDrawerItem()
+        };
+
+        long inflatedTotal = 0;
+        long codeTotal = 0;
+        for (IDrawerItem drawerItem : drawerItems) {
+            long inflated = measure(drawerItem, false);
+            long code = measure(drawerItem, true);
+            Log.i(TAG, drawerItem.getType() + ": inflated " + inflated + " ns, code " + code + " ns per holder");
+            inflatedTotal = inflatedTotal + inflated;
+            codeTotal = codeTotal + code;
+        }
+        Log.i(TAG, "all types: inflated " + inflatedTotal / drawerItems.length + " ns, code " + codeTotal / drawerItems.length + " ns per holder");
+        assertTrue("the views built in code have to be created faster (inflated " + inflatedTotal + " ns, code " + codeTotal + " ns)", codeTotal < inflatedTotal);
+    }
+
+    /**
+     * @return the average creation time of a ViewHolder in ns
+     */
+    private long measure(IDrawerItem drawerItem, boolean inCode) {
+        DrawerItemViews.setEnabled(inCode);
+        for (int i = 0; i < WARM_UP; i++) {
+            drawerItem.getViewHolder(mParent);
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < RUNS; i++) {
+            drawerItem.getViewHolder(mParent);
+        }
+        return (System.nanoTime() - start) / RUNS;
+    }
+}
@@ -29,6 +29,7 @@ import com.mikepenz.materialdrawer.icons.MaterialDrawerFont;
 import com.mikepenz.materialdrawer.model.interfaces.IDrawerItem;
 import com.mikepenz.materialdrawer.model.interfaces.IProfile;
 import com.mikepenz.materialdrawer.util.DrawerImageLoader;
+import com.mikepenz.materialdrawer.util.DrawerPreInflater;
 import com.mikepenz.materialdrawer.util.DrawerUIUtils;
 import com.mikepenz.materialdrawer.util.IdDistributor;
 import com.mikepenz.materialdrawer.view.BezelImageView;
@@ -541,14 +542,13 @@ public class AccountHeaderBuilder {
             throw new RuntimeException("please pass an activity first to use this call");
         }
 
-        if (resLayout != -1) {
+        if (resLayout == -1) {
+            resLayout = mCompactStyle ? R.layout.material_drawer_compact_header : R.layout.material_drawer_header;
+        }
+        //use the header which was inflated in the background if it is ready
+        this.mAccountHeaderContainer = DrawerPreInflater.getInstance().obtainView(mActivity, resLayout);
+        if (mAccountHeaderContainer == null) {
             this.mAccountHeaderContainer = mActivity.getLayoutInflater().inflate(resLayout, null, false);
-        } else {
-            if (mCompactStyle) {
-                this.mAccountHeaderContainer = mActivity.getLayoutInflater().inflate(R.layout.material_drawer_compact_header, null, false);
-            } else {
-                this.mAccountHeaderContainer = mActivity.getLayoutInflater().inflate(R.layout.material_drawer_header, null, false);
-            }
         }
 
         return this;
@@ -1209,6 +1209,11 @@ public class AccountHeaderBuilder {
         }
     }
 
+    //the key of the drawer level which shows the profiles, so its adapter is cached
+    private static final String PROFILE_LEVEL_KEY = "com.mikepenz.materialdrawer.PROFILES";
+    //the profiles of the last selection list. it is reused if the profiles did not change, so the cached level is shown as it is
+    private ArrayList<IDrawerItem> mProfileDrawerItems;
+
     /**
      * helper method to build and set the drawer selection list
      */
@@ -1232,7 +1237,33 @@ public class AccountHeaderBuilder {
                 position = position + 1;
             }
         }
-        mDrawer.switchDrawerContent(onDrawerItemClickListener, profileDrawerItems, selectedPosition);
+        if (!isSameInstances(profileDrawerItems, mProfileDrawerItems)) {
+            mProfileDrawerItems = profileDrawerItems;
+        }
+
+        if (mDrawer.switchedDrawerContent()) {
+            //the list is already shown, only the difference is applied
+            mDrawer.getAdapter().setDrawerItems(mProfileDrawerItems);
+        } else {
+            mDrawer.pushLevel(new DrawerLevel(PROFILE_LEVEL_KEY).withOnDrawerItemClickListener(onDrawerItemClickListener).withDrawerItems(mProfileDrawerItems).withSelectedPosition(selectedPosition));
+        }
+        //the cached list may show an older selection
+        mDrawer.setSelectionAtPosition(selectedPosition, false);
+    }
+
+    /**
+     * @return true if both lists contain the same instances (the equals of the drawerItems only compares the identifiers)
+     */
+    private static boolean isSameInstances(ArrayList<IDrawerItem> drawerItems, ArrayList<IDrawerItem> otherDrawerItems) {
+        if (otherDrawerItems == null || drawerItems.size() != otherDrawerItems.size()) {
+            return false;
+        }
+        for (int i = 0; i < drawerItems.size(); i++) {
+            if (drawerItems.get(i) != otherDrawerItems.get(i)) {
+                return false;
+            }
+        }
+        return true;
     }
 
     /**
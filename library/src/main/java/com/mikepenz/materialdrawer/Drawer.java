@@ -1,6 +1,7 @@
 package com.mikepenz.materialdrawer;
 
 import android.app.Activity;
+import android.content.Context;
 import android.os.Bundle;
 import android.support.annotation.ColorInt;
 import android.support.annotation.NonNull;
@@ -14,19 +15,26 @@ import android.widget.FrameLayout;
 import android.widget.RelativeLayout;
 
 import com.mikepenz.materialdrawer.adapter.BaseDrawerAdapter;
+import com.mikepenz.materialdrawer.adapter.DrawerSnapshot;
 import com.mikepenz.materialdrawer.holder.ImageHolder;
 import com.mikepenz.materialdrawer.holder.StringHolder;
+import com.mikepenz.materialdrawer.model.AbstractDrawerItem;
 import com.mikepenz.materialdrawer.model.ContainerDrawerItem;
 import com.mikepenz.materialdrawer.model.interfaces.Badgeable;
 import com.mikepenz.materialdrawer.model.interfaces.IDrawerItem;
+import com.mikepenz.materialdrawer.model.interfaces.IDrawerItemSource;
 import com.mikepenz.materialdrawer.model.interfaces.Iconable;
 import com.mikepenz.materialdrawer.model.interfaces.Nameable;
+import com.mikepenz.materialdrawer.model.utils.DrawerItemPayload;
+import com.mikepenz.materialdrawer.util.DrawerViewPool;
 import com.mikepenz.materialdrawer.util.IdDistributor;
 import com.mikepenz.materialdrawer.util.KeyboardUtil;
 import com.mikepenz.materialize.Materialize;
 import com.mikepenz.materialize.view.IScrimInsetsLayout;
 
 import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 
 /**
  * Created by mikepenz on 03.02.15.
@@ -53,6 +61,12 @@ public class Drawer {
     private FrameLayout mContentView;
     private KeyboardUtil mKeyboardUtil = null;
 
+    //true if the stickyFooter was modified inside a batch and has to be rebuilt on commit
+    private boolean mStickyFooterDirty = false;
+
+    //the updates which are posted from any thread, applied once per frame
+    private final DrawerUpdateQueue mUpdateQueue;
+
     /**
      * the protected Constructor for the result
      *
@@ -60,6 +74,7 @@ public class Drawer {
      */
     protected Drawer(DrawerBuilder drawerBuilder) {
         this.mDrawerBuilder = drawerBuilder;
+        this.mUpdateQueue = new DrawerUpdateQueue(this);
     }
 
     /**
@@ -113,10 +128,40 @@ public class Drawer {
      */
     public void openDrawer() {
         if (mDrawerBuilder.mDrawerLayout != null && mDrawerBuilder.mSliderLayout != null) {
+            cancelPrewarm();
             mDrawerBuilder.mDrawerLayout.openDrawer(mDrawerBuilder.mDrawerGravity);
         }
     }
 
+    /**
+     * creates the ViewHolders of the drawerItems below the first screen of the closed drawer while the main thread is idle,
+     * so scrolling the drawer for the first time does not have to create them. the first screen is already bound by the
+     * first layout of the DrawerLayout. the remaining work is cancelled if the drawer starts to move. has to be called on
+     * the main thread
+     */
+    public void prewarm() {
+        if (mDrawerBuilder.mSliderLayout == null || isDrawerOpen()) {
+            return;
+        }
+        cancelPrewarm();
+        mDrawerBuilder.mPrewarmer = new DrawerPrewarmer(mDrawerBuilder);
+        mDrawerBuilder.mPrewarmer.start();
+    }
+
+    /**
+     * cancels a running prewarm()
+     */
+    public void cancelPrewarm() {
+        mDrawerBuilder.cancelPrewarm();
+    }
+
+    /**
+     * @return true if prewarm() is still waiting for the main thread to be idle
+     */
+    public boolean isPrewarming() {
+        return mDrawerBuilder.mPrewarmer != null && mDrawerBuilder.mPrewarmer.isRunning();
+    }
+
     /**
      * close the drawer
      */
@@ -240,6 +285,15 @@ public class Drawer {
         return mDrawerBuilder.mRecyclerView;
     }
 
+    /**
+     * get the RecycledViewPool of the drawer, e.g. to check its hits and misses
+     *
+     * @return the pool, or null if a custom RecyclerView without a pool was used
+     */
+    public DrawerViewPool getViewPool() {
+        return mDrawerBuilder.mViewPool;
+    }
+
     /**
      * get the BaseDrawerAdapter of the current drawer
      *
@@ -250,7 +304,8 @@ public class Drawer {
     }
 
     /**
-     * get all drawerItems of the current drawer
+     * get all drawerItems of the current drawer.
+     * The list is observed, items which are added, removed or replaced through it are updated without notifyDataSetChanged
      *
      * @return
      */
@@ -544,6 +599,19 @@ public class Drawer {
         updateItemAtPosition(drawerItem, getPosition(drawerItem));
     }
 
+    /**
+     * update a part of a drawer item. only the views affected by the payload are rebound
+     *
+     * @param drawerItem
+     * @param payload
+     */
+    private void updateItem(@NonNull IDrawerItem drawerItem, DrawerItemPayload payload) {
+        int position = getPosition(drawerItem);
+        if (mDrawerBuilder.checkDrawerItem(position, false)) {
+            mDrawerBuilder.getAdapter().notifyAdapterItemChanged(position, payload);
+        }
+    }
+
     /**
      * update the badge for a specific drawerItem
      * identified by its id
@@ -556,7 +624,7 @@ public class Drawer {
         if (drawerItem instanceof Badgeable) {
             Badgeable badgeable = (Badgeable) drawerItem;
             badgeable.withBadge(badge);
-            updateItem((IDrawerItem) badgeable);
+            updateItem((IDrawerItem) badgeable, DrawerItemPayload.BADGE);
         }
     }
 
@@ -572,7 +640,7 @@ public class Drawer {
         if (drawerItem instanceof Nameable) {
             Nameable pdi = (Nameable) drawerItem;
             pdi.withName(name);
-            updateItem((IDrawerItem) pdi);
+            updateItem((IDrawerItem) pdi, DrawerItemPayload.NAME);
         }
     }
 
@@ -588,10 +656,68 @@ public class Drawer {
         if (drawerItem instanceof Iconable) {
             Iconable pdi = (Iconable) drawerItem;
             pdi.withIcon(image);
-            updateItem((IDrawerItem) pdi);
+            updateItem((IDrawerItem) pdi, DrawerItemPayload.ICON);
         }
     }
 
+    /**
+     * enable or disable a specific drawerItem
+     * identified by its id. only the colors of the item are rebound
+     *
+     * @param identifier
+     * @param enabled
+     */
+    public void updateEnabled(int identifier, boolean enabled) {
+        IDrawerItem drawerItem = getDrawerItem(identifier);
+        if (drawerItem instanceof AbstractDrawerItem && drawerItem.isEnabled() != enabled) {
+            ((AbstractDrawerItem) drawerItem).withEnabled(enabled);
+            updateItem(drawerItem, DrawerItemPayload.ENABLED);
+        }
+    }
+
+    /**
+     * Post an update of the badge for a specific drawerItem. This can be called from any thread.
+     * The updates are applied on the main thread with the next frame, if the badge is posted multiple times until then
+     * only the latest badge is applied. All updates of a frame are notified at once.
+     *
+     * @param identifier
+     * @param badge
+     */
+    public void postBadge(int identifier, StringHolder badge) {
+        mUpdateQueue.post(DrawerUpdateQueue.BADGE, identifier, badge);
+    }
+
+    /**
+     * Post an update of the name for a specific drawerItem. This can be called from any thread, see postBadge
+     *
+     * @param identifier
+     * @param name
+     */
+    public void postName(int identifier, StringHolder name) {
+        mUpdateQueue.post(DrawerUpdateQueue.NAME, identifier, name);
+    }
+
+    /**
+     * Post an update of the icon for a specific drawerItem. This can be called from any thread, see postBadge
+     *
+     * @param identifier
+     * @param image
+     */
+    public void postIcon(int identifier, ImageHolder image) {
+        mUpdateQueue.post(DrawerUpdateQueue.ICON, identifier, image);
+    }
+
+    /**
+     * Post an update of a drawerItem (identified by its id). This can be called from any thread, see postBadge.
+     * The item replaces the badge, name and icon updates which were posted before it.
+     * The item must not be modified after it was posted
+     *
+     * @param drawerItem
+     */
+    public void postItem(@NonNull IDrawerItem drawerItem) {
+        mUpdateQueue.post(DrawerUpdateQueue.ITEM, drawerItem.getIdentifier(), drawerItem);
+    }
+
     /**
      * Update a drawerItem at a specific position
      *
@@ -656,6 +782,73 @@ public class Drawer {
         }
     }
 
+    /**
+     * Show or hide drawerItems by their identifier (e.g. items which depend on a feature flag or permission).
+     * Hidden items stay in the drawer but are not shown, so they keep their place if they are shown again.
+     * All changes are notified at once.
+     *
+     * @param visible
+     * @param identifiers
+     */
+    public void setVisible(boolean visible, int... identifiers) {
+        mDrawerBuilder.getAdapter().setVisible(visible, identifiers);
+    }
+
+    /**
+     * Show only the DrawerItems whose name contains the query (ignoring the case). Call it on every change of the
+     * query (e.g. from a TextWatcher), only the items which appear or disappear are updated.
+     * The filter is kept if the items are replaced.
+     *
+     * @param query the query, null or empty to show all items again
+     */
+    public void filter(CharSequence query) {
+        //the activity is released after the drawer was built, so the names are resolved with the context of the views
+        Context ctx = mDrawerBuilder.mRecyclerView != null ? mDrawerBuilder.mRecyclerView.getContext() : mDrawerBuilder.mSliderLayout.getContext();
+        mDrawerBuilder.getAdapter().filter(ctx, query);
+    }
+
+    /**
+     * Show all DrawerItems again, the selection is kept
+     */
+    public void clearFilter() {
+        mDrawerBuilder.getAdapter().clearFilter();
+    }
+
+    /**
+     * Get an immutable snapshot of the DrawerItems (identifiers, names, badges and the selection).
+     * It can be called from any thread, e.g. for analytics or a background sync. The snapshot is republished on the main
+     * thread after every change, so a worker thread may get the state from before the change which is currently applied.
+     *
+     * @return the latest snapshot
+     */
+    public DrawerSnapshot snapshot() {
+        return mDrawerBuilder.getAdapter().getSnapshot();
+    }
+
+    /**
+     * Expand an ExpandableDrawerItem by its identifier. Its subItems are shown below it
+     *
+     * @param identifier
+     */
+    public void expand(int identifier) {
+        int position = getPosition(identifier);
+        if (mDrawerBuilder.checkDrawerItem(position, false)) {
+            mDrawerBuilder.getAdapter().expand(position);
+        }
+    }
+
+    /**
+     * Collapse an ExpandableDrawerItem by its identifier. Its subItems are removed from the drawer
+     *
+     * @param identifier
+     */
+    public void collapse(int identifier) {
+        int position = getPosition(identifier);
+        if (mDrawerBuilder.checkDrawerItem(position, false)) {
+            mDrawerBuilder.getAdapter().collapse(position);
+        }
+    }
+
     /**
      * Removes all items from drawer
      */
@@ -673,7 +866,26 @@ public class Drawer {
     }
 
     /**
-     * Replace the current DrawerItems with a new ArrayList of items
+     * Replace the current DrawerItems with a source which creates them on demand
+     *
+     * @param drawerItemSource
+     * @param maxItems         the maximum amount of created items which are kept
+     */
+    public void setItemSource(@NonNull IDrawerItemSource drawerItemSource, int maxItems) {
+        mDrawerBuilder.getAdapter().setDrawerItemSource(drawerItemSource, maxItems);
+    }
+
+    /**
+     * Call this after the items of the IDrawerItemSource changed. The created items are dropped and created again
+     */
+    public void notifyItemSourceChanged() {
+        mDrawerBuilder.getAdapter().notifyDrawerItemSourceChanged();
+    }
+
+    /**
+     * Replace the current DrawerItems with a new ArrayList of items.
+     * The items are copied into the observed list of the drawer, later modifications of the passed list are not shown.
+     * Modify the list of getDrawerItems() instead
      *
      * @param drawerItems
      */
@@ -681,6 +893,17 @@ public class Drawer {
         setItems(IdDistributor.checkIds(drawerItems), false);
     }
 
+    /**
+     * Replace the current DrawerItems with a new ArrayList of items.
+     * The difference to the current items is calculated on a background thread, the items are applied on the main thread afterwards.
+     * Use this for big lists. The list must not be modified until it is applied.
+     *
+     * @param drawerItems
+     */
+    public void setItemsAsync(@NonNull ArrayList<IDrawerItem> drawerItems) {
+        setItems(IdDistributor.checkIds(drawerItems), false, true, null);
+    }
+
     /**
      * replace the current DrawerItems with the new ArrayList.
      *
@@ -688,14 +911,74 @@ public class Drawer {
      * @param switchedItems
      */
     private void setItems(@NonNull ArrayList<IDrawerItem> drawerItems, boolean switchedItems) {
-        //if we are currently at a switched list set the new reference
-        if (originalDrawerItems != null && !switchedItems) {
-            originalDrawerItems = drawerItems;
+        setItems(drawerItems, switchedItems, false, null);
+    }
+
+    /**
+     * replace the current DrawerItems with the new ArrayList.
+     *
+     * @param drawerItems
+     * @param switchedItems true for the items of the shown level, false for the original items
+     * @param async         true to calculate the diff on a background thread
+     * @param onApplied     called after the items were applied to the adapter (can be null)
+     */
+    private void setItems(@NonNull ArrayList<IDrawerItem> drawerItems, boolean switchedItems, boolean async, Runnable onApplied) {
+        //if we are currently at a switched list the original items are replaced, they are shown again after the reset
+        BaseDrawerAdapter adapter = switchedDrawerContent() && !switchedItems ? mLevels.get(0).mAdapter : mDrawerBuilder.getAdapter();
+        if (async) {
+            adapter.setDrawerItemsAsync(drawerItems, onApplied);
         } else {
-            mDrawerBuilder.getAdapter().setDrawerItems(drawerItems);
+            //the adapter only notifies the items which really changed
+            adapter.setDrawerItems(drawerItems);
+            if (onApplied != null) {
+                onApplied.run();
+            }
         }
+    }
 
-        mDrawerBuilder.mAdapter.notifyDataSetChanged();
+    /**
+     * opens a batch. all following modifications of the items and the stickyFooter are collected and
+     * notified at once with commitBatch(). batches can be nested
+     */
+    public void beginBatch() {
+        mDrawerBuilder.getAdapter().beginBatch();
+    }
+
+    /**
+     * commits the batch opened with beginBatch(). the merged notifications are dispatched to the
+     * RecyclerView and the stickyFooter is rebuilt once if it was modified
+     */
+    public void commitBatch() {
+        mDrawerBuilder.getAdapter().commitBatch();
+        if (!mDrawerBuilder.getAdapter().isBatching() && mStickyFooterDirty) {
+            mStickyFooterDirty = false;
+            DrawerUtils.rebuildStickyFooterView(mDrawerBuilder);
+        }
+    }
+
+    /**
+     * runs the modifications of the runnable inside a batch
+     *
+     * @param modifications
+     */
+    public void batch(@NonNull Runnable modifications) {
+        beginBatch();
+        try {
+            modifications.run();
+        } finally {
+            commitBatch();
+        }
+    }
+
+    /**
+     * rebuilds the stickyFooter, or remembers to do it on commit if a batch is open
+     */
+    private void rebuildStickyFooterView() {
+        if (mDrawerBuilder.getAdapter().isBatching()) {
+            mStickyFooterDirty = true;
+        } else {
+            DrawerUtils.rebuildStickyFooterView(mDrawerBuilder);
+        }
     }
 
     /**
@@ -719,7 +1002,7 @@ public class Drawer {
             mDrawerBuilder.mStickyDrawerItems.set(position, drawerItem);
         }
 
-        DrawerUtils.rebuildStickyFooterView(mDrawerBuilder);
+        rebuildStickyFooterView();
     }
 
 
@@ -734,7 +1017,7 @@ public class Drawer {
         }
         mDrawerBuilder.mStickyDrawerItems.add(IdDistributor.checkId(drawerItem));
 
-        DrawerUtils.rebuildStickyFooterView(mDrawerBuilder);
+        rebuildStickyFooterView();
     }
 
     /**
@@ -749,7 +1032,7 @@ public class Drawer {
         }
         mDrawerBuilder.mStickyDrawerItems.add(position, IdDistributor.checkId(drawerItem));
 
-        DrawerUtils.rebuildStickyFooterView(mDrawerBuilder);
+        rebuildStickyFooterView();
     }
 
     /**
@@ -763,7 +1046,7 @@ public class Drawer {
             mDrawerBuilder.mStickyDrawerItems.set(position, IdDistributor.checkId(drawerItem));
         }
 
-        DrawerUtils.rebuildStickyFooterView(mDrawerBuilder);
+        rebuildStickyFooterView();
     }
 
 
@@ -777,7 +1060,7 @@ public class Drawer {
             mDrawerBuilder.mStickyDrawerItems.remove(position);
         }
 
-        DrawerUtils.rebuildStickyFooterView(mDrawerBuilder);
+        rebuildStickyFooterView();
     }
 
     /**
@@ -787,6 +1070,8 @@ public class Drawer {
         if (mDrawerBuilder.mStickyDrawerItems != null) {
             mDrawerBuilder.mStickyDrawerItems.clear();
         }
+        //nothing left to rebuild
+        mStickyFooterDirty = false;
         if (mDrawerBuilder.mStickyFooterView != null) {
             mDrawerBuilder.mStickyFooterView.setVisibility(View.GONE);
         }
@@ -829,27 +1114,27 @@ public class Drawer {
     }
 
 
-    //variables to store and remember the original list of the drawer
-    private Drawer.OnDrawerItemClickListener originalOnDrawerItemClickListener;
-    private ArrayList<IDrawerItem> originalDrawerItems;
-    private int originalDrawerSelection = -1;
+    //the stack of the shown levels, the first one is the original content. empty if no level was pushed
+    private final ArrayList<DrawerLevel> mLevels = new ArrayList<>();
+    //the popped levels with a key, in the order of their last use
+    private final LinkedHashMap<Object, DrawerLevel> mLevelCache = new LinkedHashMap<>(8, 0.75f, true);
 
     /**
-     * information if the current drawer content is switched by alternative content (profileItems)
+     * information if the current drawer content is switched by alternative content (profileItems or a pushed level)
      *
      * @return
      */
     public boolean switchedDrawerContent() {
-        return !(originalOnDrawerItemClickListener == null && originalDrawerItems == null && originalDrawerSelection == -1);
+        return !mLevels.isEmpty();
     }
 
     /**
      * get the original list of drawerItems
      *
-     * @return
+     * @return the drawerItems of the first level, or null if the content is not switched
      */
     public ArrayList<IDrawerItem> getOriginalDrawerItems() {
-        return originalDrawerItems;
+        return mLevels.isEmpty() ? null : mLevels.get(0).mAdapter.getDrawerItems();
     }
 
     /**
@@ -860,25 +1145,25 @@ public class Drawer {
      * @param drawerSelection
      */
     public void switchDrawerContent(@NonNull OnDrawerItemClickListener onDrawerItemClickListener, @NonNull ArrayList<IDrawerItem> drawerItems, int drawerSelection) {
-        //just allow a single switched drawer
-        if (!switchedDrawerContent()) {
-            //save out previous values
-            originalOnDrawerItemClickListener = getOnDrawerItemClickListener();
-            originalDrawerItems = getDrawerItems();
-            originalDrawerSelection = getCurrentSelectedPosition();
+        switchDrawerContent(onDrawerItemClickListener, drawerItems, drawerSelection, false);
+    }
 
-            //set the new items
-            setOnDrawerItemClickListener(onDrawerItemClickListener);
-            setItems(drawerItems, true);
-            setSelectionAtPosition(drawerSelection, false);
+    /**
+     * method to switch the drawer content to new elements.
+     * the difference to the current items is calculated on a background thread, the selection is set after the items were applied
+     *
+     * @param onDrawerItemClickListener
+     * @param drawerItems
+     * @param drawerSelection
+     */
+    public void switchDrawerContentAsync(@NonNull OnDrawerItemClickListener onDrawerItemClickListener, @NonNull ArrayList<IDrawerItem> drawerItems, int drawerSelection) {
+        switchDrawerContent(onDrawerItemClickListener, drawerItems, drawerSelection, true);
+    }
 
-            //hide stickyFooter and it's shadow
-            if (getStickyFooter() != null) {
-                getStickyFooter().setVisibility(View.GONE);
-            }
-            if (getStickyFooterShadow() != null) {
-                getStickyFooterShadow().setVisibility(View.GONE);
-            }
+    private void switchDrawerContent(@NonNull OnDrawerItemClickListener onDrawerItemClickListener, @NonNull ArrayList<IDrawerItem> drawerItems, final int drawerSelection, boolean async) {
+        //just allow a single switched drawer
+        if (!switchedDrawerContent()) {
+            pushLevel(new DrawerLevel().withOnDrawerItemClickListener(onDrawerItemClickListener).withDrawerItems(drawerItems).withSelectedPosition(drawerSelection), async);
         }
     }
 
@@ -886,18 +1171,99 @@ public class Drawer {
      * helper method to reset to the original drawerContent
      */
     public void resetDrawerContent() {
-        if (switchedDrawerContent()) {
-            //set the new items
-            setOnDrawerItemClickListener(originalOnDrawerItemClickListener);
-            setItems(originalDrawerItems, true);
-            setSelectionAtPosition(originalDrawerSelection, false);
-            //remove the references
-            originalOnDrawerItemClickListener = null;
-            originalDrawerItems = null;
-            originalDrawerSelection = -1;
-
-            //if we switch back scroll back to the top
-            mDrawerBuilder.mRecyclerView.smoothScrollToPosition(0);
+        while (mLevels.size() > 1) {
+            popLevel();
+        }
+    }
+
+    /**
+     * Show the level on top of the current content. The current content keeps its items, selection and scroll position
+     * and is shown again with popLevel(). A cached level with the same key is shown without recreating its items.
+     * The stickyFooter is hidden while a level is shown.
+     * NOTE: this can't be used together with an adapterWrapper
+     *
+     * @param level
+     */
+    public void pushLevel(@NonNull DrawerLevel level) {
+        pushLevel(level, false);
+    }
+
+    private void pushLevel(@NonNull DrawerLevel level, boolean async) {
+        if (mDrawerBuilder.mAdapterWrapper != null) {
+            throw new RuntimeException("the levels can't be used together with an adapterWrapper");
+        }
+
+        //the original content becomes the first level
+        if (mLevels.isEmpty()) {
+            DrawerLevel originalLevel = new DrawerLevel().withOnDrawerItemClickListener(getOnDrawerItemClickListener());
+            originalLevel.mAdapter = mDrawerBuilder.getAdapter();
+            mLevels.add(originalLevel);
+        }
+        saveLevelState(mLevels.get(mLevels.size() - 1));
+
+        //reuse the adapter of the cached level
+        DrawerLevel cachedLevel = level.getKey() != null ? mLevelCache.remove(level.getKey()) : null;
+        if (cachedLevel != null && cachedLevel != level) {
+            level.mAdapter = cachedLevel.mAdapter;
+            level.mAppliedDrawerItems = cachedLevel.mAppliedDrawerItems;
+            level.mLayoutState = cachedLevel.mLayoutState;
+            level.mCurrentSelection = cachedLevel.mCurrentSelection;
+        }
+        mLevels.add(level);
+
+        boolean newItems = level.mAdapter == null || level.mAppliedDrawerItems != level.getDrawerItems();
+        if (level.mAdapter == null) {
+            level.mAdapter = mDrawerBuilder.createLevelAdapter(mLevels.get(0).mAdapter);
+        }
+        showLevel(level);
+
+        if (newItems) {
+            level.mAppliedDrawerItems = level.getDrawerItems();
+            final int drawerSelection = level.getSelectedPosition();
+            setItems(IdDistributor.checkIds(level.getDrawerItems()), true, async, new Runnable() {
+                @Override
+                public void run() {
+                    setSelectionAtPosition(drawerSelection, false);
+                }
+            });
+        }
+
+        //hide stickyFooter and it's shadow
+        if (getStickyFooter() != null) {
+            getStickyFooter().setVisibility(View.GONE);
+        }
+        if (getStickyFooterShadow() != null) {
+            getStickyFooterShadow().setVisibility(View.GONE);
+        }
+    }
+
+    /**
+     * Show the previous level again, with the items, selection and scroll position it had.
+     * The left level is cached with its adapter if it has a key.
+     *
+     * @return false if there is no level to go back to
+     */
+    public boolean popLevel() {
+        if (mLevels.size() < 2) {
+            return false;
+        }
+        DrawerLevel level = mLevels.remove(mLevels.size() - 1);
+        saveLevelState(level);
+        if (level.getKey() != null && mDrawerBuilder.mLevelCacheSize > 0) {
+            mLevelCache.put(level.getKey(), level);
+            //drop the least recently used levels
+            Iterator<DrawerLevel> iterator = mLevelCache.values().iterator();
+            while (mLevelCache.size() > mDrawerBuilder.mLevelCacheSize) {
+                iterator.next();
+                iterator.remove();
+            }
+        }
+
+        showLevel(mLevels.get(mLevels.size() - 1));
+
+        //back at the original content
+        if (mLevels.size() == 1) {
+            mLevels.clear();
 
             //show the stickyFooter and it's shadow again
             if (getStickyFooter() != null) {
@@ -912,6 +1278,48 @@ public class Drawer {
                 mDrawerBuilder.mAccountHeader.mAccountHeaderBuilder.mSelectionListShown = false;
             }
         }
+        return true;
+    }
+
+    /**
+     * @return the amount of pushed levels, 0 if the original content is shown
+     */
+    public int getLevelCount() {
+        return mLevels.isEmpty() ? 0 : mLevels.size() - 1;
+    }
+
+    /**
+     * remembers the listener, selection and scroll position of the currently shown level
+     */
+    private void saveLevelState(DrawerLevel level) {
+        level.withOnDrawerItemClickListener(getOnDrawerItemClickListener());
+        level.mCurrentSelection = mDrawerBuilder.mCurrentSelection;
+        RecyclerView.LayoutManager layoutManager = mDrawerBuilder.mRecyclerView.getLayoutManager();
+        level.mLayoutState = layoutManager != null ? layoutManager.onSaveInstanceState() : null;
+    }
+
+    /**
+     * shows the adapter of the level. the views of the previous adapter are reused, as all adapters use the same viewTypes
+     */
+    private void showLevel(DrawerLevel level) {
+        mDrawerBuilder.mAdapter = level.mAdapter;
+        mDrawerBuilder.mRecyclerView.swapAdapter(level.mAdapter, false);
+        setOnDrawerItemClickListener(level.getOnDrawerItemClickListener());
+        mDrawerBuilder.mCurrentSelection = level.mCurrentSelection;
+
+        RecyclerView.LayoutManager layoutManager = mDrawerBuilder.mRecyclerView.getLayoutManager();
+        if (level.mLayoutState != null && layoutManager != null) {
+            layoutManager.onRestoreInstanceState(level.mLayoutState);
+        } else {
+            mDrawerBuilder.mRecyclerView.scrollToPosition(0);
+        }
+    }
+
+    /**
+     * @return the selected position of the original content
+     */
+    private int getOriginalSelection() {
+        return switchedDrawerContent() ? mLevels.get(0).mCurrentSelection : mDrawerBuilder.mCurrentSelection;
     }
 
     /**
@@ -923,11 +1331,11 @@ public class Drawer {
     public Bundle saveInstanceState(Bundle savedInstanceState) {
         if (savedInstanceState != null) {
             if (!mDrawerBuilder.mAppended) {
-                savedInstanceState.putInt(BUNDLE_SELECTION, switchedDrawerContent() ? originalDrawerSelection : mDrawerBuilder.mCurrentSelection);
+                savedInstanceState.putInt(BUNDLE_SELECTION, getOriginalSelection());
                 savedInstanceState.putInt(BUNDLE_STICKY_FOOTER_SELECTION, mDrawerBuilder.mCurrentStickyFooterSelection);
                 savedInstanceState.putBoolean(BUNDLE_DRAWER_CONTENT_SWITCHED, switchedDrawerContent());
             } else {
-                savedInstanceState.putInt(BUNDLE_SELECTION_APPENDED, switchedDrawerContent() ? originalDrawerSelection : mDrawerBuilder.mCurrentSelection);
+                savedInstanceState.putInt(BUNDLE_SELECTION_APPENDED, getOriginalSelection());
                 savedInstanceState.putInt(BUNDLE_STICKY_FOOTER_SELECTION_APPENDED, mDrawerBuilder.mCurrentStickyFooterSelection);
                 savedInstanceState.putBoolean(BUNDLE_DRAWER_CONTENT_SWITCHED_APPENDED, switchedDrawerContent());
             }
@@ -964,6 +1372,15 @@ public class Drawer {
         boolean onItemLongClick(View view, int position, IDrawerItem drawerItem);
     }
 
+    public interface OnDrawerItemsReorderedListener {
+        /**
+         * called once after a dragged item was dropped at its new position
+         *
+         * @param identifiers the identifiers of all drawerItems in their new order
+         */
+        void onDrawerItemsReordered(int[] identifiers);
+    }
+
     public interface OnDrawerListener {
         /**
          * @param drawerView
@@ -25,6 +25,7 @@ import android.support.v7.widget.DefaultItemAnimator;
 import android.support.v7.widget.LinearLayoutManager;
 import android.support.v7.widget.RecyclerView;
 import android.support.v7.widget.Toolbar;
+import android.support.v7.widget.helper.ItemTouchHelper;
 import android.view.LayoutInflater;
 import android.view.Menu;
 import android.view.MenuInflater;
@@ -38,13 +39,17 @@ import android.widget.RelativeLayout;
 import com.mikepenz.iconics.utils.Utils;
 import com.mikepenz.materialdrawer.adapter.BaseDrawerAdapter;
 import com.mikepenz.materialdrawer.adapter.DrawerAdapter;
+import com.mikepenz.materialdrawer.adapter.DrawerSelection;
 import com.mikepenz.materialdrawer.model.DividerDrawerItem;
+import com.mikepenz.materialdrawer.model.ExpandableDrawerItem;
 import com.mikepenz.materialdrawer.model.PrimaryDrawerItem;
 import com.mikepenz.materialdrawer.model.SecondaryDrawerItem;
 import com.mikepenz.materialdrawer.model.interfaces.IDrawerItem;
+import com.mikepenz.materialdrawer.model.interfaces.IDrawerItemSource;
 import com.mikepenz.materialdrawer.model.interfaces.Selectable;
+import com.mikepenz.materialdrawer.util.DrawerItemTouchCallback;
+import com.mikepenz.materialdrawer.util.DrawerViewPool;
 import com.mikepenz.materialdrawer.util.IdDistributor;
-import com.mikepenz.materialdrawer.util.RecyclerViewCacheUtil;
 import com.mikepenz.materialize.Materialize;
 import com.mikepenz.materialize.MaterializeBuilder;
 import com.mikepenz.materialize.util.UIUtils;
@@ -74,10 +79,6 @@ public class DrawerBuilder {
      * default constructor
      */
     public DrawerBuilder() {
-        //make sure there are no elements in the cache from the previous activity
-        //this should only happen and cause troubles if you switch themes over activities
-        //but to make sure it works ;)
-        RecyclerViewCacheUtil.getInstance().clear();
     }
 
     /**
@@ -757,6 +758,59 @@ public class DrawerBuilder {
     protected View mStickyFooterShadowView;
     // shadow shown on the top of the sticky footer
     protected boolean mStickyFooterShadow = true;
+    // the selection of the sticky footer. the positions are the indices of the children of the footer view
+    protected final DrawerSelection mStickyFooterSelection = new DrawerSelection(new DrawerSelection.Host() {
+        @Override
+        public int getPosition(int identifier) {
+            if (mStickyFooterView != null) {
+                for (int i = 0; i < mStickyFooterView.getChildCount(); i++) {
+                    Object tag = mStickyFooterView.getChildAt(i).getTag();
+                    if (tag instanceof IDrawerItem && ((IDrawerItem) tag).getIdentifier() == identifier) {
+                        return i;
+                    }
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        public int getPosition(IDrawerItem drawerItem) {
+            if (mStickyFooterView != null) {
+                for (int i = 0; i < mStickyFooterView.getChildCount(); i++) {
+                    if (mStickyFooterView.getChildAt(i).getTag() == drawerItem) {
+                        return i;
+                    }
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        public IDrawerItem getItem(int position) {
+            if (mStickyFooterView != null && position >= 0 && position < mStickyFooterView.getChildCount()) {
+                Object tag = mStickyFooterView.getChildAt(position).getTag();
+                if (tag instanceof IDrawerItem) {
+                    return (IDrawerItem) tag;
+                }
+            }
+            return null;
+        }
+
+        @Override
+        public IDrawerItem getHiddenItem(int identifier) {
+            //the sticky footer shows all its items
+            return null;
+        }
+
+        @Override
+        public void onSelectionChanged(int position, IDrawerItem drawerItem, boolean selected) {
+            View view = mStickyFooterView.getChildAt(position);
+            if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.HONEYCOMB) {
+                view.setActivated(selected);
+            }
+            view.setSelected(selected);
+        }
+    });
 
     /**
      * Add a sticky footer below the DrawerBuilder ListView. This can be any view
@@ -852,6 +906,18 @@ public class DrawerBuilder {
         return this;
     }
 
+    /**
+     * Define how the drawerItems can be selected. DrawerSelection.MODE_SINGLE (default), DrawerSelection.MODE_MULTI
+     * or DrawerSelection.MODE_NONE
+     *
+     * @param selectionMode
+     * @return
+     */
+    public DrawerBuilder withSelectionMode(int selectionMode) {
+        this.getAdapter().getSelection().setMode(selectionMode);
+        return this;
+    }
+
     // an RecyclerView to use within the drawer :D
     protected RecyclerView mRecyclerView;
 
@@ -868,12 +934,12 @@ public class DrawerBuilder {
     }
 
     // if the adapter should enable hasStableIds to improve performance and allow animations
-    protected boolean mHasStableIds = false;
+    protected boolean mHasStableIds = true;
 
     /**
-     * define this if you want enable hasStableIds for the adapter which is generated.
-     * WARNING: only use this if you have set an identifer for all of your items else this could cause
-     * many weird things
+     * define if hasStableIds is enabled for the adapter which is generated (default true).
+     * items without an identifier get an unique one from the IdDistributor. the identifiers have to be unique,
+     * a warning is logged if an identifier is added twice
      *
      * @param hasStableIds
      * @return
@@ -883,6 +949,125 @@ public class DrawerBuilder {
         return this;
     }
 
+    // the RecycledViewPool of the drawer
+    protected DrawerViewPool mViewPool;
+
+    /**
+     * define the RecycledViewPool of the drawer. by default every drawer gets its own pool, which is cleared if the activity
+     * is destroyed. NOTE: if a custom RecyclerView is used its pool is only replaced if a pool is set here
+     *
+     * @param viewPool
+     * @return
+     */
+    public DrawerBuilder withViewPool(@NonNull DrawerViewPool viewPool) {
+        this.mViewPool = viewPool;
+        return this;
+    }
+
+    // share the RecycledViewPool with the other drawers of the activity
+    protected boolean mSharedViewPool = false;
+
+    /**
+     * define if the drawer uses the pool which is shared by all drawers, appended drawers and MiniDrawers of the activity
+     * (DrawerViewPool.forActivity) instead of an own pool. a pool set with withViewPool is used anyway
+     *
+     * @param sharedViewPool
+     * @return
+     */
+    public DrawerBuilder withSharedViewPool(boolean sharedViewPool) {
+        this.mSharedViewPool = sharedViewPool;
+        return this;
+    }
+
+    // create the ViewHolders below the first screen while the main thread is idle
+    protected boolean mPrewarm = false;
+    protected DrawerPrewarmer mPrewarmer;
+
+    /**
+     * define if the ViewHolders of the drawerItems below the first screen are created while the main thread is idle after
+     * the drawer was built, so this does not happen while the drawer is scrolled for the first time. see Drawer.prewarm()
+     *
+     * @param prewarm
+     * @return
+     */
+    public DrawerBuilder withPrewarm(boolean prewarm) {
+        this.mPrewarm = prewarm;
+        return this;
+    }
+
+    /**
+     * cancels the prewarming, as soon as the drawer starts to move
+     */
+    protected void cancelPrewarm() {
+        if (mPrewarmer != null) {
+            mPrewarmer.cancel();
+            mPrewarmer = null;
+        }
+    }
+
+    // how many popped levels are kept with their adapter
+    protected int mLevelCacheSize = 3;
+
+    /**
+     * define how many levels which were left with popLevel are cached with their adapter (default 3).
+     * if such a level is pushed again it is shown without recreating its items
+     *
+     * @param levelCacheSize
+     * @return
+     */
+    public DrawerBuilder withLevelCacheSize(int levelCacheSize) {
+        this.mLevelCacheSize = levelCacheSize;
+        return this;
+    }
+
+    // if every notification of the adapter is checked against its items
+    protected boolean mVerifyNotifications = false;
+
+    /**
+     * define if every notification of the adapter is checked against the changes of its items (default false).
+     * a notification which does not match the change throws a RuntimeException before the next layout.
+     * NOTE: only use this in debug builds and tests, it copies all items after every change
+     *
+     * @param verifyNotifications
+     * @return
+     */
+    public DrawerBuilder withVerifyNotifications(boolean verifyNotifications) {
+        this.mVerifyNotifications = verifyNotifications;
+        return this;
+    }
+
+    // if the drawerItems can be reordered by dragging them
+    protected boolean mReorderEnabled = false;
+    protected Drawer.OnDrawerItemsReorderedListener mOnDrawerItemsReorderedListener = null;
+    protected ItemTouchHelper mItemTouchHelper = null;
+    protected DrawerItemTouchCallback mItemTouchCallback = null;
+
+    /**
+     * define if the drawerItems can be reordered by a long press and drag (default false).
+     * items with withDraggable(false), header and footer items keep their position.
+     * if an OnDrawerItemLongClickListener is set, the drag only starts if it does not consume the long press
+     *
+     * @param reorderEnabled
+     * @return
+     */
+    public DrawerBuilder withReorderEnabled(boolean reorderEnabled) {
+        this.mReorderEnabled = reorderEnabled;
+        return this;
+    }
+
+    /**
+     * enables reordering the drawerItems, the listener is called once with the new order after an item was dropped
+     * so it can be persisted
+     *
+     * @param onDrawerItemsReorderedListener
+     * @return
+     */
+    public DrawerBuilder withOnDrawerItemsReorderedListener(@NonNull Drawer.OnDrawerItemsReorderedListener onDrawerItemsReorderedListener) {
+        this.mReorderEnabled = true;
+        this.mOnDrawerItemsReorderedListener = onDrawerItemsReorderedListener;
+        return this;
+    }
+
     // an adapter to use for the list
     protected BaseDrawerAdapter mAdapter;
 
@@ -910,6 +1095,7 @@ public class DrawerBuilder {
         if (mAdapter == null) {
             mAdapter = new DrawerAdapter();
             mAdapter.setHasStableIds(mHasStableIds);
+            mAdapter.setVerifyNotifications(mVerifyNotifications);
         }
         return mAdapter;
     }
@@ -957,6 +1143,32 @@ public class DrawerBuilder {
         return this;
     }
 
+    /**
+     * Set a source which creates the IDrawerItems on demand instead of a list. Use this instead of withDrawerItems
+     * for drawers with a very large amount of items. Only the items around the shown positions are created.
+     * The items of the source need an identifier.
+     *
+     * @param drawerItemSource
+     * @return
+     */
+    public DrawerBuilder withDrawerItemSource(@NonNull IDrawerItemSource drawerItemSource) {
+        return withDrawerItemSource(drawerItemSource, 256);
+    }
+
+    /**
+     * Set a source which creates the IDrawerItems on demand instead of a list. Use this instead of withDrawerItems
+     * for drawers with a very large amount of items. Only the items around the shown positions are created.
+     * The items of the source need an identifier.
+     *
+     * @param drawerItemSource
+     * @param maxItems         the maximum amount of created items which are kept
+     * @return
+     */
+    public DrawerBuilder withDrawerItemSource(@NonNull IDrawerItemSource drawerItemSource, int maxItems) {
+        this.getAdapter().setDrawerItemSource(drawerItemSource, maxItems);
+        return this;
+    }
+
     /**
      * Add a initial DrawerItem or a DrawerItem Array  for the Drawer
      *
@@ -1132,6 +1344,19 @@ public class DrawerBuilder {
         return this;
     }
 
+    /**
+     * Define a OnSelectionChangedListener which is called whenever a drawerItem or a sticky footer item
+     * is selected or deselected
+     *
+     * @param onSelectionChangedListener
+     * @return
+     */
+    public DrawerBuilder withOnSelectionChangedListener(@NonNull DrawerSelection.OnSelectionChangedListener onSelectionChangedListener) {
+        this.getAdapter().getSelection().setOnSelectionChangedListener(onSelectionChangedListener);
+        this.mStickyFooterSelection.setOnSelectionChangedListener(onSelectionChangedListener);
+        return this;
+    }
+
     // onDrawerListener
     protected Drawer.OnDrawerNavigationListener mOnDrawerNavigationListener;
 
@@ -1242,6 +1467,11 @@ public class DrawerBuilder {
         // add the slider to the drawer
         mDrawerLayout.addView(mSliderLayout, 1);
 
+        //create the ViewHolders below the first screen once the main thread is idle
+        if (mPrewarm) {
+            result.prewarm();
+        }
+
         return result;
     }
 
@@ -1330,6 +1560,7 @@ public class DrawerBuilder {
                     if (mDrawerLayout.isDrawerOpen(mDrawerGravity)) {
                         mDrawerLayout.closeDrawer(mDrawerGravity);
                     } else {
+                        cancelPrewarm();
                         mDrawerLayout.openDrawer(mDrawerGravity);
                     }
                 }
@@ -1361,6 +1592,7 @@ public class DrawerBuilder {
 
                 @Override
                 public void onDrawerSlide(View drawerView, float slideOffset) {
+                    cancelPrewarm();
                     if (mOnDrawerListener != null) {
                         mOnDrawerListener.onDrawerSlide(drawerView, slideOffset);
                     }
@@ -1371,6 +1603,14 @@ public class DrawerBuilder {
                         super.onDrawerSlide(drawerView, slideOffset);
                     }
                 }
+
+                @Override
+                public void onDrawerStateChanged(int newState) {
+                    if (newState != DrawerLayout.STATE_IDLE) {
+                        cancelPrewarm();
+                    }
+                    super.onDrawerStateChanged(newState);
+                }
             };
             this.mActionBarDrawerToggle.syncState();
         }
@@ -1389,6 +1629,7 @@ public class DrawerBuilder {
             mDrawerLayout.setDrawerListener(new DrawerLayout.DrawerListener() {
                 @Override
                 public void onDrawerSlide(View drawerView, float slideOffset) {
+                    cancelPrewarm();
                     if (mOnDrawerListener != null) {
                         mOnDrawerListener.onDrawerSlide(drawerView, slideOffset);
                     }
@@ -1410,7 +1651,9 @@ public class DrawerBuilder {
 
                 @Override
                 public void onDrawerStateChanged(int newState) {
-
+                    if (newState != DrawerLayout.STATE_IDLE) {
+                        cancelPrewarm();
+                    }
                 }
             });
         }
@@ -1508,6 +1751,11 @@ public class DrawerBuilder {
             mAccountHeader.toggleSelectionList(mActivity);
         }
 
+        //create the ViewHolders below the first screen once the main thread is idle
+        if (mPrewarm) {
+            appendedResult.prewarm();
+        }
+
         //forget the reference to the activity
         mActivity = null;
 
@@ -1566,6 +1814,19 @@ public class DrawerBuilder {
             }
 
             mRecyclerView.setPadding(0, paddingTop, 0, paddingBottom);
+
+            //the ViewHolders are pooled per drawer (or per activity), and released with the activity
+            if (mViewPool == null) {
+                if (mSharedViewPool) {
+                    mViewPool = DrawerViewPool.forActivity(mActivity);
+                } else {
+                    mViewPool = new DrawerViewPool();
+                    mViewPool.attachTo(mActivity);
+                }
+            }
+        }
+        if (mViewPool != null) {
+            mRecyclerView.setRecycledViewPool(mViewPool);
         }
 
         LinearLayout.LayoutParams params = new LinearLayout.LayoutParams(
@@ -1649,6 +1910,13 @@ public class DrawerBuilder {
             mRecyclerView.setAdapter(mAdapterWrapper);
         }
 
+        //the positions of a wrapper may differ from the positions of our adapter, so reordering needs our adapter
+        if (mReorderEnabled && mAdapterWrapper == null) {
+            mItemTouchCallback = new DrawerItemTouchCallback(getAdapter(), mOnDrawerItemsReorderedListener);
+            mItemTouchHelper = new ItemTouchHelper(mItemTouchCallback);
+            mItemTouchHelper.attachToRecyclerView(mRecyclerView);
+        }
+
         //predefine selection (should be the first element
         if (mSelectedItemPosition == 0 && mSelectedItemIdentifier != 0) {
             mSelectedItemPosition = DrawerUtils.getPositionByIdentifier(this, mSelectedItemIdentifier);
@@ -1658,8 +1926,62 @@ public class DrawerBuilder {
         }
         DrawerUtils.setRecyclerViewSelection(this, mSelectedItemPosition, false);
 
+        // add the listeners of the drawerItems
+        initAdapterListeners(mAdapter);
+
+        if (mRecyclerView != null) {
+            mRecyclerView.scrollToPosition(0);
+        }
+
+        // try to restore all saved values again
+        if (mSavedInstance != null) {
+            if (!mAppended) {
+                DrawerUtils.setRecyclerViewSelection(this, mSavedInstance.getInt(Drawer.BUNDLE_SELECTION, -1), false);
+                DrawerUtils.setStickyFooterSelection(this, mSavedInstance.getInt(Drawer.BUNDLE_STICKY_FOOTER_SELECTION, -1), null);
+            } else {
+                DrawerUtils.setRecyclerViewSelection(this, mSavedInstance.getInt(Drawer.BUNDLE_SELECTION_APPENDED, -1), false);
+                DrawerUtils.setStickyFooterSelection(this, mSavedInstance.getInt(Drawer.BUNDLE_STICKY_FOOTER_SELECTION_APPENDED, -1), null);
+            }
+        }
+
+        // call initial onClick event to allow the dev to init the first view
+        if (mFireInitialOnClick && mOnDrawerItemClickListener != null) {
+            mOnDrawerItemClickListener.onItemClick(null, mCurrentSelection, getDrawerItem(mCurrentSelection));
+        }
+    }
+
+    /**
+     * creates the adapter for another level of the drawer. it is configured like the template (the adapter of the first level),
+     * and shows the same header and footer items (in its own lists)
+     *
+     * @param template
+     * @return
+     */
+    protected BaseDrawerAdapter createLevelAdapter(BaseDrawerAdapter template) {
+        BaseDrawerAdapter adapter = new DrawerAdapter();
+        adapter.setHasStableIds(mHasStableIds);
+        adapter.setVerifyNotifications(mVerifyNotifications);
+        adapter.getSelection().setMode(template.getSelection().getMode());
+        adapter.getSelection().setOnSelectionChangedListener(template.getSelection().getOnSelectionChangedListener());
+        //copies, so modifying the header or footer of one level doesn't change the others
+        if (template.getHeaderDrawerItems() != null) {
+            adapter.setHeaderDrawerItems(new ArrayList<>(template.getHeaderDrawerItems()));
+        }
+        if (template.getFooterDrawerItems() != null) {
+            adapter.setFooterDrawerItems(new ArrayList<>(template.getFooterDrawerItems()));
+        }
+        initAdapterListeners(adapter);
+        return adapter;
+    }
+
+    /**
+     * sets the click listeners of the drawerItems to the adapter
+     *
+     * @param adapter
+     */
+    private void initAdapterListeners(BaseDrawerAdapter adapter) {
         // add the onDrawerItemClickListener if set
-        mAdapter.setOnClickListener(new BaseDrawerAdapter.OnClickListener() {
+        adapter.setOnClickListener(new BaseDrawerAdapter.OnClickListener() {
             @Override
             public void onClick(View view, int position, IDrawerItem item) {
                 if (!(item != null && item instanceof Selectable && !((Selectable) item).isSelectable())) {
@@ -1673,7 +1995,8 @@ public class DrawerBuilder {
                     consumed = mOnDrawerItemClickListener.onItemClick(view, position, item);
                 }
 
-                if (!consumed) {
+                //an expandableDrawerItem only shows or hides its subItems, so the drawer stays open
+                if (!consumed && !(item instanceof ExpandableDrawerItem)) {
                     //close the drawer after click
                     closeDrawerDelayed();
                 }
@@ -1681,35 +2004,21 @@ public class DrawerBuilder {
         });
 
         // add the onDrawerItemLongClickListener if set
-        mAdapter.setOnLongClickListener(new BaseDrawerAdapter.OnLongClickListener() {
+        adapter.setOnLongClickListener(new BaseDrawerAdapter.OnLongClickListener() {
             @Override
             public boolean onLongClick(View view, int position, IDrawerItem item) {
-                if (mOnDrawerItemLongClickListener != null) {
-                    return mOnDrawerItemLongClickListener.onItemLongClick(view, position, getDrawerItem(position));
+                if (mOnDrawerItemLongClickListener != null && mOnDrawerItemLongClickListener.onItemLongClick(view, position, getDrawerItem(position))) {
+                    return true;
+                }
+                //a long press which was not consumed starts the drag to reorder the item (only on the root level, getAdapter() is the adapter of the shown level)
+                BaseDrawerAdapter rootAdapter = mItemTouchCallback != null ? mItemTouchCallback.getAdapter() : null;
+                if (rootAdapter != null && mRecyclerView.getAdapter() == rootAdapter && rootAdapter.isDraggable(position)) {
+                    mItemTouchHelper.startDrag(mRecyclerView.getChildViewHolder(view));
+                    return true;
                 }
                 return false;
             }
         });
-
-        if (mRecyclerView != null) {
-            mRecyclerView.scrollToPosition(0);
-        }
-
-        // try to restore all saved values again
-        if (mSavedInstance != null) {
-            if (!mAppended) {
-                DrawerUtils.setRecyclerViewSelection(this, mSavedInstance.getInt(Drawer.BUNDLE_SELECTION, -1), false);
-                DrawerUtils.setStickyFooterSelection(this, mSavedInstance.getInt(Drawer.BUNDLE_STICKY_FOOTER_SELECTION, -1), null);
-            } else {
-                DrawerUtils.setRecyclerViewSelection(this, mSavedInstance.getInt(Drawer.BUNDLE_SELECTION_APPENDED, -1), false);
-                DrawerUtils.setStickyFooterSelection(this, mSavedInstance.getInt(Drawer.BUNDLE_STICKY_FOOTER_SELECTION_APPENDED, -1), null);
-            }
-        }
-
-        // call initial onClick event to allow the dev to init the first view
-        if (mFireInitialOnClick && mOnDrawerItemClickListener != null) {
-            mOnDrawerItemClickListener.onItemClick(null, mCurrentSelection, getDrawerItem(mCurrentSelection));
-        }
     }
 
     /**
@@ -1759,13 +2068,6 @@ public class DrawerBuilder {
      * simple helper method to reset the selection of the sticky footer
      */
     protected void resetStickyFooterSelection() {
-        if (mStickyFooterView instanceof LinearLayout) {
-            for (int i = 0; i < (mStickyFooterView).getChildCount(); i++) {
-                if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.HONEYCOMB) {
-                    (mStickyFooterView).getChildAt(i).setActivated(false);
-                }
-                (mStickyFooterView).getChildAt(i).setSelected(false);
-            }
-        }
+        mStickyFooterSelection.deselectAll();
     }
 }
@@ -0,0 +1,86 @@
+package com.mikepenz.materialdrawer;
+
+import android.os.Parcelable;
+
+import com.mikepenz.materialdrawer.adapter.BaseDrawerAdapter;
+import com.mikepenz.materialdrawer.model.interfaces.IDrawerItem;
+
+import java.util.ArrayList;
+
+/**
+ * Created by mikepenz on 02.11.15.
+ * A level of the drawer navigation which is shown with Drawer.pushLevel and left with Drawer.popLevel.
+ * Every level has its own adapter, so its items, selection and scroll position are kept while other levels are shown.
+ * <p/>
+ * Levels with a key are cached with their adapter after they were popped. If a level with the same key is pushed again
+ * the cached adapter is shown as it was, only if it got another list of drawerItems the difference is applied.
+ */
+public class DrawerLevel {
+    private final Object mKey;
+    private ArrayList<IDrawerItem> mDrawerItems = new ArrayList<>();
+    private Drawer.OnDrawerItemClickListener mOnDrawerItemClickListener = null;
+    private int mSelectedPosition = -1;
+
+    //the state of the level while it is not shown (only accessed by the drawer)
+    BaseDrawerAdapter mAdapter;
+    ArrayList<IDrawerItem> mAppliedDrawerItems;
+    Parcelable mLayoutState;
+    int mCurrentSelection = -1;
+
+    /**
+     * a level which is not cached
+     */
+    public DrawerLevel() {
+        this(null);
+    }
+
+    /**
+     * @param key the key under which the level and its adapter are cached (e.g. a String), null if it should not be cached
+     */
+    public DrawerLevel(Object key) {
+        this.mKey = key;
+    }
+
+    /**
+     * @param drawerItems the items of this level
+     * @return
+     */
+    public DrawerLevel withDrawerItems(ArrayList<IDrawerItem> drawerItems) {
+        this.mDrawerItems = drawerItems;
+        return this;
+    }
+
+    /**
+     * @param onDrawerItemClickListener the listener which is used while this level is shown
+     * @return
+     */
+    public DrawerLevel withOnDrawerItemClickListener(Drawer.OnDrawerItemClickListener onDrawerItemClickListener) {
+        this.mOnDrawerItemClickListener = onDrawerItemClickListener;
+        return this;
+    }
+
+    /**
+     * @param selectedPosition the position which is selected if the level is shown with new items (-1 for none)
+     * @return
+     */
+    public DrawerLevel withSelectedPosition(int selectedPosition) {
+        this.mSelectedPosition = selectedPosition;
+        return this;
+    }
+
+    public Object getKey() {
+        return mKey;
+    }
+
+    public ArrayList<IDrawerItem> getDrawerItems() {
+        return mDrawerItems;
+    }
+
+    public Drawer.OnDrawerItemClickListener getOnDrawerItemClickListener() {
+        return mOnDrawerItemClickListener;
+    }
+
+    public int getSelectedPosition() {
+        return mSelectedPosition;
+    }
+}
@@ -0,0 +1,128 @@
+package com.mikepenz.materialdrawer;
+
+import android.os.Looper;
+import android.os.MessageQueue;
+import android.support.v4.widget.DrawerLayout;
+import android.support.v7.widget.RecyclerView;
+import android.util.SparseIntArray;
+
+/**
+ * Created by mikepenz on 02.11.15.
+ * Creates the ViewHolders of the drawerItems below the first screen of a closed drawer while the main thread is idle, so
+ * scrolling through the drawer for the first time does not have to create them.
+ * The DrawerLayout already measures and lays out the closed drawer (and the RecyclerView binds its first screen) with its
+ * first traversal, so the prewarmer waits for it and only creates the ViewHolders it skipped. One ViewHolder is created per
+ * idle turn and put into the RecycledViewPool of the RecyclerView. It is cancelled as soon as the drawer starts to move.
+ * The prewarmer has to be started on the main thread.
+ */
+class DrawerPrewarmer implements MessageQueue.IdleHandler {
+    //the default size of the recycled views per viewType of the RecycledViewPool
+    private static final int DEFAULT_MAX_RECYCLED_VIEWS = 5;
+
+    private final DrawerBuilder mDrawerBuilder;
+    private MessageQueue mQueue;
+    private boolean mDone = false;
+
+    //the viewTypes of the rows of the screen below the laid out rows, null until the first traversal happened
+    private int[] mViewTypes;
+    private int mNext = 0;
+    //how many ViewHolders were created per viewType
+    private final SparseIntArray mCreated = new SparseIntArray();
+
+    DrawerPrewarmer(DrawerBuilder drawerBuilder) {
+        this.mDrawerBuilder = drawerBuilder;
+    }
+
+    /**
+     * adds the prewarmer to the queue of the main thread
+     */
+    void start() {
+        if (mQueue == null && !mDone) {
+            mQueue = Looper.myQueue();
+            mQueue.addIdleHandler(this);
+        }
+    }
+
+    /**
+     * stops the remaining steps, a step which is already running is finished
+     */
+    void cancel() {
+        if (mQueue != null) {
+            mQueue.removeIdleHandler(this);
+            mQueue = null;
+        }
+        mDone = true;
+    }
+
+    boolean isRunning() {
+        return mQueue != null;
+    }
+
+    @Override
+    public boolean queueIdle() {
+        RecyclerView recyclerView = mDrawerBuilder.mRecyclerView;
+        if (mDone || recyclerView == null || recyclerView.getAdapter() == null || isDrawerVisible()) {
+            return finish();
+        }
+
+        if (mViewTypes == null) {
+            if (recyclerView.getAdapter().getItemCount() == 0) {
+                return finish();
+            }
+            //the first traversal of the drawerLayout did not happen yet, try again in the next idle turn
+            if (recyclerView.isLayoutRequested() || recyclerView.getChildCount() == 0) {
+                return true;
+            }
+            int last = recyclerView.getChildAdapterPosition(recyclerView.getChildAt(recyclerView.getChildCount() - 1));
+            if (last == RecyclerView.NO_POSITION) {
+                return true;
+            }
+            collectViewTypes(recyclerView.getAdapter(), last + 1, recyclerView.getChildCount());
+        }
+
+        if (mNext >= mViewTypes.length) {
+            return finish();
+        }
+
+        int viewType = mViewTypes[mNext];
+        mNext = mNext + 1;
+        RecyclerView.ViewHolder viewHolder = recyclerView.getAdapter().createViewHolder(recyclerView, viewType);
+        int created = mCreated.get(viewType) + 1;
+        mCreated.put(viewType, created);
+        //the pool has to keep all of them
+        RecyclerView.RecycledViewPool pool = recyclerView.getRecycledViewPool();
+        pool.setMaxRecycledViews(viewType, Math.max(DEFAULT_MAX_RECYCLED_VIEWS, created));
+        pool.putRecycledView(viewHolder);
+
+        if (mNext >= mViewTypes.length) {
+            return finish();
+        }
+        return true;
+    }
+
+    /**
+     * remembers the viewTypes of the rows which are shown after scrolling by one screen
+     *
+     * @param adapter
+     * @param first   the first position which is not laid out
+     * @param count   the amount of rows of one screen
+     */
+    private void collectViewTypes(RecyclerView.Adapter adapter, int first, int count) {
+        count = Math.max(0, Math.min(count, adapter.getItemCount() - first));
+        mViewTypes = new int[count];
+        for (int i = 0; i < count; i++) {
+            mViewTypes[i] = adapter.getItemViewType(first + i);
+        }
+    }
+
+    private boolean finish() {
+        mQueue = null;
+        mDone = true;
+        return false;
+    }
+
+    private boolean isDrawerVisible() {
+        DrawerLayout drawerLayout = mDrawerBuilder.mDrawerLayout;
+        return drawerLayout != null && drawerLayout.isDrawerVisible(mDrawerBuilder.mDrawerGravity);
+    }
+}
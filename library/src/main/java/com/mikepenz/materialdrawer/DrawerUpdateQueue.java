@@ -0,0 +1,150 @@
+package com.mikepenz.materialdrawer;
+
+import android.os.Build;
+import android.os.Handler;
+import android.os.Looper;
+import android.view.Choreographer;
+
+import com.mikepenz.materialdrawer.holder.ImageHolder;
+import com.mikepenz.materialdrawer.holder.StringHolder;
+import com.mikepenz.materialdrawer.model.interfaces.IDrawerItem;
+import com.mikepenz.materialdrawer.util.IntIntHashMap;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Created by mikepenz on 01.11.15.
+ * Collects the updates of drawerItems which are posted from any thread, and applies them once per frame on the main thread.
+ * The updates are enqueued without locking. Before they are applied they are merged per identifier, so only the latest
+ * update of every kind is applied, and all of them are notified in one batch.
+ * The queue has to be created on the main thread.
+ */
+class DrawerUpdateQueue {
+    static final int NAME = 0;
+    static final int BADGE = 1;
+    static final int ICON = 2;
+    static final int ITEM = 3;
+
+    private final Drawer mDrawer;
+
+    private final ConcurrentLinkedQueue<Update> mQueue = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean mScheduled = new AtomicBoolean(false);
+
+    //the frame callback is used if the Choreographer is available (api 16), the handler otherwise
+    private final Handler mHandler = new Handler(Looper.getMainLooper());
+    private Choreographer mChoreographer;
+    private Choreographer.FrameCallback mFrameCallback;
+    private final Runnable mApplyRunnable = new Runnable() {
+        @Override
+        public void run() {
+            apply();
+        }
+    };
+
+    //the merged updates per identifier, reused for every frame (only accessed on the main thread)
+    private final IntIntHashMap mSlotIndices = new IntIntHashMap(-1);
+    private final ArrayList<Update[]> mSlots = new ArrayList<>();
+    private int mSlotCount = 0;
+
+    DrawerUpdateQueue(Drawer drawer) {
+        this.mDrawer = drawer;
+        if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.JELLY_BEAN) {
+            mChoreographer = Choreographer.getInstance();
+            mFrameCallback = new Choreographer.FrameCallback() {
+                @Override
+                public void doFrame(long frameTimeNanos) {
+                    apply();
+                }
+            };
+        }
+    }
+
+    /**
+     * enqueues the update and schedules the next frame. can be called from any thread
+     *
+     * @param type       NAME, BADGE, ICON or ITEM
+     * @param identifier
+     * @param value      the StringHolder, ImageHolder or IDrawerItem
+     */
+    void post(int type, int identifier, Object value) {
+        mQueue.offer(new Update(type, identifier, value));
+        if (mScheduled.compareAndSet(false, true)) {
+            //both are thread safe
+            if (mChoreographer != null) {
+                mChoreographer.postFrameCallback(mFrameCallback);
+            } else {
+                mHandler.post(mApplyRunnable);
+            }
+        }
+    }
+
+    /**
+     * merges the enqueued updates and applies them in one batch. runs on the main thread
+     */
+    private void apply() {
+        //updates which are posted from now on schedule the next frame
+        mScheduled.set(false);
+
+        Update update;
+        while ((update = mQueue.poll()) != null) {
+            int slotIndex = mSlotIndices.get(update.identifier);
+            if (slotIndex == -1) {
+                slotIndex = mSlotCount;
+                if (slotIndex == mSlots.size()) {
+                    mSlots.add(new Update[ITEM + 1]);
+                }
+                mSlotCount = mSlotCount + 1;
+                mSlotIndices.put(update.identifier, slotIndex);
+            }
+            Update[] slot = mSlots.get(slotIndex);
+            if (update.type == ITEM) {
+                //the new item replaces all previous updates of it
+                Arrays.fill(slot, null);
+            }
+            slot[update.type] = update;
+        }
+
+        if (mSlotCount == 0) {
+            return;
+        }
+        mDrawer.beginBatch();
+        try {
+            for (int i = 0; i < mSlotCount; i++) {
+                Update[] slot = mSlots.get(i);
+                //the item first, the other updates were posted after it
+                if (slot[ITEM] != null) {
+                    mDrawer.updateItem((IDrawerItem) slot[ITEM].value);
+                }
+                if (slot[NAME] != null) {
+                    mDrawer.updateName(slot[NAME].identifier, (StringHolder) slot[NAME].value);
+                }
+                if (slot[BADGE] != null) {
+                    mDrawer.updateBadge(slot[BADGE].identifier, (StringHolder) slot[BADGE].value);
+                }
+                if (slot[ICON] != null) {
+                    mDrawer.updateIcon(slot[ICON].identifier, (ImageHolder) slot[ICON].value);
+                }
+                Arrays.fill(slot, null);
+            }
+        } finally {
+            mSlotIndices.clear();
+            mSlotCount = 0;
+            mDrawer.commitBatch();
+        }
+    }
+
+    private static class Update {
+        final int type;
+        final int identifier;
+        final Object value;
+
+        Update(int type, int identifier, Object value) {
+            this.type = type;
+            this.identifier = identifier;
+            this.value = value;
+        }
+    }
+}
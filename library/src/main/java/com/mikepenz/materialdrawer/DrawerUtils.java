@@ -9,7 +9,6 @@ import android.view.ViewGroup;
 import android.widget.LinearLayout;
 import android.widget.RelativeLayout;
 
-import com.mikepenz.materialdrawer.adapter.BaseDrawerAdapter;
 import com.mikepenz.materialdrawer.holder.ColorHolder;
 import com.mikepenz.materialdrawer.model.ContainerDrawerItem;
 import com.mikepenz.materialdrawer.model.PrimaryDrawerItem;
@@ -34,25 +33,19 @@ class DrawerUtils {
     public static void onFooterDrawerItemClick(DrawerBuilder drawer, IDrawerItem drawerItem, View v, Boolean fireOnClick) {
         boolean checkable = !(drawerItem != null && drawerItem instanceof Selectable && !((Selectable) drawerItem).isSelectable());
         if (checkable) {
-            drawer.resetStickyFooterSelection();
-
-            if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.HONEYCOMB) {
-                v.setActivated(true);
-            }
-            v.setSelected(true);
-
             //remove the selection in the list
             drawer.getAdapter().handleSelection(null, -1);
 
             //set currentSelection to -1 because we selected a stickyFooter element
             drawer.mCurrentSelection = -1;
 
-            //find the position of the clicked footer item
+            //find the position of the clicked footer item and select it (this deselects the previous footer item)
             if (drawer.mStickyFooterView != null && drawer.mStickyFooterView instanceof LinearLayout) {
                 LinearLayout footer = (LinearLayout) drawer.mStickyFooterView;
                 for (int i = 0; i < footer.getChildCount(); i++) {
                     if (footer.getChildAt(i) == v) {
                         drawer.mCurrentStickyFooterSelection = i;
+                        drawer.mStickyFooterSelection.select(i);
                         break;
                     }
                 }
@@ -99,7 +92,11 @@ class DrawerUtils {
             //predefine selection (should be the first element
             if (drawer.mAdapter != null) {
                 drawer.resetStickyFooterSelection();
-                drawer.mAdapter.handleSelection(null, position);
+                if (position > -1) {
+                    drawer.mAdapter.getSelection().select(position);
+                } else {
+                    drawer.mAdapter.getSelection().deselectAll();
+                }
                 drawer.mCurrentSelection = position;
                 drawer.mCurrentStickyFooterSelection = -1;
             }
@@ -140,12 +137,7 @@ class DrawerUtils {
      */
     public static int getPositionByIdentifier(DrawerBuilder drawer, int identifier) {
         if (identifier >= 0) {
-            BaseDrawerAdapter adapter = drawer.getAdapter();
-            for (int i = 0; i < adapter.getItemCount(); i++) {
-                if (adapter.getItem(i).getIdentifier() == identifier) {
-                    return i;
-                }
-            }
+            return drawer.getAdapter().getPosition(identifier);
         }
 
         return -1;
@@ -255,6 +247,7 @@ class DrawerUtils {
     public static void rebuildStickyFooterView(final DrawerBuilder drawer) {
         if (drawer.mSliderLayout != null) {
             if (drawer.mStickyFooterView != null) {
+                //the views are recreated. the selection is tracked by the identifiers, so it stays as it is
                 drawer.mStickyFooterView.removeAllViews();
 
                 //create the divider
@@ -407,6 +400,7 @@ class DrawerUtils {
 
             View view = drawerItem.generateView(container.getContext(), container);
             view.setTag(drawerItem);
+            drawer.mStickyFooterSelection.track(drawerItem);
 
             if (drawerItem.isEnabled()) {
                 UIUtils.setBackground(view, DrawerUIUtils.getSelectableBackground(container.getContext(), selected_color));
@@ -1,5 +1,6 @@
 package com.mikepenz.materialdrawer;
 
+import android.app.Activity;
 import android.content.Context;
 import android.support.annotation.NonNull;
 import android.support.v7.widget.DefaultItemAnimator;
@@ -19,6 +20,7 @@ import com.mikepenz.materialdrawer.model.ProfileDrawerItem;
 import com.mikepenz.materialdrawer.model.SecondaryDrawerItem;
 import com.mikepenz.materialdrawer.model.interfaces.IDrawerItem;
 import com.mikepenz.materialdrawer.model.interfaces.IProfile;
+import com.mikepenz.materialdrawer.util.DrawerViewPool;
 import com.mikepenz.materialize.util.UIUtils;
 
 import java.util.ArrayList;
@@ -31,6 +33,9 @@ public class MiniDrawer {
     public static final int PROFILE = 1;
     public static final int ITEM = 2;
 
+    //the profile and the drawerItems can use the same identifier, so the stable ids of the profiles are flagged
+    private static final long PROFILE_ID_FLAG = 1L << 32;
+
     private LinearLayout mContainer;
     private RecyclerView mRecyclerView;
     private DrawerAdapter mDrawerAdapter;
@@ -186,6 +191,37 @@ public class MiniDrawer {
         return mCrossFader;
     }
 
+    private DrawerViewPool mViewPool;
+
+    /**
+     * define the RecycledViewPool of the MiniDrawer. by default it uses the default pool of its RecyclerView
+     *
+     * @param viewPool
+     * @return
+     */
+    public MiniDrawer withViewPool(@NonNull DrawerViewPool viewPool) {
+        this.mViewPool = viewPool;
+        return this;
+    }
+
+    private boolean mSharedViewPool = false;
+
+    /**
+     * define if the MiniDrawer uses the pool which is shared by all drawers of the activity (DrawerViewPool.forActivity).
+     * a pool set with withViewPool is used anyway
+     *
+     * @param sharedViewPool
+     * @return
+     */
+    public MiniDrawer withSharedViewPool(boolean sharedViewPool) {
+        this.mSharedViewPool = sharedViewPool;
+        return this;
+    }
+
+    public DrawerViewPool getViewPool() {
+        return mViewPool;
+    }
+
     public BaseDrawerAdapter.OnClickListener getOnMiniDrawerItemClickListener() {
         return mOnMiniDrawerItemClickListener;
     }
@@ -257,8 +293,20 @@ public class MiniDrawer {
         mRecyclerView.setClipToPadding(false);
         //additional stuff
         mRecyclerView.setLayoutManager(new LinearLayoutManager(ctx));
+        //the pool, shared with the other drawers of the activity if requested
+        if (mViewPool == null && mSharedViewPool) {
+            if (ctx instanceof Activity) {
+                mViewPool = DrawerViewPool.forActivity((Activity) ctx);
+            } else if (mDrawer != null) {
+                mViewPool = mDrawer.getViewPool();
+            }
+        }
+        if (mViewPool != null) {
+            mRecyclerView.setRecycledViewPool(mViewPool);
+        }
         //adapter
-        mDrawerAdapter = new DrawerAdapter();
+        mDrawerAdapter = new MiniDrawerAdapter();
+        mDrawerAdapter.setHasStableIds(true);
         mRecyclerView.setAdapter(mDrawerAdapter);
 
         //if the activity with the drawer should be fullscreen add the padding for the statusbar
@@ -331,10 +379,13 @@ public class MiniDrawer {
      * @param identifier the identifier of the item which should be selected (-1 for none)
      */
     public void setSelection(int identifier) {
-        for (IDrawerItem drawerItem : mDrawerAdapter.getDrawerItems()) {
-            drawerItem.withSetSelected(drawerItem.getIdentifier() == identifier);
+        //only the drawerItems are looked up, not the profile
+        int position = mDrawerAdapter.getPosition(identifier);
+        if (position != -1) {
+            mDrawerAdapter.getSelection().select(position);
+        } else {
+            mDrawerAdapter.getSelection().deselectAll();
         }
-        mDrawerAdapter.notifyDataSetChanged();
     }
 
     /**
@@ -345,13 +396,12 @@ public class MiniDrawer {
     public void updateItem(int identifier) {
         if (mDrawer != null && mDrawerAdapter != null && mDrawerAdapter.getDrawerItems() != null && identifier != -1) {
             IDrawerItem drawerItem = mDrawer.getDrawerItem(identifier);
+            int position = mDrawerAdapter.getPosition(identifier);
 
-            for (int i = 0; i < mDrawerAdapter.getDrawerItems().size(); i++) {
-                if (mDrawerAdapter.getDrawerItems().get(i).getIdentifier() == drawerItem.getIdentifier()) {
-                    IDrawerItem miniDrawerItem = generateMiniDrawerItem(drawerItem);
-                    if (miniDrawerItem != null) {
-                        mDrawerAdapter.setDrawerItem(i, miniDrawerItem);
-                    }
+            if (drawerItem != null && position != -1) {
+                IDrawerItem miniDrawerItem = generateMiniDrawerItem(drawerItem);
+                if (miniDrawerItem != null) {
+                    mDrawerAdapter.setDrawerItem(position, miniDrawerItem);
                 }
             }
         }
@@ -418,4 +468,36 @@ public class MiniDrawer {
 
         mRecyclerView.scrollToPosition(0);
     }
+
+    /**
+     * the adapter of the MiniDrawer. the profile and the drawerItems come from different sources, so they can use the same
+     * identifier. the identifiers are only looked up for the drawerItems, and the profiles get separate stable ids
+     */
+    private class MiniDrawerAdapter extends DrawerAdapter {
+        @Override
+        public int getPosition(int identifier) {
+            int position = super.getPosition(identifier);
+            if (position != -1 && getMiniDrawerType(getItem(position)) == PROFILE) {
+                //the first item with the identifier is the profile, search the drawerItem after it
+                position = -1;
+                for (int i = getHeaderOffset(); i < getItemCount(); i++) {
+                    IDrawerItem drawerItem = getItem(i);
+                    if (drawerItem != null && drawerItem.getIdentifier() == identifier && getMiniDrawerType(drawerItem) == ITEM) {
+                        position = i;
+                        break;
+                    }
+                }
+            }
+            return position;
+        }
+
+        @Override
+        public long getItemId(int position) {
+            long id = super.getItemId(position);
+            if (id != RecyclerView.NO_ID && getMiniDrawerType(getItem(position)) == PROFILE) {
+                return id | PROFILE_ID_FLAG;
+            }
+            return id;
+        }
+    }
 }
@@ -1,147 +1,1417 @@
 package com.mikepenz.materialdrawer.adapter;
 
+import android.content.Context;
+import android.os.Handler;
+import android.os.Looper;
 import android.support.v7.widget.RecyclerView;
+import android.util.Log;
 import android.view.View;
 import android.view.ViewGroup;
 
 import com.mikepenz.materialdrawer.model.AbstractDrawerItem;
+import com.mikepenz.materialdrawer.model.ExpandableDrawerItem;
 import com.mikepenz.materialdrawer.model.interfaces.IDrawerItem;
+import com.mikepenz.materialdrawer.model.interfaces.IDrawerItemSource;
 import com.mikepenz.materialdrawer.model.interfaces.Selectable;
-import com.mikepenz.materialdrawer.util.RecyclerViewCacheUtil;
+import com.mikepenz.materialdrawer.model.utils.DrawerItemPayload;
+import com.mikepenz.materialdrawer.util.DrawerPreInflater;
+import com.mikepenz.materialdrawer.util.FenwickTree;
+import com.mikepenz.materialdrawer.util.IdDistributor;
+import com.mikepenz.materialdrawer.util.IntIntHashMap;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
-import java.util.LinkedHashMap;
-import java.util.LinkedList;
 import java.util.List;
 
 /**
  * Created by mikepenz on 14.07.15.
  */
 public abstract class BaseDrawerAdapter extends RecyclerView.Adapter<RecyclerView.ViewHolder> {
+    private static final String TAG = "BaseDrawerAdapter";
+
+    public static final int SEGMENT_HEADER = 0;
+    public static final int SEGMENT_ITEMS = 1;
+    public static final int SEGMENT_FOOTER = 2;
+
+    //notifies the modifications of the drawerItems list, so it can also be modified directly
+    private final ObservableDrawerItemList.Observer mDrawerItemsObserver = new ObservableDrawerItemList.Observer() {
+        @Override
+        public void onItemRangeInserted(int index, int count) {
+            checkNoDrawerItemSource();
+            //the position is calculated with the visibility before the modification
+            int position = getVisiblePosition(index);
+            for (int i = index; i < index + count; i++) {
+                mapPossibleType(mDrawerItems.get(i));
+                countIdentifier(mDrawerItems.get(i), 1);
+            }
+            invalidateFilter();
+            //only the visibility of the new items is resolved
+            int insertedCount = insertVisibleFlags(index, count);
+            updateSegmentBounds();
+            invalidateIdentifierIndex();
+            if (insertedCount > 0) {
+                notifyAdapterItemRangeInserted(position, insertedCount);
+            }
+        }
+
+        @Override
+        public void onItemRangeRemoved(int index, List<IDrawerItem> removed) {
+            checkNoDrawerItemSource();
+            for (IDrawerItem drawerItem : removed) {
+                countIdentifier(drawerItem, -1);
+            }
+            int position = getVisiblePosition(index);
+            invalidateFilter();
+            int removedCount = removeVisibleFlags(index, removed.size());
+            updateSegmentBounds();
+            invalidateIdentifierIndex();
+            if (removedCount > 0) {
+                notifyAdapterItemRangeRemoved(position, removedCount);
+            }
+        }
+
+        @Override
+        public void onItemChanged(int index, IDrawerItem previous) {
+            checkNoDrawerItemSource();
+            IDrawerItem drawerItem = mDrawerItems.get(index);
+            int position = getVisiblePosition(index);
+            boolean wasVisible = mVisibleFlags[index] == 1;
+            mapPossibleType(drawerItem);
+            countIdentifier(previous, -1);
+            countIdentifier(drawerItem, 1);
+            if (mFilter != null) {
+                //the item may have been renamed
+                mFilter.forget(drawerItem);
+                mFilter.invalidate();
+            }
+
+            boolean visible = !isHidden(drawerItem);
+            if (wasVisible && visible) {
+                updateIdentifierIndex(previous, drawerItem, position);
+                notifyAdapterItemChanged(position);
+            } else if (wasVisible || visible) {
+                setVisibleFlag(index, visible);
+                updateSegmentBounds();
+                invalidateIdentifierIndex();
+                if (visible) {
+                    notifyAdapterItemInserted(position);
+                } else {
+                    notifyAdapterItemRemoved(position);
+                }
+            } else {
+                //a hidden item was replaced
+                invalidateIdentifierIndex();
+            }
+        }
+
+        @Override
+        public void onItemMoved(int fromIndex, int toIndex) {
+            checkNoDrawerItemSource();
+            boolean wasVisible = mVisibleFlags[fromIndex] == 1;
+            int fromPosition = getVisiblePosition(fromIndex);
+            invalidateFilter();
+            moveVisibleFlag(fromIndex, toIndex);
+            if (mHiddenCount > 0) {
+                //the hidden items between are shifted
+                invalidateIdentifierIndex();
+                if (wasVisible) {
+                    notifyAdapterItemMoved(fromPosition, getDrawerItemPosition(toIndex));
+                }
+                return;
+            }
+
+            notifyAdapterItemMoved(fromPosition, mItemsOffset + toIndex);
+        }
+    };
+
     private ArrayList<IDrawerItem> mHeaderDrawerItems = new ArrayList<>();
-    private ArrayList<IDrawerItem> mDrawerItems = new ArrayList<>();
+    private ObservableDrawerItemList mDrawerItems = new ObservableDrawerItemList(Collections.<IDrawerItem>emptyList(), mDrawerItemsObserver);
     private ArrayList<IDrawerItem> mFooterDrawerItems = new ArrayList<>();
 
-    private LinkedList<String> mTypeIds = new LinkedList<>();
-    private LinkedHashMap<String, IDrawerItem> mTypeInstances = new LinkedHashMap<>();
+    //if set the drawerItems are created on demand by the source instead of the mDrawerItems list
+    private DrawerItemSourceCache mDrawerItemSource = null;
+
+    //the shared registry which maps the item types to their viewType
+    private final DrawerItemTypeRegistry mTypeRegistry = DrawerItemTypeRegistry.getInstance();
+    //an instance for each viewType (index = viewType) which is used to create the ViewHolder
+    private IDrawerItem[] mTypeInstances = new IDrawerItem[0];
+
+    //identifier -> position index. it is rebuilt lazily after structural changes
+    private final IntIntHashMap mIdentifierIndex = new IntIntHashMap(-1);
+    //identifier -> index in the drawerItems of the hidden items. it is rebuilt together with the identifier index
+    private final IntIntHashMap mHiddenIdentifierIndex = new IntIntHashMap(-1);
+    //how often every identifier is used by the drawerItems
+    private final IntIntHashMap mIdentifierCounts = new IntIntHashMap(0);
+    private boolean mIdentifierIndexDirty = true;
+    private boolean mIdentifierIndexObserved = false;
+    //true while the adapter dispatches a move it already applied to the identifier index
+    private boolean mDispatchingMove = false;
+
+    //checks the notifications against the items if enabled (debug only)
+    private DrawerNotificationVerifier mNotificationVerifier = null;
+    private boolean mVerifyNotifications = false;
+
+    //incremented on every replacement of the drawerItems, so outdated async diffs are dropped
+    private volatile int mItemsGeneration = 0;
+    //incremented on every change of the visibility (setVisible, filter), so async diffs of outdated visible items are recalculated
+    private int mVisibilityGeneration = 0;
+    private final Handler mMainHandler = new Handler(Looper.getMainLooper());
+
+    //the latest snapshot of the drawerItems, which is republished after the changes were notified
+    private volatile DrawerSnapshot mSnapshot = DrawerSnapshot.EMPTY;
+    private boolean mSnapshotDirty = false;
+    //if only drawerItems changed (no structural change) just the entries of this index range are checked again
+    private boolean mSnapshotStructural = false;
+    private int mSnapshotChangedFrom = Integer.MAX_VALUE;
+    private int mSnapshotChangedTo = -1;
+    private final Runnable mPublishSnapshotRunnable = new Runnable() {
+        @Override
+        public void run() {
+            if (mSnapshotDirty) {
+                publishSnapshot();
+            }
+        }
+    };
+
+    //collects the notifications while a batch is open
+    private final DrawerNotificationBatch mBatch = new DrawerNotificationBatch();
+    private int mBatchDepth = 0;
+
+    //forwards the notifications of a committed batch to the RecyclerView
+    private final DrawerNotificationReceiver mRecyclerViewReceiver = new DrawerNotificationReceiver() {
+        @Override
+        public void onDataSetChanged() {
+            notifyDataSetChanged();
+        }
+
+        @Override
+        public void onItemRangeInserted(int position, int count) {
+            notifyItemRangeInserted(position, count);
+        }
+
+        @Override
+        public void onItemRangeRemoved(int position, int count) {
+            notifyItemRangeRemoved(position, count);
+        }
+
+        @Override
+        public void onItemMoved(int fromPosition, int toPosition) {
+            dispatchItemMoved(fromPosition, toPosition);
+        }
+
+        @Override
+        public void onItemRangeChanged(int position, int count, DrawerItemPayload payload) {
+            if (payload == null) {
+                notifyItemRangeChanged(position, count);
+            } else {
+                notifyItemRangeChanged(position, count, payload);
+            }
+        }
+    };
+
+    //forwards the notifications of a diff to the notify methods of the adapter (so they are batched and tracked)
+    private final DrawerNotificationReceiver mAdapterReceiver = new DrawerNotificationReceiver() {
+        @Override
+        public void onDataSetChanged() {
+            notifyAdapterDataSetChanged();
+        }
+
+        @Override
+        public void onItemRangeInserted(int position, int count) {
+            notifyAdapterItemRangeInserted(position, count);
+        }
+
+        @Override
+        public void onItemRangeRemoved(int position, int count) {
+            notifyAdapterItemRangeRemoved(position, count);
+        }
+
+        @Override
+        public void onItemMoved(int fromPosition, int toPosition) {
+            notifyAdapterItemMoved(fromPosition, toPosition);
+        }
+
+        @Override
+        public void onItemRangeChanged(int position, int count, DrawerItemPayload payload) {
+            if (payload == null) {
+                notifyAdapterItemRangeChanged(position, count);
+            } else {
+                notifyAdapterItemRangeChanged(position, count, payload);
+            }
+        }
+    };
+
+    //tracks the selected items by their identifier
+    private final DrawerSelection mSelection = new DrawerSelection(new DrawerSelection.Host() {
+        @Override
+        public int getPosition(int identifier) {
+            return BaseDrawerAdapter.this.getPosition(identifier);
+        }
+
+        @Override
+        public int getPosition(IDrawerItem drawerItem) {
+            for (int i = 0; i < mItemCount; i++) {
+                //the items of a source would all be created, they need an identifier
+                if (mDrawerItemSource != null && i == mItemsOffset) {
+                    i = mFooterOffset;
+                    if (i >= mItemCount) {
+                        break;
+                    }
+                }
+                if (getItem(i) == drawerItem) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        public IDrawerItem getItem(int position) {
+            return BaseDrawerAdapter.this.getItem(position);
+        }
+
+        @Override
+        public IDrawerItem getHiddenItem(int identifier) {
+            if (mHiddenCount == 0 || identifier < 0) {
+                return null;
+            }
+            if (mIdentifierIndexDirty) {
+                rebuildIdentifierIndex();
+            }
+            int index = mHiddenIdentifierIndex.get(identifier);
+            if (index != -1 && !isHiddenIndex(index, identifier)) {
+                //the lists were modified without a notification
+                rebuildIdentifierIndex();
+                index = mHiddenIdentifierIndex.get(identifier);
+            }
+            return index == -1 ? null : mDrawerItems.get(index);
+        }
+
+        @Override
+        public void onSelectionChanged(int position, IDrawerItem drawerItem, boolean selected) {
+            notifyAdapterItemChanged(position, DrawerItemPayload.SELECTION);
+        }
+    });
 
-    private int previousSelection = -1;
+    //the segment table. the boundaries of the header, drawerItems and footer segments, updated on every mutation
+    private int mItemsOffset = 0;
+    private int mFooterOffset = 0;
+    private int mItemCount = 0;
+
+    //maps the positions of the visible drawerItems to their index in mDrawerItems. only used if items are hidden
+    private final FenwickTree mVisibleItems = new FenwickTree();
+    private int[] mVisibleFlags = new int[0];
+    private int mVisibleFlagCount = 0;
+    private int mHiddenCount = 0;
+    //the sizes of the lists when the segments were updated
+    private int mUpdatedListSizes = 0;
+
+    //the filter of the drawerItems, items which don't match its query are hidden
+    private DrawerItemFilter mFilter = null;
 
     private OnClickListener mOnClickListener;
     private OnLongClickListener mOnLongClickListener;
 
-    public BaseDrawerAdapter() {
+    public BaseDrawerAdapter() {
+    }
+
+    public BaseDrawerAdapter(ArrayList<IDrawerItem> drawerItems) {
+        setDrawerItems(drawerItems);
+    }
+
+    public void setOnClickListener(OnClickListener mOnClickListener) {
+        this.mOnClickListener = mOnClickListener;
+    }
+
+    public void setOnLongClickListener(OnLongClickListener mOnLongClickListener) {
+        this.mOnLongClickListener = mOnLongClickListener;
+    }
+
+    /**
+     * @return the selection of this adapter, to change the selection mode, select items or listen for changes
+     */
+    public DrawerSelection getSelection() {
+        return mSelection;
+    }
+
+    /**
+     * the returned list is observed, all modifications of it (also through its iterators and subLists) are notified
+     * to the RecyclerView. it is replaced if new drawerItems are set
+     *
+     * @return the drawerItems
+     */
+    public ArrayList<IDrawerItem> getDrawerItems() {
+        return mDrawerItems;
+    }
+
+    /**
+     * replaces the list which is used by the adapter, the previous list is not observed anymore
+     *
+     * @param drawerItems the items are copied into a new observed list
+     */
+    private void replaceDrawerItems(List<IDrawerItem> drawerItems) {
+        mDrawerItems.detach();
+        mDrawerItems = new ObservableDrawerItemList(drawerItems, mDrawerItemsObserver);
+        invalidateFilter();
+    }
+
+    /**
+     * replaces the drawerItems. only the items which were removed, moved, added or replaced by another instance
+     * (matched by their identifier) are notified. the items are copied into the observed list of the adapter
+     *
+     * @param drawerItems
+     */
+    public void setDrawerItems(ArrayList<IDrawerItem> drawerItems) {
+        mItemsGeneration = mItemsGeneration + 1;
+
+        ArrayList<IDrawerItem> previous = mDrawerItems;
+        List<IDrawerItem> previousVisible = mHiddenCount == 0 ? previous : getVisibleItems(previous);
+        boolean sourceReplaced = mDrawerItemSource != null;
+        mDrawerItemSource = null;
+        if (previous != drawerItems) {
+            replaceDrawerItems(drawerItems);
+        }
+        mapDrawerItems();
+        updateSegments();
+        invalidateIdentifierIndex();
+
+        if (previous == drawerItems || sourceReplaced) {
+            //the list was modified in place (or the items were provided by a source), we can't know what changed
+            notifyAdapterDataSetChanged();
+        } else {
+            DrawerItemDiff.calculate(previousVisible, getVisibleItems(drawerItems)).dispatchUpdatesTo(this, getHeaderItemCount());
+        }
+    }
+
+    /**
+     * replaces the drawerItems like setDrawerItems, but calculates the diff on a background thread.
+     * the new items and the notifications are applied on the main thread afterwards. if the drawerItems are
+     * replaced again before the diff was applied, the outdated result is dropped.
+     * the list must not be modified until it was applied.
+     *
+     * @param drawerItems
+     * @param onApplied   called on the main thread after the items were applied (can be null)
+     */
+    public void setDrawerItemsAsync(final ArrayList<IDrawerItem> drawerItems, final Runnable onApplied) {
+        if (mDrawerItemSource != null) {
+            //there is nothing to compare with the items of a source
+            setDrawerItems(drawerItems);
+            if (onApplied != null) {
+                onApplied.run();
+            }
+            return;
+        }
+        mItemsGeneration = mItemsGeneration + 1;
+        calculateDiffAsync(mItemsGeneration, drawerItems, onApplied);
+    }
+
+    private void calculateDiffAsync(final int generation, final ArrayList<IDrawerItem> drawerItems, final Runnable onApplied) {
+        //the worker only works with the copies, so the current list can still be modified on the main thread
+        final ArrayList<IDrawerItem> previous = new ArrayList<>(mDrawerItems);
+        final List<IDrawerItem> previousVisible = mHiddenCount == 0 ? previous : getVisibleItems(previous);
+        //the visibility depends on the filter, so it is resolved on the main thread
+        final List<IDrawerItem> visible = getVisibleItems(drawerItems);
+        final int visibilityGeneration = mVisibilityGeneration;
+
+        DrawerItemDiff.getExecutor().execute(new Runnable() {
+            @Override
+            public void run() {
+                if (generation != mItemsGeneration) {
+                    return;
+                }
+                final DrawerItemDiff diff = DrawerItemDiff.calculate(previousVisible, visible);
+
+                mMainHandler.post(new Runnable() {
+                    @Override
+                    public void run() {
+                        if (generation != mItemsGeneration) {
+                            return;
+                        }
+                        if (visibilityGeneration != mVisibilityGeneration || !sameInstances(previous, mDrawerItems)) {
+                            //the items or their visibility were modified in the meantime, the diff is based on an outdated list
+                            calculateDiffAsync(generation, drawerItems, onApplied);
+                            return;
+                        }
+
+                        replaceDrawerItems(drawerItems);
+                        mapDrawerItems();
+                        updateSegments();
+                        invalidateIdentifierIndex();
+                        diff.dispatchUpdatesTo(BaseDrawerAdapter.this, getHeaderItemCount());
+
+                        if (onApplied != null) {
+                            onApplied.run();
+                        }
+                    }
+                });
+            }
+        });
+    }
+
+    /**
+     * replaces the drawerItems with a source which creates them on demand. only the items around the shown positions
+     * are created, and at most maxItems of them are kept. the header and footer items are not affected
+     *
+     * @param drawerItemSource
+     * @param maxItems
+     */
+    public void setDrawerItemSource(IDrawerItemSource drawerItemSource, int maxItems) {
+        mItemsGeneration = mItemsGeneration + 1;
+
+        replaceDrawerItems(Collections.<IDrawerItem>emptyList());
+        mIdentifierCounts.clear();
+        mDrawerItemSource = new DrawerItemSourceCache(drawerItemSource, maxItems) {
+            @Override
+            void onItemCreated(IDrawerItem drawerItem) {
+                //items are created again after they were dropped, so restore their selection
+                if (mSelection.isSelectedIdentifier(drawerItem.getIdentifier())) {
+                    drawerItem.withSetSelected(true);
+                } else {
+                    mSelection.track(drawerItem);
+                }
+            }
+        };
+        updateSegments();
+        invalidateIdentifierIndex();
+        notifyAdapterDataSetChanged();
+    }
+
+    /**
+     * @return the source of the drawerItems or null if they are defined by a list
+     */
+    public IDrawerItemSource getDrawerItemSource() {
+        return mDrawerItemSource == null ? null : mDrawerItemSource.getSource();
+    }
+
+    /**
+     * drops the created items of the source and shows the current items of it. call this if the source changed
+     */
+    public void notifyDrawerItemSourceChanged() {
+        if (mDrawerItemSource != null) {
+            mDrawerItemSource.clear();
+            updateSegments();
+            invalidateIdentifierIndex();
+            notifyAdapterDataSetChanged();
+        }
+    }
+
+    private void checkNoDrawerItemSource() {
+        if (mDrawerItemSource != null) {
+            throw new RuntimeException("the drawerItems are provided by an IDrawerItemSource and can't be modified");
+        }
+    }
+
+    /**
+     * compares the lists by the instances of their items (equals of the items only compares the identifier)
+     */
+    private static boolean sameInstances(List<IDrawerItem> first, List<IDrawerItem> second) {
+        if (first.size() != second.size()) {
+            return false;
+        }
+        for (int i = 0; i < first.size(); i++) {
+            if (first.get(i) != second.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public void addDrawerItems(IDrawerItem... drawerItems) {
+        checkNoDrawerItemSource();
+        if (drawerItems != null) {
+            mDrawerItems.addAll(Arrays.asList(drawerItems));
+        }
+    }
+
+    public void setDrawerItem(int position, IDrawerItem drawerItem) {
+        checkNoDrawerItemSource();
+        mDrawerItems.set(getDrawerItemIndex(position), drawerItem);
+    }
+
+    public void addDrawerItem(IDrawerItem drawerItem) {
+        checkNoDrawerItemSource();
+        mDrawerItems.add(drawerItem);
+    }
+
+    public void addDrawerItem(int position, IDrawerItem drawerItem) {
+        checkNoDrawerItemSource();
+        //a position after the last visible item appends the item
+        int index = position - mItemsOffset < getDrawerItemCount() ? getDrawerItemIndex(position) : mDrawerItems.size();
+        mDrawerItems.add(index, drawerItem);
+    }
+
+    /**
+     * moves the drawerItem at the position to the other position, e.g. while it is dragged.
+     * this is notified as a move, the identifier index is only updated for the items between
+     *
+     * @param fromPosition
+     * @param toPosition
+     */
+    public void moveDrawerItem(int fromPosition, int toPosition) {
+        checkNoDrawerItemSource();
+        int fromIndex = getDrawerItemIndex(fromPosition);
+        int toIndex = getDrawerItemIndex(toPosition);
+        if (fromIndex != -1 && toIndex != -1) {
+            mDrawerItems.move(fromIndex, toIndex);
+        }
+    }
+
+    /**
+     * @param position
+     * @return true if the item at the position is a drawerItem which can be dragged
+     */
+    public boolean isDraggable(int position) {
+        if (getSegment(position) != SEGMENT_ITEMS || mDrawerItemSource != null) {
+            return false;
+        }
+        IDrawerItem drawerItem = getItem(position);
+        return !(drawerItem instanceof AbstractDrawerItem) || ((AbstractDrawerItem) drawerItem).isDraggable();
+    }
+
+    public void removeDrawerItem(int position) {
+        checkNoDrawerItemSource();
+        mDrawerItems.remove(getDrawerItemIndex(position));
+    }
+
+    public void clearDrawerItems() {
+        if (mDrawerItemSource != null) {
+            int count = getDrawerItemCount();
+            mDrawerItemSource = null;
+            updateSegments();
+            invalidateIdentifierIndex();
+            if (count > 0) {
+                notifyAdapterItemRangeRemoved(getHeaderItemCount(), count);
+            }
+        } else {
+            mDrawerItems.clear();
+        }
+    }
+
+    /**
+     * shows or hides the drawerItems with the identifiers. hidden items stay in the list of drawerItems but are not
+     * shown and do not have a position. all changes are notified as one batch
+     *
+     * @param visible
+     * @param identifiers
+     */
+    public void setVisible(boolean visible, int... identifiers) {
+        if (identifiers == null || identifiers.length == 0) {
+            return;
+        }
+        IntIntHashMap toggled = new IntIntHashMap(identifiers.length, -1);
+        for (int identifier : identifiers) {
+            toggled.put(identifier, 0);
+        }
+
+        int[] changed = new int[identifiers.length];
+        int changedCount = 0;
+        for (int i = 0; i < mDrawerItems.size(); i++) {
+            IDrawerItem drawerItem = mDrawerItems.get(i);
+            if (drawerItem instanceof AbstractDrawerItem && ((AbstractDrawerItem) drawerItem).isVisible() != visible && toggled.containsKey(drawerItem.getIdentifier())) {
+                ((AbstractDrawerItem) drawerItem).withVisible(visible);
+                if (changedCount == changed.length) {
+                    changed = Arrays.copyOf(changed, changedCount * 2);
+                }
+                changed[changedCount++] = i;
+            }
+        }
+        if (changedCount > 0) {
+            notifyVisibilityChanged(changed, changedCount);
+        }
+    }
+
+    /**
+     * shows only the drawerItems whose name contains the query (ignoring the case). items without a name are hidden
+     * while filtering. the names are resolved and indexed once, a longer query only checks the items of the previous result.
+     * only the items which appear or disappear are notified, the other items are not rebound
+     *
+     * @param ctx   the context to resolve the names which are set as string resources (should not be null)
+     * @param query the query, null or empty to show all items again
+     */
+    public void filter(Context ctx, CharSequence query) {
+        checkNoDrawerItemSource();
+        if (mFilter == null) {
+            if (query == null || query.length() == 0) {
+                return;
+            }
+            mFilter = new DrawerItemFilter(ctx);
+        }
+        if (mFilter.filter(mDrawerItems, query)) {
+            notifyFilterChanged();
+        }
+    }
+
+    /**
+     * shows all drawerItems again. the selection is kept, as it is tracked by the identifiers
+     */
+    public void clearFilter() {
+        if (mFilter != null && mFilter.filter(mDrawerItems, null)) {
+            notifyFilterChanged();
+        }
+    }
+
+    /**
+     * @return the current query of the filter (lower case) or null
+     */
+    public String getFilterQuery() {
+        return mFilter == null ? null : mFilter.getQuery();
+    }
+
+    /**
+     * the filter indexes the drawerItems in the order of the list, so it has to index them again after a modification
+     */
+    private void invalidateFilter() {
+        if (mFilter != null) {
+            mFilter.invalidate();
+        }
+    }
+
+    /**
+     * notifies the items which appeared or disappeared with the last query of the filter. only the items which the filter
+     * reports as changed are checked, unless all of them may have changed (a new or cleared query, or a modified list)
+     */
+    private void notifyFilterChanged() {
+        int changedCount = mFilter.getChangedCount();
+        if (changedCount < 0) {
+            notifyVisibilityChanged();
+        } else {
+            notifyVisibilityChanged(mFilter.getChanged(), changedCount);
+        }
+    }
+
+    /**
+     * checks the visibility of the drawerItems at the indices, and notifies the items which appeared or disappeared.
+     * every change is a point update of the segment table in O(log n)
+     *
+     * @param indices the indices in mDrawerItems, sorted
+     * @param count
+     */
+    private void notifyVisibilityChanged(int[] indices, int count) {
+        beginBatch();
+        boolean changed = false;
+        for (int k = 0; k < count; k++) {
+            int index = indices[k];
+            if (index >= mVisibleFlagCount) {
+                continue;
+            }
+            boolean visible = !isHidden(mDrawerItems.get(index));
+            if (visible != (mVisibleFlags[index] == 1)) {
+                //the previous indices are already updated, so this is the position after their notifications
+                int position = getVisiblePosition(index);
+                setVisibleFlag(index, visible);
+                updateSegmentBounds();
+                if (visible) {
+                    notifyAdapterItemInserted(position);
+                } else {
+                    notifyAdapterItemRemoved(position);
+                }
+                changed = true;
+            }
+        }
+        if (changed) {
+            invalidateIdentifierIndex();
+        }
+        commitBatch();
+    }
+
+    /**
+     * compares the visibility of every drawerItem with the visibility of the segment table, and notifies the
+     * items which appeared or disappeared as ranges. the tree is rebuilt once afterwards
+     */
+    private void notifyVisibilityChanged() {
+        beginBatch();
+        int position = mItemsOffset;
+        int rangeStart = position;
+        int rangeCount = 0;
+        boolean rangeInserted = false;
+        int hiddenCount = 0;
+        boolean changed = false;
+        for (int i = 0; i < mVisibleFlagCount; i++) {
+            boolean wasVisible = mVisibleFlags[i] == 1;
+            boolean visible = !isHidden(mDrawerItems.get(i));
+            if (!visible) {
+                hiddenCount = hiddenCount + 1;
+            }
+            if (wasVisible != visible) {
+                mVisibleFlags[i] = visible ? 1 : 0;
+                changed = true;
+                if (rangeCount > 0 && rangeInserted != visible) {
+                    notifyVisibilityRange(rangeStart, rangeCount, rangeInserted);
+                    rangeCount = 0;
+                }
+                if (rangeCount == 0) {
+                    rangeStart = position;
+                    rangeInserted = visible;
+                }
+                rangeCount = rangeCount + 1;
+            } else if (visible && rangeCount > 0) {
+                notifyVisibilityRange(rangeStart, rangeCount, rangeInserted);
+                rangeCount = 0;
+            }
+            if (visible) {
+                position = position + 1;
+            }
+        }
+        if (rangeCount > 0) {
+            notifyVisibilityRange(rangeStart, rangeCount, rangeInserted);
+        }
+        if (changed) {
+            mHiddenCount = hiddenCount;
+            mVisibleItems.build(mVisibleFlags, mVisibleFlagCount);
+            mVisibilityGeneration = mVisibilityGeneration + 1;
+            updateSegmentBounds();
+            invalidateIdentifierIndex();
+        }
+        commitBatch();
+    }
+
+    private void notifyVisibilityRange(int position, int count, boolean inserted) {
+        if (inserted) {
+            notifyAdapterItemRangeInserted(position, count);
+        } else {
+            notifyAdapterItemRangeRemoved(position, count);
+        }
+    }
+
+    /**
+     * expands the ExpandableDrawerItem at the position. its subItems are created on the first expand,
+     * and are inserted below it as one range
+     *
+     * @param position
+     */
+    public void expand(int position) {
+        IDrawerItem drawerItem = getItem(position);
+        int index = getDrawerItemIndex(position);
+        if (!(drawerItem instanceof ExpandableDrawerItem) || index == -1 || mDrawerItemSource != null || ((ExpandableDrawerItem) drawerItem).isExpanded()) {
+            return;
+        }
+        ExpandableDrawerItem expandableDrawerItem = (ExpandableDrawerItem) drawerItem;
+        expandableDrawerItem.withSetExpanded(true);
+        notifyAdapterItemChanged(position, DrawerItemPayload.EXPANDED);
+
+        //the list notifies the inserted subItems
+        mDrawerItems.addAll(index + 1, expandableDrawerItem.getSubItems());
+    }
+
+    /**
+     * collapses the ExpandableDrawerItem at the position. its subItems (and the subItems of expanded subItems)
+     * are removed as one range, but kept by the item for the next expand
+     *
+     * @param position
+     */
+    public void collapse(int position) {
+        IDrawerItem drawerItem = getItem(position);
+        int index = getDrawerItemIndex(position);
+        if (!(drawerItem instanceof ExpandableDrawerItem) || index == -1 || mDrawerItemSource != null || !((ExpandableDrawerItem) drawerItem).isExpanded()) {
+            return;
+        }
+        int count = collapseSubItems((ExpandableDrawerItem) drawerItem, index + 1);
+        notifyAdapterItemChanged(position, DrawerItemPayload.EXPANDED);
+
+        //the list notifies the removed subItems
+        mDrawerItems.subList(index + 1, index + 1 + count).clear();
+    }
+
+    /**
+     * expands the ExpandableDrawerItem at the position if it is collapsed, and collapses it otherwise
+     *
+     * @param position
+     */
+    public void toggleExpanded(int position) {
+        IDrawerItem drawerItem = getItem(position);
+        if (drawerItem instanceof ExpandableDrawerItem) {
+            if (((ExpandableDrawerItem) drawerItem).isExpanded()) {
+                collapse(position);
+            } else {
+                expand(position);
+            }
+        }
+    }
+
+    /**
+     * marks the item and its expanded subItems as collapsed
+     *
+     * @param expandableDrawerItem
+     * @param index                the index of the first subItem in mDrawerItems
+     * @return the amount of the following items in mDrawerItems which belong to the expanded item
+     */
+    private int collapseSubItems(ExpandableDrawerItem expandableDrawerItem, int index) {
+        int start = index;
+        if (expandableDrawerItem.isExpanded() && expandableDrawerItem.hasSubItems()) {
+            for (IDrawerItem subItem : expandableDrawerItem.getSubItems()) {
+                //stop if the list was modified and the subItems are no longer below their parent
+                if (index >= mDrawerItems.size() || mDrawerItems.get(index) != subItem) {
+                    break;
+                }
+                index = index + 1;
+                if (subItem instanceof ExpandableDrawerItem) {
+                    index = index + collapseSubItems((ExpandableDrawerItem) subItem, index);
+                }
+            }
+        }
+        expandableDrawerItem.withSetExpanded(false);
+        return index - start;
+    }
+
+    public void clearHeaderItems() {
+        int size = mHeaderDrawerItems.size();
+        mHeaderDrawerItems.clear();
+        updateSegmentBounds();
+        invalidateIdentifierIndex();
+        if (size > 0) {
+            notifyAdapterItemRangeRemoved(0, size);
+        }
+    }
+
+    public void clearFooterItems() {
+        int count = mFooterDrawerItems.size();
+        mFooterDrawerItems.clear();
+        updateSegmentBounds();
+        invalidateIdentifierIndex();
+        if (count > 0) {
+            notifyAdapterItemRangeRemoved(mFooterOffset, count);
+        }
+    }
+
+    public ArrayList<IDrawerItem> getHeaderDrawerItems() {
+        return mHeaderDrawerItems;
+    }
+
+    public void setHeaderDrawerItems(ArrayList<IDrawerItem> mHeaderDrawerItems) {
+        int previousCount = getHeaderItemCount();
+        this.mHeaderDrawerItems = mHeaderDrawerItems;
+        mapPossibleTypes(mHeaderDrawerItems);
+        updateSegmentBounds();
+        invalidateIdentifierIndex();
+        notifyAdapterSegmentReplaced(0, previousCount, getHeaderItemCount());
+    }
+
+    public void addHeaderDrawerItems(IDrawerItem... drawerItems) {
+        if (drawerItems != null && drawerItems.length > 0) {
+            int previousCount = mHeaderDrawerItems.size();
+            Collections.addAll(mHeaderDrawerItems, drawerItems);
+            mapPossibleTypes(mHeaderDrawerItems);
+            updateSegmentBounds();
+            invalidateIdentifierIndex();
+            //the headers are added after the existing ones
+            notifyAdapterItemRangeInserted(previousCount, drawerItems.length);
+        }
+    }
+
+    public ArrayList<IDrawerItem> getFooterDrawerItems() {
+        return mFooterDrawerItems;
+    }
+
+    public void setFooterDrawerItems(ArrayList<IDrawerItem> mFooterDrawerItems) {
+        int previousCount = getFooterItemCount();
+        this.mFooterDrawerItems = mFooterDrawerItems;
+        mapPossibleTypes(mFooterDrawerItems);
+        updateSegmentBounds();
+        invalidateIdentifierIndex();
+        notifyAdapterSegmentReplaced(mFooterOffset, previousCount, getFooterItemCount());
+    }
+
+    public void addFooterDrawerItems(IDrawerItem... drawerItems) {
+        if (drawerItems != null && drawerItems.length > 0) {
+            Collections.addAll(mFooterDrawerItems, drawerItems);
+            mapPossibleTypes(mFooterDrawerItems);
+            updateSegmentBounds();
+            invalidateIdentifierIndex();
+            //the footers are added after the existing ones, at the end of the adapter
+            notifyAdapterItemRangeInserted(mItemCount - drawerItems.length, drawerItems.length);
+        }
+    }
+
+    /**
+     * notifies the replacement of all items of the header or footer segment. the items which exist before and after
+     * are notified as changed, the rest as inserted or removed at the end of the segment
+     *
+     * @param start         the position of the segment
+     * @param previousCount the amount of items before
+     * @param count         the amount of items now
+     */
+    private void notifyAdapterSegmentReplaced(int start, int previousCount, int count) {
+        int changed = Math.min(previousCount, count);
+        beginBatch();
+        if (changed > 0) {
+            notifyAdapterItemRangeChanged(start, changed);
+        }
+        if (previousCount > count) {
+            notifyAdapterItemRangeRemoved(start + count, previousCount - count);
+        } else if (count > previousCount) {
+            notifyAdapterItemRangeInserted(start + previousCount, count - previousCount);
+        }
+        commitBatch();
+    }
+
+    /**
+     * updates the cached boundaries of the header, drawerItems and footer segments, and resolves the visibility of all
+     * drawerItems again. this has to be called after a bulk modification of the lists, the adapter does this for all its
+     * own methods and for every notify if it is attached to a RecyclerView
+     */
+    protected void updateSegments() {
+        int drawerItemCount = getDrawerItemListSize();
+
+        //hidden (or filtered) drawerItems are skipped, there are no flags for a source
+        int hiddenCount = 0;
+        if (mDrawerItemSource == null) {
+            if (mVisibleFlags.length < drawerItemCount) {
+                mVisibleFlags = Arrays.copyOf(mVisibleFlags, Math.max(drawerItemCount, mVisibleFlags.length * 2));
+            }
+            boolean visibilityChanged = false;
+            for (int i = 0; i < drawerItemCount; i++) {
+                int flag = isHidden(mDrawerItems.get(i)) ? 0 : 1;
+                if (i < mVisibleFlagCount && mVisibleFlags[i] != flag) {
+                    visibilityChanged = true;
+                }
+                mVisibleFlags[i] = flag;
+                hiddenCount = hiddenCount + 1 - flag;
+            }
+            if (visibilityChanged || hiddenCount != mHiddenCount) {
+                mVisibilityGeneration = mVisibilityGeneration + 1;
+            }
+            mVisibleFlagCount = drawerItemCount;
+            mVisibleItems.build(mVisibleFlags, drawerItemCount);
+        } else {
+            mVisibleFlagCount = 0;
+        }
+        mHiddenCount = hiddenCount;
+
+        updateSegmentBounds();
+    }
+
+    /**
+     * updates only the cached boundaries of the segments in O(1). the visibility of the drawerItems has to be up to date
+     */
+    private void updateSegmentBounds() {
+        int headerCount = mHeaderDrawerItems == null ? 0 : mHeaderDrawerItems.size();
+        int drawerItemCount = getDrawerItemListSize();
+        int footerCount = mFooterDrawerItems == null ? 0 : mFooterDrawerItems.size();
+
+        mItemsOffset = headerCount;
+        mFooterOffset = headerCount + drawerItemCount - mHiddenCount;
+        mItemCount = mFooterOffset + footerCount;
+        mUpdatedListSizes = headerCount + drawerItemCount + footerCount;
+    }
+
+    /**
+     * updates the visibility of a single drawerItem with a point update of the tree in O(log n)
+     *
+     * @param index
+     * @param visible
+     */
+    private void setVisibleFlag(int index, boolean visible) {
+        int flag = visible ? 1 : 0;
+        if (index >= mVisibleFlagCount || mVisibleFlags[index] == flag) {
+            return;
+        }
+        mVisibleFlags[index] = flag;
+        mVisibleItems.add(index, visible ? 1 : -1);
+        mHiddenCount = mHiddenCount + (visible ? -1 : 1);
+        mVisibilityGeneration = mVisibilityGeneration + 1;
+    }
+
+    /**
+     * resolves the visibility of the inserted drawerItems. items appended at the end are added to the tree in O(log n)
+     * each, the tree is only rebuilt if they are inserted before other items
+     *
+     * @param index
+     * @param count
+     * @return the amount of visible drawerItems which were inserted
+     */
+    private int insertVisibleFlags(int index, int count) {
+        int size = mVisibleFlagCount + count;
+        if (mVisibleFlags.length < size) {
+            mVisibleFlags = Arrays.copyOf(mVisibleFlags, Math.max(size, mVisibleFlags.length * 2));
+        }
+        boolean append = index == mVisibleFlagCount;
+        if (!append) {
+            System.arraycopy(mVisibleFlags, index, mVisibleFlags, index + count, mVisibleFlagCount - index);
+        }
+        int visibleCount = 0;
+        for (int i = index; i < index + count; i++) {
+            int flag = isHidden(mDrawerItems.get(i)) ? 0 : 1;
+            mVisibleFlags[i] = flag;
+            visibleCount = visibleCount + flag;
+            if (append) {
+                mVisibleItems.append(flag);
+            }
+        }
+        mVisibleFlagCount = size;
+        if (!append) {
+            mVisibleItems.build(mVisibleFlags, size);
+        }
+        if (visibleCount < count) {
+            mHiddenCount = mHiddenCount + count - visibleCount;
+            mVisibilityGeneration = mVisibilityGeneration + 1;
+        }
+        return visibleCount;
+    }
+
+    /**
+     * drops the visibility of the removed drawerItems. items removed at the end are cut from the tree in O(1), the tree
+     * is only rebuilt if other items follow them
+     *
+     * @param index
+     * @param count
+     * @return the amount of visible drawerItems which were removed
+     */
+    private int removeVisibleFlags(int index, int count) {
+        int visibleCount = 0;
+        for (int i = index; i < index + count; i++) {
+            visibleCount = visibleCount + mVisibleFlags[i];
+        }
+        int size = mVisibleFlagCount - count;
+        boolean truncate = index + count == mVisibleFlagCount;
+        if (!truncate) {
+            System.arraycopy(mVisibleFlags, index + count, mVisibleFlags, index, size - index);
+        }
+        mVisibleFlagCount = size;
+        if (truncate) {
+            mVisibleItems.truncate(size);
+        } else {
+            mVisibleItems.build(mVisibleFlags, size);
+        }
+        if (visibleCount < count) {
+            mHiddenCount = mHiddenCount - (count - visibleCount);
+            mVisibilityGeneration = mVisibilityGeneration + 1;
+        }
+        return visibleCount;
+    }
+
+    /**
+     * moves the visibility of a drawerItem. only the values between both indices which differ are updated in the tree
+     *
+     * @param fromIndex
+     * @param toIndex
+     */
+    private void moveVisibleFlag(int fromIndex, int toIndex) {
+        if (fromIndex == toIndex) {
+            return;
+        }
+        int flag = mVisibleFlags[fromIndex];
+        int step = fromIndex < toIndex ? 1 : -1;
+        for (int i = fromIndex; i != toIndex; i = i + step) {
+            int next = mVisibleFlags[i + step];
+            if (next != mVisibleFlags[i]) {
+                mVisibleItems.add(i, next - mVisibleFlags[i]);
+                mVisibleFlags[i] = next;
+            }
+        }
+        if (mVisibleFlags[toIndex] != flag) {
+            mVisibleItems.add(toIndex, flag - mVisibleFlags[toIndex]);
+            mVisibleFlags[toIndex] = flag;
+        }
+    }
+
+    /**
+     * @return the amount of drawerItems including the hidden ones
+     */
+    private int getDrawerItemListSize() {
+        if (mDrawerItemSource != null) {
+            return mDrawerItemSource.getSource().getCount();
+        }
+        return mDrawerItems == null ? 0 : mDrawerItems.size();
+    }
+
+    /**
+     * updates the segments only if the size of a list changed since the last update (a list was modified from the outside)
+     */
+    private void updateSegmentsIfModified() {
+        int headerCount = mHeaderDrawerItems == null ? 0 : mHeaderDrawerItems.size();
+        int drawerItemCount = getDrawerItemListSize();
+        int footerCount = mFooterDrawerItems == null ? 0 : mFooterDrawerItems.size();
+        if (headerCount != mItemsOffset || headerCount + drawerItemCount + footerCount != mUpdatedListSizes) {
+            updateSegmentBounds();
+        }
+    }
+
+    /**
+     * @param position the position in the adapter
+     * @return the index of the drawerItem at this position in getDrawerItems, or -1 if the position is not a drawerItem
+     */
+    public int getDrawerItemIndex(int position) {
+        if (position < mItemsOffset || position >= mFooterOffset) {
+            return -1;
+        }
+        return mHiddenCount == 0 ? position - mItemsOffset : mVisibleItems.find(position - mItemsOffset);
+    }
+
+    /**
+     * @param index the index in getDrawerItems
+     * @return the position of this drawerItem in the adapter, or -1 if it is hidden
+     */
+    public int getDrawerItemPosition(int index) {
+        if (index < 0 || index >= getDrawerItemListSize() || (mHiddenCount > 0 && isHidden(mDrawerItems.get(index)))) {
+            return -1;
+        }
+        return mItemsOffset + (mHiddenCount == 0 ? index : mVisibleItems.sum(index));
+    }
+
+    /**
+     * @param index the index in getDrawerItems
+     * @return the adapter position of the first visible drawerItem at or after the index, based on the last updateSegments
+     */
+    private int getVisiblePosition(int index) {
+        return mItemsOffset + (mHiddenCount == 0 ? index : mVisibleItems.sum(index));
+    }
+
+    private boolean isHidden(IDrawerItem drawerItem) {
+        if (drawerItem instanceof AbstractDrawerItem && !((AbstractDrawerItem) drawerItem).isVisible()) {
+            return true;
+        }
+        return mFilter != null && !mFilter.matches(drawerItem);
+    }
+
+    /**
+     * @return the visible items of the list, or the list itself if all are visible
+     */
+    private List<IDrawerItem> getVisibleItems(List<IDrawerItem> drawerItems) {
+        int i = 0;
+        while (i < drawerItems.size() && !isHidden(drawerItems.get(i))) {
+            i = i + 1;
+        }
+        if (i == drawerItems.size()) {
+            return drawerItems;
+        }
+        ArrayList<IDrawerItem> visibleItems = new ArrayList<>(drawerItems.size());
+        visibleItems.addAll(drawerItems.subList(0, i));
+        for (; i < drawerItems.size(); i++) {
+            if (!isHidden(drawerItems.get(i))) {
+                visibleItems.add(drawerItems.get(i));
+            }
+        }
+        return visibleItems;
+    }
+
+    /**
+     * returns the latest snapshot of the drawerItems. it is republished on the main thread after every change notified
+     * through the notifyAdapter methods (also if the adapter is not attached to a RecyclerView), so it can be read from
+     * any thread without locking. called on the main thread the pending changes are published first.
+     * the plain notify methods of the RecyclerView.Adapter are only tracked while the adapter is attached, a detached
+     * adapter recreates the snapshot on every call on the main thread instead.
+     * if a drawerItemSource is used the snapshot contains no items
+     *
+     * @return
+     */
+    public DrawerSnapshot getSnapshot() {
+        if (Looper.myLooper() == Looper.getMainLooper()) {
+            if (!mIdentifierIndexObserved) {
+                //changes notified around the adapter can't be tracked, unchanged entries are still shared
+                mSnapshotStructural = true;
+                publishSnapshot();
+            } else if (mSnapshotDirty) {
+                publishSnapshot();
+            }
+        }
+        return mSnapshot;
     }
 
-    public BaseDrawerAdapter(ArrayList<IDrawerItem> drawerItems) {
-        setDrawerItems(drawerItems);
+    /**
+     * schedules the republishing of the whole snapshot after a structural change, the changes of one main loop message
+     * are published together
+     */
+    private void invalidateSnapshot() {
+        mSnapshotStructural = true;
+        scheduleSnapshot();
     }
 
-    public void setOnClickListener(OnClickListener mOnClickListener) {
-        this.mOnClickListener = mOnClickListener;
+    /**
+     * schedules the republishing of the snapshot entries of the changed positions
+     *
+     * @param position
+     * @param itemCount
+     */
+    private void invalidateSnapshot(int position, int itemCount) {
+        //only the drawerItems are part of the snapshot
+        int first = Math.max(position, mItemsOffset);
+        int last = Math.min(position + itemCount, mFooterOffset) - 1;
+        if (first <= last && !mSnapshotStructural) {
+            mSnapshotChangedFrom = Math.min(mSnapshotChangedFrom, getDrawerItemIndex(first));
+            mSnapshotChangedTo = Math.max(mSnapshotChangedTo, getDrawerItemIndex(last));
+            scheduleSnapshot();
+        }
     }
 
-    public void setOnLongClickListener(OnLongClickListener mOnLongClickListener) {
-        this.mOnLongClickListener = mOnLongClickListener;
+    private void scheduleSnapshot() {
+        if (!mSnapshotDirty) {
+            mSnapshotDirty = true;
+            mMainHandler.post(mPublishSnapshotRunnable);
+        }
     }
 
-    public ArrayList<IDrawerItem> getDrawerItems() {
-        return mDrawerItems;
+    private void publishSnapshot() {
+        if (mSnapshotStructural || mSnapshot.getItems().size() != mDrawerItems.size()) {
+            mSnapshot = DrawerSnapshot.create(mDrawerItems, mSnapshot);
+        } else if (mSnapshotChangedFrom <= mSnapshotChangedTo) {
+            mSnapshot = DrawerSnapshot.update(mDrawerItems, mSnapshot, mSnapshotChangedFrom, mSnapshotChangedTo);
+        }
+        mSnapshotDirty = false;
+        mSnapshotStructural = false;
+        mSnapshotChangedFrom = Integer.MAX_VALUE;
+        mSnapshotChangedTo = -1;
     }
 
-    public void setDrawerItems(ArrayList<IDrawerItem> drawerItems) {
-        mDrawerItems = drawerItems;
-        mapPossibleTypes(drawerItems);
-        notifyItemRangeChanged(getHeaderItemCount(), getDrawerItemCount());
+    /**
+     * opens a batch. all notifications are collected until the batch is committed, and then dispatched
+     * as the minimal set of merged notifications. batches can be nested, only the outer commit dispatches
+     */
+    public void beginBatch() {
+        mBatchDepth = mBatchDepth + 1;
     }
 
-    public void addDrawerItems(IDrawerItem... drawerItems) {
-        int length = mDrawerItems.size();
-        if (drawerItems != null) {
-            Collections.addAll(mDrawerItems, drawerItems);
-            mapPossibleTypes(mDrawerItems);
-            notifyItemRangeInserted(length, drawerItems.length);
+    /**
+     * commits the batch opened with beginBatch
+     */
+    public void commitBatch() {
+        if (mBatchDepth == 0) {
+            throw new RuntimeException("commitBatch called without beginBatch");
+        }
+        mBatchDepth = mBatchDepth - 1;
+        if (mBatchDepth == 0 && !mBatch.isEmpty()) {
+            mBatch.dispatchTo(mRecyclerViewReceiver);
         }
     }
 
-    public void setDrawerItem(int position, IDrawerItem drawerItem) {
-        mDrawerItems.set(position - getHeaderItemCount(), drawerItem);
-        mapPossibleType(drawerItem);
-        notifyItemChanged(position);
+    /**
+     * @return the receiver which forwards notifications to the notify methods of this adapter
+     */
+    DrawerNotificationReceiver getNotificationReceiver() {
+        return mAdapterReceiver;
     }
 
-    public void addDrawerItem(IDrawerItem drawerItem) {
-        mDrawerItems.add(drawerItem);
-        mapPossibleType(drawerItem);
-        notifyItemInserted(mDrawerItems.size());
+    /**
+     * @return true if a batch is currently open
+     */
+    public boolean isBatching() {
+        return mBatchDepth > 0;
     }
 
-    public void addDrawerItem(int position, IDrawerItem drawerItem) {
-        mDrawerItems.add(position - getHeaderItemCount(), drawerItem);
-        mapPossibleType(drawerItem);
-        notifyItemInserted(position);
+    /**
+     * notifies the RecyclerView that all items changed, or records it if a batch is open
+     */
+    public void notifyAdapterDataSetChanged() {
+        invalidateSnapshot();
+        if (mBatchDepth > 0) {
+            mBatch.dataSetChanged();
+        } else {
+            notifyDataSetChanged();
+        }
     }
 
-    public void removeDrawerItem(int position) {
-        mDrawerItems.remove(position - getHeaderItemCount());
-        notifyItemRemoved(position);
+    public void notifyAdapterItemInserted(int position) {
+        notifyAdapterItemRangeInserted(position, 1);
     }
 
-    public void clearDrawerItems() {
-        int count = mDrawerItems.size();
-        mDrawerItems.clear();
-        notifyItemRangeRemoved(getHeaderItemCount(), count);
+    public void notifyAdapterItemRangeInserted(int position, int itemCount) {
+        invalidateSnapshot();
+        if (mBatchDepth > 0) {
+            mBatch.insert(position, itemCount);
+        } else {
+            notifyItemRangeInserted(position, itemCount);
+        }
     }
 
-    public void clearHeaderItems() {
-        int size = mHeaderDrawerItems.size();
-        mHeaderDrawerItems.clear();
-        if (size > 0) {
-            notifyItemRemoved(0);
+    public void notifyAdapterItemRemoved(int position) {
+        notifyAdapterItemRangeRemoved(position, 1);
+    }
+
+    public void notifyAdapterItemRangeRemoved(int position, int itemCount) {
+        invalidateSnapshot();
+        if (mBatchDepth > 0) {
+            mBatch.remove(position, itemCount);
+        } else {
+            notifyItemRangeRemoved(position, itemCount);
         }
     }
 
-    public void clearFooterItems() {
-        int count = mFooterDrawerItems.size();
-        mFooterDrawerItems.clear();
-        notifyItemRangeRemoved(getHeaderItemCount() + getDrawerItemCount(), count);
+    public void notifyAdapterItemMoved(int fromPosition, int toPosition) {
+        invalidateSnapshot();
+        //the index is updated right away, so lookups within a batch already find the moved item
+        moveIdentifierIndex(fromPosition, toPosition);
+        if (mBatchDepth > 0) {
+            mBatch.move(fromPosition, toPosition);
+        } else {
+            dispatchItemMoved(fromPosition, toPosition);
+        }
     }
 
-    public ArrayList<IDrawerItem> getHeaderDrawerItems() {
-        return mHeaderDrawerItems;
+    /**
+     * notifies the RecyclerView about a move which was already applied to the identifier index
+     *
+     * @param fromPosition
+     * @param toPosition
+     */
+    private void dispatchItemMoved(int fromPosition, int toPosition) {
+        mDispatchingMove = true;
+        try {
+            notifyItemMoved(fromPosition, toPosition);
+        } finally {
+            mDispatchingMove = false;
+        }
     }
 
-    public void setHeaderDrawerItems(ArrayList<IDrawerItem> mHeaderDrawerItems) {
-        this.mHeaderDrawerItems = mHeaderDrawerItems;
-        notifyItemRangeInserted(0, mHeaderDrawerItems.size());
-        mapPossibleTypes(mHeaderDrawerItems);
+    public void notifyAdapterItemChanged(int position) {
+        notifyAdapterItemRangeChanged(position, 1);
     }
 
-    public void addHeaderDrawerItems(IDrawerItem... drawerItems) {
-        if (drawerItems != null) {
-            Collections.addAll(mHeaderDrawerItems, drawerItems);
-            notifyItemRangeInserted(0, drawerItems.length);
+    public void notifyAdapterItemRangeChanged(int position, int itemCount) {
+        invalidateSnapshot(position, itemCount);
+        if (mBatchDepth > 0) {
+            mBatch.change(position, itemCount, 0);
+        } else {
+            notifyItemRangeChanged(position, itemCount);
         }
-        mapPossibleTypes(mHeaderDrawerItems);
     }
 
-    public ArrayList<IDrawerItem> getFooterDrawerItems() {
-        return mFooterDrawerItems;
+    /**
+     * notifies the RecyclerView that a part of the item changed, so it is only partially rebound
+     *
+     * @param position
+     * @param payload
+     */
+    public void notifyAdapterItemChanged(int position, DrawerItemPayload payload) {
+        notifyAdapterItemRangeChanged(position, 1, payload);
     }
 
-    public void setFooterDrawerItems(ArrayList<IDrawerItem> mFooterDrawerItems) {
-        this.mFooterDrawerItems = mFooterDrawerItems;
-        notifyItemRangeInserted(0, mFooterDrawerItems.size());
-        mapPossibleTypes(mFooterDrawerItems);
+    public void notifyAdapterItemRangeChanged(int position, int itemCount, DrawerItemPayload payload) {
+        if (mFilter != null && payload == DrawerItemPayload.NAME) {
+            notifyAdapterItemRangeRenamed(position, itemCount);
+            return;
+        }
+        invalidateSnapshot(position, itemCount);
+        if (mBatchDepth > 0) {
+            mBatch.change(position, itemCount, payload.flag());
+        } else {
+            notifyItemRangeChanged(position, itemCount, payload);
+        }
     }
 
-    public void addFooterDrawerItems(IDrawerItem... drawerItems) {
-        if (drawerItems != null) {
-            Collections.addAll(mFooterDrawerItems, drawerItems);
-            notifyItemRangeInserted(0, drawerItems.length);
+    /**
+     * rebinds the names of the renamed items while a filter is active. the filter resolves their new names, and the items
+     * which don't match the query anymore are removed
+     *
+     * @param position
+     * @param itemCount
+     */
+    private void notifyAdapterItemRangeRenamed(int position, int itemCount) {
+        //the indices of the renamed drawerItems, they are sorted as the positions are
+        int[] indices = new int[itemCount];
+        int count = 0;
+        for (int i = position; i < position + itemCount; i++) {
+            int index = getDrawerItemIndex(i);
+            if (index != -1) {
+                mFilter.forget(mDrawerItems.get(index));
+                indices[count++] = index;
+            }
         }
-        mapPossibleTypes(mFooterDrawerItems);
+
+        beginBatch();
+        invalidateSnapshot(position, itemCount);
+        mBatch.change(position, itemCount, DrawerItemPayload.NAME.flag());
+        notifyVisibilityChanged(indices, count);
+        commitBatch();
     }
 
     /**
@@ -158,33 +1428,358 @@ public abstract class BaseDrawerAdapter extends RecyclerView.Adapter<RecyclerVie
     /**
      * internal mapper to remember and add possible types for the RecyclerView
      */
-    private void mapPossibleType(IDrawerItem drawerItem) {
-        if (!mTypeInstances.containsKey(drawerItem.getType())) {
-            mTypeIds.add(drawerItem.getType());
-            mTypeInstances.put(drawerItem.getType(), drawerItem);
+    private int mapPossibleType(IDrawerItem drawerItem) {
+        //every item gets an unique identifier, they are used as stable ids
+        IdDistributor.checkId(drawerItem);
+
+        int typeId = registerType(drawerItem);
+        //every added item passes here, so the selection also knows the items which were selected before
+        mSelection.track(drawerItem);
+        return typeId;
+    }
+
+    /**
+     * registers the type of the drawerItem, and remembers the item to create the ViewHolders of this type
+     *
+     * @return the viewType
+     */
+    private int registerType(IDrawerItem drawerItem) {
+        int typeId = mTypeRegistry.register(drawerItem);
+        if (typeId >= mTypeInstances.length) {
+            IDrawerItem[] typeInstances = new IDrawerItem[Math.max(typeId + 1, mTypeInstances.length * 2)];
+            System.arraycopy(mTypeInstances, 0, typeInstances, 0, mTypeInstances.length);
+            mTypeInstances = typeInstances;
+        }
+        if (mTypeInstances[typeId] == null) {
+            mTypeInstances[typeId] = drawerItem;
+        }
+        return typeId;
+    }
+
+    /**
+     * creates a ViewHolder of the type of the drawerItem, e.g. to put it into the RecycledViewPool before it is needed.
+     * the drawerItem does not have to be part of the adapter
+     *
+     * @param parent the RecyclerView which will show the ViewHolder
+     * @param drawerItem
+     * @return
+     */
+    public RecyclerView.ViewHolder createViewHolder(ViewGroup parent, IDrawerItem drawerItem) {
+        return createViewHolder(parent, registerType(drawerItem));
+    }
+
+    /**
+     * registers the types and counts the identifiers of all drawerItems, after the list was replaced
+     */
+    private void mapDrawerItems() {
+        mIdentifierCounts.clear();
+        for (int i = 0; i < mDrawerItems.size(); i++) {
+            mapPossibleType(mDrawerItems.get(i));
+            countIdentifier(mDrawerItems.get(i), 1);
+        }
+    }
+
+    /**
+     * counts how often an identifier is used by the drawerItems, to warn about duplicates as soon as they are added.
+     * duplicates break the lookups by identifier and the stable ids
+     *
+     * @param drawerItem
+     * @param delta      1 if the item was added, -1 if it was removed
+     */
+    private void countIdentifier(IDrawerItem drawerItem, int delta) {
+        if (drawerItem == null || drawerItem.getIdentifier() < 0) {
+            return;
+        }
+        int identifier = drawerItem.getIdentifier();
+        int count = mIdentifierCounts.get(identifier) + delta;
+        if (count > 0) {
+            mIdentifierCounts.put(identifier, count);
+        } else {
+            mIdentifierCounts.remove(identifier);
+        }
+        if (delta > 0 && count == 2) {
+            Log.w(TAG, "the identifier " + identifier + " is used by multiple drawerItems, only the first one can be found by its identifier");
+        }
+    }
+
+    /**
+     * calculates the position of an drawerItem by it's identifier. The lookup uses an index which
+     * is kept up to date by the adapter, so this is O(1) after the first call following a structural change
+     *
+     * @param identifier
+     * @return the position or -1 if there is no item with this identifier
+     */
+    public int getPosition(int identifier) {
+        if (identifier < 0) {
+            return -1;
+        }
+
+        if (mIdentifierIndexDirty) {
+            rebuildIdentifierIndex();
+        }
+
+        int position = mIdentifierIndex.get(identifier);
+        if (position != -1) {
+            IDrawerItem drawerItem = getItem(position);
+            //the lists were modified without the adapter knowing about it
+            if (drawerItem == null || drawerItem.getIdentifier() != identifier) {
+                rebuildIdentifierIndex();
+                position = mIdentifierIndex.get(identifier);
+            }
+        }
+
+        //the items of a source are not indexed, the source knows their positions
+        if (position == -1 && mDrawerItemSource != null) {
+            int sourcePosition = mDrawerItemSource.getSource().getPosition(identifier);
+            if (sourcePosition != -1) {
+                position = mItemsOffset + sourcePosition;
+            }
+        }
+        return position;
+    }
+
+    /**
+     * marks the identifier index as outdated. it will be rebuilt with the next lookup
+     */
+    protected void invalidateIdentifierIndex() {
+        mIdentifierIndexDirty = true;
+    }
+
+    /**
+     * rebuilds the identifier index. if an identifier is used multiple times the first position wins
+     */
+    private void rebuildIdentifierIndex() {
+        mIdentifierIndex.clear();
+        int count = getItemCount();
+        for (int i = 0; i < count; i++) {
+            //indexing the items of a source would create all of them
+            if (mDrawerItemSource != null && i == mItemsOffset) {
+                i = mFooterOffset;
+                if (i >= count) {
+                    break;
+                }
+            }
+            int identifier = getItem(i).getIdentifier();
+            if (identifier >= 0) {
+                mIdentifierIndex.putIfAbsent(identifier, i);
+            }
+        }
+        mHiddenIdentifierIndex.clear();
+        if (mHiddenCount > 0) {
+            int size = Math.min(mVisibleFlagCount, mDrawerItems.size());
+            for (int i = 0; i < size; i++) {
+                if (mVisibleFlags[i] == 0) {
+                    int identifier = mDrawerItems.get(i).getIdentifier();
+                    if (identifier >= 0) {
+                        mHiddenIdentifierIndex.putIfAbsent(identifier, i);
+                    }
+                }
+            }
+        }
+        mIdentifierIndexDirty = false;
+    }
+
+    /**
+     * @param index
+     * @param identifier
+     * @return true if the drawerItem at the index is hidden and has the identifier
+     */
+    private boolean isHiddenIndex(int index, int identifier) {
+        return index < mVisibleFlagCount && index < mDrawerItems.size() && mVisibleFlags[index] == 0 && mDrawerItems.get(index).getIdentifier() == identifier;
+    }
+
+    /**
+     * updates the identifier index for an item which was replaced without changing the structure of the list
+     *
+     * @param previous
+     * @param drawerItem
+     * @param position
+     */
+    private void updateIdentifierIndex(IDrawerItem previous, IDrawerItem drawerItem, int position) {
+        if (!mIdentifierIndexDirty) {
+            if (previous != null && mIdentifierIndex.get(previous.getIdentifier()) == position) {
+                mIdentifierIndex.remove(previous.getIdentifier());
+            }
+            if (drawerItem != null && drawerItem.getIdentifier() >= 0) {
+                mIdentifierIndex.putIfAbsent(drawerItem.getIdentifier(), position);
+            }
+        }
+    }
+
+    /**
+     * updates the identifier index after an item was moved. only the positions of the moved item and the items between
+     * changed, so one step of a drag updates two entries
+     *
+     * @param fromPosition
+     * @param toPosition
+     */
+    private void moveIdentifierIndex(int fromPosition, int toPosition) {
+        int last = Math.max(fromPosition, toPosition);
+        for (int i = Math.min(fromPosition, toPosition); i <= last && !mIdentifierIndexDirty; i++) {
+            indexIdentifier(getItem(i), i);
+        }
+    }
+
+    /**
+     * puts the position of a drawerItem into the identifier index. if its identifier is used by multiple drawerItems the
+     * index is invalidated instead, as only a rebuild knows which of them is the first one
+     *
+     * @param drawerItem
+     * @param position
+     */
+    private void indexIdentifier(IDrawerItem drawerItem, int position) {
+        if (drawerItem == null || mIdentifierIndexDirty || drawerItem.getIdentifier() < 0) {
+            return;
+        }
+        int identifier = drawerItem.getIdentifier();
+        if (mIdentifierCounts.get(identifier) > 1) {
+            invalidateIdentifierIndex();
+            return;
+        }
+        int current = mIdentifierIndex.get(identifier);
+        if (current != -1 && current < position) {
+            //a header or footer item with the same identifier before this one stays the first one
+            IDrawerItem first = getItem(current);
+            if (first != null && first != drawerItem && first.getIdentifier() == identifier) {
+                return;
+            }
+        }
+        mIdentifierIndex.put(identifier, position);
+    }
+
+    /**
+     * observer which keeps the segment table and the identifier index valid if the lists are modified from the outside
+     * and only the notify methods of the adapter are called
+     */
+    private final RecyclerView.AdapterDataObserver mIdentifierIndexObserver = new RecyclerView.AdapterDataObserver() {
+        @Override
+        public void onChanged() {
+            updateSegments();
+            invalidateIdentifierIndex();
+            invalidateSnapshot();
+        }
+
+        @Override
+        public void onItemRangeChanged(int positionStart, int itemCount) {
+            for (int i = positionStart; i < positionStart + itemCount && !mIdentifierIndexDirty; i++) {
+                indexIdentifier(getItem(i), i);
+            }
+            invalidateSnapshot(positionStart, itemCount);
+        }
+
+        @Override
+        public void onItemRangeInserted(int positionStart, int itemCount) {
+            updateSegmentsIfModified();
+            invalidateIdentifierIndex();
+            invalidateSnapshot();
+        }
+
+        @Override
+        public void onItemRangeRemoved(int positionStart, int itemCount) {
+            updateSegmentsIfModified();
+            invalidateIdentifierIndex();
+            invalidateSnapshot();
+        }
+
+        @Override
+        public void onItemRangeMoved(int fromPosition, int toPosition, int itemCount) {
+            //the moves of the adapter itself were already applied by notifyAdapterItemMoved
+            if (!mDispatchingMove) {
+                moveIdentifierIndex(fromPosition, toPosition);
+            }
+            invalidateSnapshot();
+        }
+    };
+
+    @Override
+    public void onAttachedToRecyclerView(RecyclerView recyclerView) {
+        super.onAttachedToRecyclerView(recyclerView);
+        //the lists could have been modified directly before the adapter was attached
+        updateSegments();
+        //we can only register the observer once the adapter is used, else setHasStableIds would fail
+        if (!mIdentifierIndexObserved) {
+            registerAdapterDataObserver(mIdentifierIndexObserver);
+            mIdentifierIndexObserved = true;
+        }
+        if (mVerifyNotifications) {
+            startNotificationVerifier();
+        }
+        invalidateSnapshot();
+    }
+
+    @Override
+    public void onDetachedFromRecyclerView(RecyclerView recyclerView) {
+        super.onDetachedFromRecyclerView(recyclerView);
+        if (mIdentifierIndexObserved) {
+            unregisterAdapterDataObserver(mIdentifierIndexObserver);
+            mIdentifierIndexObserved = false;
+        }
+        stopNotificationVerifier();
+    }
+
+    /**
+     * enables a check of every notification against the items of the adapter. it throws a RuntimeException before the next
+     * layout if the notifications don't match the changes (e.g. an item was added without notification, or at a wrong position).
+     * this copies all items after every change, so only use it in debug builds and tests
+     *
+     * @param verifyNotifications
+     */
+    public void setVerifyNotifications(boolean verifyNotifications) {
+        this.mVerifyNotifications = verifyNotifications;
+        if (!verifyNotifications) {
+            stopNotificationVerifier();
+        } else if (mIdentifierIndexObserved) {
+            startNotificationVerifier();
+        }
+    }
+
+    private void startNotificationVerifier() {
+        if (mNotificationVerifier == null) {
+            mNotificationVerifier = new DrawerNotificationVerifier(this);
+            registerAdapterDataObserver(mNotificationVerifier);
+        }
+    }
+
+    private void stopNotificationVerifier() {
+        if (mNotificationVerifier != null) {
+            unregisterAdapterDataObserver(mNotificationVerifier);
+            mNotificationVerifier.cancel();
+            mNotificationVerifier = null;
         }
     }
 
     @Override
     public int getItemViewType(int position) {
-        return mTypeIds.indexOf(getItem(position).getType());
+        IDrawerItem drawerItem = getItem(position);
+        //the viewType is cached in the item, so this is only a field read
+        int typeId = mTypeRegistry.getTypeId(drawerItem);
+        //the item was added without passing through the adapter (e.g. directly to the list)
+        if (typeId == -1 || typeId >= mTypeInstances.length || mTypeInstances[typeId] == null) {
+            typeId = mapPossibleType(drawerItem);
+        }
+        return typeId;
     }
 
     @Override
     public RecyclerView.ViewHolder onCreateViewHolder(ViewGroup parent, int viewType) {
-        //first check if we (probably) have this item in the cache
-        RecyclerView.ViewHolder vh = RecyclerViewCacheUtil.getInstance().obtain(mTypeIds.get(viewType));
+        //the RecyclerView checks its RecycledViewPool before it asks for a new ViewHolder.
+        //take a ViewHolder which was inflated in the background, else inflate it now
+        RecyclerView.ViewHolder vh = DrawerPreInflater.getInstance().obtain(parent.getContext(), mTypeRegistry.getType(viewType));
         if (vh == null) {
-            return mTypeInstances.get(mTypeIds.get(viewType)).getViewHolder(parent);
-        } else {
-            return vh;
+            vh = mTypeInstances[viewType].getViewHolder(parent);
         }
-    }
 
-    @Override
-    public void onBindViewHolder(final RecyclerView.ViewHolder holder, final int position) {
-        getItem(position).bindView(holder);
+        //the listeners are attached once per ViewHolder, they get the current position from the holder
+        attachListeners(vh);
+        return vh;
+    }
 
+    /**
+     * attaches the click and long click listeners to the itemView of the ViewHolder
+     *
+     * @param holder
+     */
+    private void attachListeners(final RecyclerView.ViewHolder holder) {
         holder.itemView.setOnClickListener(new View.OnClickListener() {
             @Override
             public void onClick(View v) {
@@ -195,6 +1790,10 @@ public abstract class BaseDrawerAdapter extends RecyclerView.Adapter<RecyclerVie
                 if (drawerItem != null) {
                     //if we are enabled allow the selection and call the onClick
                     if (drawerItem.isEnabled()) {
+                        if (drawerItem instanceof ExpandableDrawerItem) {
+                            toggleExpanded(pos);
+                        }
+
                         if (drawerItem instanceof Selectable) {
                             if (drawerItem.isSelectable()) {
                                 handleSelection(v, pos);
@@ -229,45 +1828,45 @@ public abstract class BaseDrawerAdapter extends RecyclerView.Adapter<RecyclerVie
         });
     }
 
+    @Override
+    public void onBindViewHolder(RecyclerView.ViewHolder holder, int position) {
+        getItem(position).bindView(holder);
+    }
+
+    @Override
+    public void onBindViewHolder(RecyclerView.ViewHolder holder, int position, List<Object> payloads) {
+        IDrawerItem drawerItem = getItem(position);
+        if (payloads.isEmpty() || !(drawerItem instanceof AbstractDrawerItem)) {
+            onBindViewHolder(holder, position);
+        } else {
+            //only a part of the item changed. the listeners are already set as the holder was bound before
+            ((AbstractDrawerItem) drawerItem).bindView(holder, payloads);
+        }
+    }
+
     /**
-     * handles the selection on click and deselects previous selected items
+     * handles the selection on click. in MODE_SINGLE the previous selected item is deselected,
+     * in MODE_MULTI the selection of the item is toggled
      *
      * @param v
-     * @param pos
+     * @param pos the position of the clicked item, or -1 to deselect all items
      */
     public void handleSelection(View v, int pos) {
-        //deselect the previous item
-        if (previousSelection > -1) {
-            IDrawerItem prev = getItem(previousSelection);
-            if (prev != null) {
-                prev.withSetSelected(false);
-            }
-            notifyItemChanged(previousSelection);
-        } else {
-            //if there was no previous selection we have to iterate over all so we can deselect the previous item
-            for (int i = 0; i < getItemCount(); i++) {
-                if (getItem(i).isSelected()) {
-                    getItem(i).withSetSelected(false);
-                    notifyItemChanged(i);
-                    break;
-                }
-            }
+        if (pos < 0) {
+            mSelection.deselectAll();
+            return;
         }
 
-        //highlight the new item
-        if (pos > -1) {
-            IDrawerItem cur = getItem(pos);
-            if (cur != null) {
-                cur.withSetSelected(true);
-            }
-            notifyItemChanged(pos);
+        if (mSelection.getMode() == DrawerSelection.MODE_MULTI) {
+            mSelection.toggle(pos);
+        } else {
+            mSelection.select(pos);
+        }
 
-            if (v != null) {
-                v.setSelected(true);
-                v.invalidate();
-            }
+        if (v != null) {
+            v.setSelected(isSelected(pos));
+            v.invalidate();
         }
-        previousSelection = pos;
     }
 
     public boolean isEnabled(int position) {
@@ -281,16 +1880,19 @@ public abstract class BaseDrawerAdapter extends RecyclerView.Adapter<RecyclerVie
     }
 
     public IDrawerItem getItem(int position) {
-        if (position < 0 || position >= getItemCount()) {
+        if (position < 0 || position >= mItemCount) {
             return null;
         }
 
-        if (position < getHeaderItemCount()) {
+        if (position < mItemsOffset) {
             return mHeaderDrawerItems.get(position);
-        } else if (position < (getHeaderItemCount() + getDrawerItemCount())) {
-            return mDrawerItems.get(position - getHeaderItemCount());
+        } else if (position < mFooterOffset) {
+            if (mDrawerItemSource != null) {
+                return mDrawerItemSource.get(position - mItemsOffset);
+            }
+            return mDrawerItems.get(mHiddenCount == 0 ? position - mItemsOffset : mVisibleItems.find(position - mItemsOffset));
         } else {
-            return mFooterDrawerItems.get(position - getHeaderItemCount() - getDrawerItemCount());
+            return mFooterDrawerItems.get(position - mFooterOffset);
         }
     }
 
@@ -305,29 +1907,52 @@ public abstract class BaseDrawerAdapter extends RecyclerView.Adapter<RecyclerVie
 
     @Override
     public int getItemCount() {
-        int itemCount = 0;
+        return mItemCount;
+    }
 
-        itemCount = itemCount + getHeaderItemCount();
-        itemCount = itemCount + getDrawerItemCount();
-        itemCount = itemCount + getFooterItemCount();
+    /**
+     * @return the position of the first drawerItem (the number of header items)
+     */
+    public int getHeaderOffset() {
+        return mItemsOffset;
+    }
 
-        return itemCount;
+    /**
+     * @return the position of the first footer item (the number of header items and drawerItems)
+     */
+    public int getFooterOffset() {
+        return mFooterOffset;
     }
 
-    public int getHeaderOffset() {
-        return getHeaderItemCount();
+    /**
+     * returns the segment of the position. an adapter wrapper can use this together with the offsets to map
+     * its positions to the lists of this adapter
+     *
+     * @param position
+     * @return SEGMENT_HEADER, SEGMENT_ITEMS, SEGMENT_FOOTER or -1 if the position is out of range
+     */
+    public int getSegment(int position) {
+        if (position < 0 || position >= mItemCount) {
+            return -1;
+        } else if (position < mItemsOffset) {
+            return SEGMENT_HEADER;
+        } else if (position < mFooterOffset) {
+            return SEGMENT_ITEMS;
+        } else {
+            return SEGMENT_FOOTER;
+        }
     }
 
     protected int getHeaderItemCount() {
-        return mHeaderDrawerItems == null ? 0 : mHeaderDrawerItems.size();
+        return mItemsOffset;
     }
 
     protected int getDrawerItemCount() {
-        return mDrawerItems == null ? 0 : mDrawerItems.size();
+        return mFooterOffset - mItemsOffset;
     }
 
     protected int getFooterItemCount() {
-        return mFooterDrawerItems == null ? 0 : mFooterDrawerItems.size();
+        return mItemCount - mFooterOffset;
     }
 
     public interface OnClickListener {
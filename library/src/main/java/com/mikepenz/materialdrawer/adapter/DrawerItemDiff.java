@@ -0,0 +1,361 @@
+package com.mikepenz.materialdrawer.adapter;
+
+import android.os.Process;
+
+import com.mikepenz.materialdrawer.model.interfaces.IDrawerItem;
+import com.mikepenz.materialdrawer.util.FenwickTree;
+import com.mikepenz.materialdrawer.util.IntIntHashMap;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Created by mikepenz on 22.10.15.
+ * Calculates an identifier based edit script (remove, move, insert, change) between two lists of drawerItems,
+ * so only the items which really changed are notified to the RecyclerView.
+ * <p/>
+ * An item is matched by its identifier. If the same identifier is contained in both lists but the instance changed
+ * the item is reported as changed. If an identifier is missing or used multiple times the diff falls back to a full
+ * dataSet change.
+ */
+public class DrawerItemDiff {
+    private static final int REMOVE = 0;
+    private static final int MOVE = 1;
+    private static final int INSERT = 2;
+    private static final int CHANGE = 3;
+
+    //the single background thread which is used to calculate the diffs of setDrawerItemsAsync
+    private static ExecutorService sExecutor = null;
+
+    //the operations in the order they have to be dispatched. 3 ints per operation (type, position / from, count / to)
+    private final int[] mOperations;
+    private final int mOperationCount;
+    private final boolean mFullChange;
+
+    private DrawerItemDiff(int[] operations, int operationCount, boolean fullChange) {
+        this.mOperations = operations;
+        this.mOperationCount = operationCount;
+        this.mFullChange = fullChange;
+    }
+
+    /**
+     * calculates the diff between the two lists. the lists are not modified.
+     * This method does not touch any view so it can also be called from a background thread, as long as the lists are
+     * not modified while calculating.
+     *
+     * @param oldItems
+     * @param newItems
+     * @return
+     */
+    public static DrawerItemDiff calculate(List<IDrawerItem> oldItems, List<IDrawerItem> newItems) {
+        int oldSize = oldItems == null ? 0 : oldItems.size();
+        int newSize = newItems == null ? 0 : newItems.size();
+
+        IntIntHashMap oldIndex = new IntIntHashMap(oldSize, -1);
+        IntIntHashMap newIndex = new IntIntHashMap(newSize, -1);
+        if (!index(oldItems, oldSize, oldIndex) || !index(newItems, newSize, newIndex)) {
+            return new DrawerItemDiff(new int[0], 0, true);
+        }
+
+        Operations operations = new Operations();
+
+        //1. remove all items which are not in the new list anymore. go from the end, so the positions stay valid
+        int[] remaining = new int[oldSize];
+        int remainingCount = 0;
+        for (int i = oldSize - 1; i >= 0; i--) {
+            int newPosition = newIndex.get(oldItems.get(i).getIdentifier());
+            if (newPosition == -1) {
+                operations.addRemove(i);
+            } else {
+                remaining[remainingCount++] = newPosition;
+            }
+        }
+        //we collected them backwards
+        reverse(remaining, remainingCount);
+
+        //2. move the remaining items into the order of the new list. items in the longest increasing sequence keep their place
+        boolean[] keep = longestIncreasingSubsequence(remaining, remainingCount);
+        if (remainingCount > 0) {
+            //the index in the remaining items of every position of the new list, -1 for new items
+            int[] remainingIndex = new int[newSize];
+            Arrays.fill(remainingIndex, -1);
+            for (int i = 0; i < remainingCount; i++) {
+                remainingIndex[remaining[i]] = i;
+            }
+
+            //a moved item is placed directly after the item which precedes it in the new list, so it ends up in the group
+            //behind the last kept item before it (group 0 is in front of all items). the slots are laid out as
+            //[group 0] [item 0] [group 1] [item 1] [group 2] ... so the current position of an item is the count of
+            //the occupied slots before its slot (O(log n) per move)
+            int[] groupSizes = new int[remainingCount + 1];
+            int group = 0;
+            for (int i = 0; i < newSize; i++) {
+                int index = remainingIndex[i];
+                if (index != -1) {
+                    if (keep[index]) {
+                        group = index + 1;
+                    } else {
+                        groupSizes[group]++;
+                    }
+                }
+            }
+
+            int[] itemSlots = new int[remainingCount];
+            int[] groupSlots = new int[remainingCount + 1];
+            int slotCount = groupSizes[0];
+            for (int i = 0; i < remainingCount; i++) {
+                itemSlots[i] = slotCount;
+                groupSlots[i + 1] = slotCount + 1;
+                slotCount = slotCount + 1 + groupSizes[i + 1];
+            }
+            int[] occupied = new int[slotCount];
+            for (int i = 0; i < remainingCount; i++) {
+                occupied[itemSlots[i]] = 1;
+            }
+            FenwickTree positions = new FenwickTree();
+            positions.build(occupied, slotCount);
+
+            group = 0;
+            for (int i = 0; i < newSize; i++) {
+                int index = remainingIndex[i];
+                if (index == -1) {
+                    continue;
+                }
+                if (keep[index]) {
+                    group = index + 1;
+                    continue;
+                }
+                int from = positions.sum(itemSlots[index]);
+                positions.add(itemSlots[index], -1);
+                int slot = groupSlots[group];
+                groupSlots[group] = slot + 1;
+                int to = positions.sum(slot);
+                positions.add(slot, 1);
+                if (from != to) {
+                    operations.add(MOVE, from, to);
+                }
+            }
+        }
+
+        //3. insert the new items. all items before the insert position are already at their final position
+        for (int i = 0; i < newSize; i++) {
+            if (!oldIndex.containsKey(newItems.get(i).getIdentifier())) {
+                operations.addInsert(i);
+            }
+        }
+
+        //4. notify the items which are still in the list, but were replaced by another instance
+        for (int i = 0; i < newSize; i++) {
+            IDrawerItem newItem = newItems.get(i);
+            int oldPosition = oldIndex.get(newItem.getIdentifier());
+            if (oldPosition != -1 && oldItems.get(oldPosition) != newItem) {
+                operations.addChange(i);
+            }
+        }
+
+        return new DrawerItemDiff(operations.mOperations, operations.mCount, false);
+    }
+
+    /**
+     * @return true if the lists could not be compared and the whole dataSet has to be notified
+     */
+    public boolean isFullChange() {
+        return mFullChange;
+    }
+
+    /**
+     * @return the amount of notifications which will be dispatched
+     */
+    public int getOperationCount() {
+        return mOperationCount;
+    }
+
+    /**
+     * dispatches the calculated operations to the adapter.
+     * The new list has to be set to the adapter before this is called.
+     *
+     * @param adapter
+     * @param offset  the position of the first drawerItem inside the adapter (the header offset)
+     */
+    public void dispatchUpdatesTo(BaseDrawerAdapter adapter, int offset) {
+        dispatchUpdatesTo(adapter.getNotificationReceiver(), offset);
+    }
+
+    /**
+     * dispatches the calculated operations to the receiver
+     *
+     * @param receiver
+     * @param offset   added to every position
+     */
+    void dispatchUpdatesTo(DrawerNotificationReceiver receiver, int offset) {
+        if (mFullChange) {
+            receiver.onDataSetChanged();
+            return;
+        }
+
+        for (int i = 0; i < mOperationCount; i++) {
+            int type = mOperations[i * 3];
+            int first = mOperations[i * 3 + 1];
+            int second = mOperations[i * 3 + 2];
+            switch (type) {
+                case REMOVE:
+                    receiver.onItemRangeRemoved(offset + first, second);
+                    break;
+                case MOVE:
+                    receiver.onItemMoved(offset + first, offset + second);
+                    break;
+                case INSERT:
+                    receiver.onItemRangeInserted(offset + first, second);
+                    break;
+                case CHANGE:
+                    receiver.onItemRangeChanged(offset + first, second, null);
+                    break;
+            }
+        }
+    }
+
+    /**
+     * @return the executor which calculates the diffs in the background. one thread is enough, as outdated
+     * calculations are skipped anyways
+     */
+    static synchronized ExecutorService getExecutor() {
+        if (sExecutor == null) {
+            sExecutor = Executors.newSingleThreadExecutor(new ThreadFactory() {
+                @Override
+                public Thread newThread(final Runnable runnable) {
+                    Thread thread = new Thread(new Runnable() {
+                        @Override
+                        public void run() {
+                            Process.setThreadPriority(Process.THREAD_PRIORITY_BACKGROUND);
+                            runnable.run();
+                        }
+                    }, "DrawerItemDiff");
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            });
+        }
+        return sExecutor;
+    }
+
+    /**
+     * fills the index with identifier -> position
+     *
+     * @return false if an identifier is missing or used multiple times
+     */
+    private static boolean index(List<IDrawerItem> items, int size, IntIntHashMap index) {
+        for (int i = 0; i < size; i++) {
+            int identifier = items.get(i).getIdentifier();
+            if (identifier < 0 || !index.putIfAbsent(identifier, i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void reverse(int[] values, int count) {
+        for (int i = 0, j = count - 1; i < j; i++, j--) {
+            int tmp = values[i];
+            values[i] = values[j];
+            values[j] = tmp;
+        }
+    }
+
+    /**
+     * marks the elements which are part of a longest increasing subsequence (O(n log n))
+     */
+    private static boolean[] longestIncreasingSubsequence(int[] values, int count) {
+        boolean[] result = new boolean[count];
+        if (count == 0) {
+            return result;
+        }
+
+        //tails[k] = index of the smallest tail of all increasing subsequences with length k + 1
+        int[] tails = new int[count];
+        int[] previous = new int[count];
+        int length = 0;
+        for (int i = 0; i < count; i++) {
+            int low = 0;
+            int high = length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (values[tails[mid]] < values[i]) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            previous[i] = low > 0 ? tails[low - 1] : -1;
+            tails[low] = i;
+            if (low == length) {
+                length = length + 1;
+            }
+        }
+
+        for (int i = tails[length - 1]; i >= 0; i = previous[i]) {
+            result[i] = true;
+        }
+        return result;
+    }
+
+    /**
+     * small helper to collect the operations and to merge adjacent ranges
+     */
+    private static class Operations {
+        private int[] mOperations = new int[3 * 8];
+        private int mCount = 0;
+
+        private void addRemove(int position) {
+            //we remove from the end, so a following remove directly before the last one extends it
+            if (mCount > 0 && type() == REMOVE && first() == position + 1) {
+                mOperations[(mCount - 1) * 3 + 1] = position;
+                mOperations[(mCount - 1) * 3 + 2] = second() + 1;
+            } else {
+                add(REMOVE, position, 1);
+            }
+        }
+
+        private void addInsert(int position) {
+            if (mCount > 0 && type() == INSERT && first() + second() == position) {
+                mOperations[(mCount - 1) * 3 + 2] = second() + 1;
+            } else {
+                add(INSERT, position, 1);
+            }
+        }
+
+        private void addChange(int position) {
+            if (mCount > 0 && type() == CHANGE && first() + second() == position) {
+                mOperations[(mCount - 1) * 3 + 2] = second() + 1;
+            } else {
+                add(CHANGE, position, 1);
+            }
+        }
+
+        private void add(int type, int first, int second) {
+            if ((mCount + 1) * 3 > mOperations.length) {
+                int[] operations = new int[mOperations.length * 2];
+                System.arraycopy(mOperations, 0, operations, 0, mCount * 3);
+                mOperations = operations;
+            }
+            mOperations[mCount * 3] = type;
+            mOperations[mCount * 3 + 1] = first;
+            mOperations[mCount * 3 + 2] = second;
+            mCount = mCount + 1;
+        }
+
+        private int type() {
+            return mOperations[(mCount - 1) * 3];
+        }
+
+        private int first() {
+            return mOperations[(mCount - 1) * 3 + 1];
+        }
+
+        private int second() {
+            return mOperations[(mCount - 1) * 3 + 2];
+        }
+    }
+}
@@ -0,0 +1,336 @@
+package com.mikepenz.materialdrawer.adapter;
+
+import android.content.Context;
+
+import com.mikepenz.materialdrawer.holder.StringHolder;
+import com.mikepenz.materialdrawer.model.interfaces.IDrawerItem;
+import com.mikepenz.materialdrawer.model.interfaces.Nameable;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Created by mikepenz on 30.10.15.
+ * Matches the drawerItems against a query (the name contains the query, ignoring the case).
+ * The names are resolved once and indexed by their n-grams (up to 3 chars), so a new query only checks the items
+ * which contain its rarest n-gram. If the query just got longer only the items of the previous result are checked.
+ * Items are matched by their instance, items which are not indexed yet are resolved on their first lookup.
+ * After a query the indices of the items whose match may have changed are known, so the adapter only checks them.
+ */
+class DrawerItemFilter {
+    private static final int MAX_GRAM_LENGTH = 3;
+
+    private final Context mContext;
+
+    //the index of every known item in the arrays below
+    private IdentityHashMap<IDrawerItem, Integer> mIndices = new IdentityHashMap<>();
+    private String[] mNames = new String[0];
+    private boolean[] mMatches = new boolean[0];
+    private int mCount = 0;
+
+    //sorted entries of (gram hash << 32 | index), only valid if the index is not dirty
+    private long[] mGrams = new long[0];
+    private int mGramCount = 0;
+    private boolean mDirty = true;
+
+    //the current query and the indices of the items which match it
+    private String mQuery = null;
+    private int[] mResult = new int[0];
+    private int mResultCount = 0;
+
+    //the indices of the items which may have changed with the last query (sorted), or -1 if all may have changed
+    private int[] mChanged = new int[0];
+    private int mChangedCount = -1;
+
+    DrawerItemFilter(Context ctx) {
+        this.mContext = ctx;
+    }
+
+    /**
+     * @return true if a query is set
+     */
+    boolean isActive() {
+        return mQuery != null;
+    }
+
+    String getQuery() {
+        return mQuery;
+    }
+
+    /**
+     * the indices of the drawerItems whose match may have changed with the last filter call. they are only valid if the
+     * list was not modified after the filter was invalidated
+     *
+     * @return the amount of indices in getChanged, or -1 if all items may have changed
+     */
+    int getChangedCount() {
+        return mChangedCount;
+    }
+
+    int[] getChanged() {
+        return mChanged;
+    }
+
+    /**
+     * marks the index as outdated, e.g. after the list was modified, so the next query indexes the items again
+     */
+    void invalidate() {
+        mDirty = true;
+    }
+
+    /**
+     * matches the items against the query
+     *
+     * @param drawerItems the current drawerItems, they are indexed again if they were modified
+     * @param query       the query or null (or empty) to match all items
+     * @return false if the query did not change
+     */
+    boolean filter(List<IDrawerItem> drawerItems, CharSequence query) {
+        String text = query == null || query.length() == 0 ? null : query.toString().toLowerCase(Locale.getDefault());
+        if (text == null ? mQuery == null : text.equals(mQuery)) {
+            return false;
+        }
+
+        //without a previous query all items matched, so all of them may change
+        boolean all = mQuery == null;
+        if (mDirty || mCount != drawerItems.size()) {
+            index(drawerItems);
+            all = true;
+        } else {
+            //only unmark the previous result, the other items are not marked
+            for (int i = 0; i < mResultCount; i++) {
+                mMatches[mResult[i]] = false;
+            }
+        }
+
+        if (text == null) {
+            mQuery = null;
+            mResultCount = 0;
+            mChangedCount = -1;
+            return true;
+        }
+
+        //only the items of the previous and the new result can change
+        mChangedCount = all ? -1 : mResultCount;
+        if (!all) {
+            if (mChanged.length < mCount) {
+                mChanged = new int[mCount];
+            }
+            System.arraycopy(mResult, 0, mChanged, 0, mResultCount);
+        }
+
+        //a longer query only matches items which matched the previous one
+        boolean narrowed = mQuery != null && text.startsWith(mQuery);
+        if (!narrowed) {
+            collectCandidates(text);
+        }
+        mQuery = text;
+
+        int count = 0;
+        for (int i = 0; i < mResultCount; i++) {
+            int index = mResult[i];
+            if (mNames[index].contains(text)) {
+                mResult[count++] = index;
+                mMatches[index] = true;
+            }
+        }
+        mResultCount = count;
+
+        if (!all && !narrowed) {
+            addChanged(mResult, mResultCount);
+        }
+        return true;
+    }
+
+    /**
+     * adds the indices to the changed indices, which stay sorted and unique
+     */
+    private void addChanged(int[] indices, int count) {
+        if (mChanged.length < mChangedCount + count) {
+            mChanged = Arrays.copyOf(mChanged, mChangedCount + count);
+        }
+        System.arraycopy(indices, 0, mChanged, mChangedCount, count);
+        Arrays.sort(mChanged, 0, mChangedCount + count);
+        int unique = 0;
+        for (int i = 0; i < mChangedCount + count; i++) {
+            if (unique == 0 || mChanged[unique - 1] != mChanged[i]) {
+                mChanged[unique++] = mChanged[i];
+            }
+        }
+        mChangedCount = unique;
+    }
+
+    /**
+     * @param drawerItem
+     * @return true if no query is set or the name of the item contains the query
+     */
+    boolean matches(IDrawerItem drawerItem) {
+        if (mQuery == null) {
+            return true;
+        }
+        Integer index = mIndices.get(drawerItem);
+        if (index == null) {
+            //a new item, it is added to the grams with the next query
+            index = add(drawerItem, resolveName(drawerItem));
+            mMatches[index] = mNames[index] != null && mNames[index].contains(mQuery);
+            mDirty = true;
+        }
+        return mMatches[index];
+    }
+
+    /**
+     * drops the resolved name of the item (e.g. if it was renamed), it is resolved again on the next lookup
+     *
+     * @param drawerItem
+     */
+    void forget(IDrawerItem drawerItem) {
+        if (mIndices.remove(drawerItem) != null) {
+            mDirty = true;
+        }
+    }
+
+    /**
+     * indexes the items, the names of the known items are reused
+     *
+     * @param drawerItems
+     */
+    private void index(List<IDrawerItem> drawerItems) {
+        IdentityHashMap<IDrawerItem, Integer> previousIndices = mIndices;
+        String[] previousNames = mNames;
+
+        int size = drawerItems.size();
+        mIndices = new IdentityHashMap<>(size);
+        mNames = new String[size];
+        mMatches = new boolean[size];
+        mResult = new int[size];
+        mResultCount = 0;
+        mCount = 0;
+
+        int gramCount = 0;
+        for (int i = 0; i < size; i++) {
+            IDrawerItem drawerItem = drawerItems.get(i);
+            Integer previous = previousIndices.get(drawerItem);
+            String name = previous == null ? resolveName(drawerItem) : previousNames[previous];
+            add(drawerItem, name);
+            if (name != null) {
+                for (int length = 1; length <= MAX_GRAM_LENGTH; length++) {
+                    gramCount = gramCount + Math.max(0, name.length() - length + 1);
+                }
+            }
+        }
+
+        if (mGrams.length < gramCount) {
+            mGrams = new long[gramCount];
+        }
+        gramCount = 0;
+        for (int i = 0; i < mCount; i++) {
+            String name = mNames[i];
+            if (name == null) {
+                continue;
+            }
+            for (int length = 1; length <= MAX_GRAM_LENGTH; length++) {
+                for (int start = 0; start + length <= name.length(); start++) {
+                    mGrams[gramCount++] = ((long) hash(name, start, length) << 32) | i;
+                }
+            }
+        }
+        Arrays.sort(mGrams, 0, gramCount);
+
+        //a gram can occur multiple times in one name
+        int unique = 0;
+        for (int i = 0; i < gramCount; i++) {
+            if (unique == 0 || mGrams[unique - 1] != mGrams[i]) {
+                mGrams[unique++] = mGrams[i];
+            }
+        }
+        mGramCount = unique;
+        mDirty = false;
+
+        //the previous result does not belong to the new index
+        mQuery = null;
+    }
+
+    /**
+     * puts the indices of the items which contain the rarest gram of the text into the result
+     *
+     * @param text
+     */
+    private void collectCandidates(String text) {
+        int length = Math.min(MAX_GRAM_LENGTH, text.length());
+
+        int bestStart = 0;
+        int bestEnd = -1;
+        for (int start = 0; start + length <= text.length(); start++) {
+            int hash = hash(text, start, length);
+            int first = lowerBound((long) hash << 32);
+            int end = hash == Integer.MAX_VALUE ? mGramCount : lowerBound((long) (hash + 1) << 32);
+            if (bestEnd == -1 || end - first < bestEnd - bestStart) {
+                bestStart = first;
+                bestEnd = end;
+            }
+        }
+
+        //the entries of one gram are sorted by the index, so the result keeps the order of the items
+        mResultCount = 0;
+        for (int i = bestStart; i < bestEnd; i++) {
+            mResult[mResultCount++] = (int) mGrams[i];
+        }
+    }
+
+    /**
+     * @param key
+     * @return the first entry in the grams which is not smaller than the key
+     */
+    private int lowerBound(long key) {
+        int low = 0;
+        int high = mGramCount;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (mGrams[mid] < key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private int add(IDrawerItem drawerItem, String name) {
+        if (mCount == mNames.length) {
+            int capacity = Math.max(8, mCount * 2);
+            mNames = Arrays.copyOf(mNames, capacity);
+            mMatches = Arrays.copyOf(mMatches, capacity);
+            mResult = Arrays.copyOf(mResult, capacity);
+        }
+        mNames[mCount] = name;
+        mMatches[mCount] = false;
+        mIndices.put(drawerItem, mCount);
+        mCount = mCount + 1;
+        return mCount - 1;
+    }
+
+    private String resolveName(IDrawerItem drawerItem) {
+        if (drawerItem instanceof Nameable) {
+            StringHolder name = ((Nameable) drawerItem).getName();
+            //without a context only the names which are set as text can be resolved
+            String text = name == null ? null : mContext != null ? name.getText(mContext) : name.getText();
+            if (text != null) {
+                return text.toLowerCase(Locale.getDefault());
+            }
+        }
+        return null;
+    }
+
+    /**
+     * the hash of the gram, different grams can have the same hash, so the candidates are always checked
+     */
+    private static int hash(String text, int start, int length) {
+        int hash = length;
+        for (int i = start; i < start + length; i++) {
+            hash = hash * 31 + text.charAt(i);
+        }
+        return hash;
+    }
+}
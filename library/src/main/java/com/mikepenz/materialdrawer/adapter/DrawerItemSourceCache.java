@@ -0,0 +1,119 @@
+package com.mikepenz.materialdrawer.adapter;
+
+import com.mikepenz.materialdrawer.model.interfaces.IDrawerItem;
+import com.mikepenz.materialdrawer.model.interfaces.IDrawerItemSource;
+
+import java.util.Arrays;
+
+/**
+ * Created by mikepenz on 29.10.15.
+ * Keeps the drawerItems created by an IDrawerItemSource in pages of consecutive positions.
+ * If a position is requested its whole page is created, so the items around the shown positions are ready when
+ * the user scrolls. Only a limited amount of pages is kept, the least recently used page is dropped first.
+ */
+class DrawerItemSourceCache {
+    static final int PAGE_SIZE = 32;
+
+    private final IDrawerItemSource mSource;
+
+    private final int[] mPageIndices;
+    private final IDrawerItem[][] mPages;
+    private final long[] mPageUses;
+    private long mUseCounter = 0;
+
+    //the last used slot, most lookups hit the same page
+    private int mLastSlot = -1;
+
+    /**
+     * @param source
+     * @param maxItems the maximum amount of items which are kept (rounded up to whole pages, at least 3 pages)
+     */
+    DrawerItemSourceCache(IDrawerItemSource source, int maxItems) {
+        this.mSource = source;
+        int pageCount = Math.max(3, (maxItems + PAGE_SIZE - 1) / PAGE_SIZE);
+        mPageIndices = new int[pageCount];
+        mPages = new IDrawerItem[pageCount][];
+        mPageUses = new long[pageCount];
+        Arrays.fill(mPageIndices, -1);
+    }
+
+    IDrawerItemSource getSource() {
+        return mSource;
+    }
+
+    /**
+     * @param position
+     * @return the item at the position, the page of the position is created if it is not kept yet
+     */
+    IDrawerItem get(int position) {
+        int pageIndex = position / PAGE_SIZE;
+
+        int slot = mLastSlot;
+        if (slot == -1 || mPageIndices[slot] != pageIndex) {
+            slot = findSlot(pageIndex);
+            if (slot == -1) {
+                slot = loadPage(pageIndex);
+            }
+            mLastSlot = slot;
+        }
+
+        mUseCounter = mUseCounter + 1;
+        mPageUses[slot] = mUseCounter;
+        return mPages[slot][position - pageIndex * PAGE_SIZE];
+    }
+
+    /**
+     * drops all created items, e.g. if the source changed
+     */
+    void clear() {
+        Arrays.fill(mPageIndices, -1);
+        Arrays.fill(mPages, null);
+        mLastSlot = -1;
+    }
+
+    /**
+     * is called for every created item
+     *
+     * @param drawerItem
+     */
+    void onItemCreated(IDrawerItem drawerItem) {
+    }
+
+    private int findSlot(int pageIndex) {
+        for (int i = 0; i < mPageIndices.length; i++) {
+            if (mPageIndices[i] == pageIndex) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private int loadPage(int pageIndex) {
+        //use a free slot or the least recently used one
+        int slot = 0;
+        for (int i = 0; i < mPageIndices.length; i++) {
+            if (mPageIndices[i] == -1) {
+                slot = i;
+                break;
+            }
+            if (mPageUses[i] < mPageUses[slot]) {
+                slot = i;
+            }
+        }
+
+        int start = pageIndex * PAGE_SIZE;
+        int count = Math.max(0, Math.min(PAGE_SIZE, mSource.getCount() - start));
+        IDrawerItem[] page = mPages[slot];
+        if (page == null) {
+            page = new IDrawerItem[PAGE_SIZE];
+            mPages[slot] = page;
+        }
+        for (int i = 0; i < count; i++) {
+            page[i] = mSource.createItem(start + i);
+            onItemCreated(page[i]);
+        }
+        Arrays.fill(page, count, PAGE_SIZE, null);
+        mPageIndices[slot] = pageIndex;
+        return slot;
+    }
+}
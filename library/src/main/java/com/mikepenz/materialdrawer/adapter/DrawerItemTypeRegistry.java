@@ -0,0 +1,131 @@
+package com.mikepenz.materialdrawer.adapter;
+
+import com.mikepenz.materialdrawer.model.AbstractDrawerItem;
+import com.mikepenz.materialdrawer.model.interfaces.IDrawerItem;
+
+import java.util.HashMap;
+
+/**
+ * Created by mikepenz on 20.10.15.
+ * Maps the String type of an IDrawerItem to a small, stable integer which is used as the viewType
+ * of the RecyclerView. The ids are shared across all adapters (Drawer, MiniDrawer, appended drawers)
+ * so the same type always ends up with the same viewType.
+ * The id is cached in every AbstractDrawerItem, so it is only looked up once per item.
+ */
+public class DrawerItemTypeRegistry {
+    private static DrawerItemTypeRegistry SINGLETON = null;
+
+    //copy on write so lookups from the bind path don't have to lock
+    private volatile HashMap<String, Integer> mTypeIds = new HashMap<>();
+    private volatile String[] mTypes = new String[0];
+
+    private DrawerItemTypeRegistry() {
+
+    }
+
+    public static synchronized DrawerItemTypeRegistry getInstance() {
+        if (SINGLETON == null) {
+            SINGLETON = new DrawerItemTypeRegistry();
+        }
+        return SINGLETON;
+    }
+
+    /**
+     * get the id of a type, registers the type if it is not known yet
+     *
+     * @param type
+     * @return
+     */
+    public int register(String type) {
+        Integer typeId = mTypeIds.get(type);
+        if (typeId != null) {
+            return typeId;
+        }
+
+        synchronized (this) {
+            typeId = mTypeIds.get(type);
+            if (typeId == null) {
+                typeId = mTypes.length;
+
+                String[] types = new String[typeId + 1];
+                System.arraycopy(mTypes, 0, types, 0, typeId);
+                types[typeId] = type;
+
+                HashMap<String, Integer> typeIds = new HashMap<>(mTypeIds);
+                typeIds.put(type, typeId);
+
+                mTypes = types;
+                mTypeIds = typeIds;
+            }
+            return typeId;
+        }
+    }
+
+    /**
+     * get the id of the type of the drawerItem, registers the type if it is not known yet.
+     * the id is cached in the item if it is an AbstractDrawerItem
+     *
+     * @param drawerItem
+     * @return
+     */
+    public int register(IDrawerItem drawerItem) {
+        if (drawerItem instanceof AbstractDrawerItem) {
+            AbstractDrawerItem abstractDrawerItem = (AbstractDrawerItem) drawerItem;
+            int typeId = abstractDrawerItem.getViewType();
+            if (typeId == -1) {
+                typeId = register(drawerItem.getType());
+                abstractDrawerItem.setViewType(typeId);
+            }
+            return typeId;
+        }
+        return register(drawerItem.getType());
+    }
+
+    /**
+     * get the id of the type of the drawerItem, without a lookup if it is cached in the item
+     *
+     * @param drawerItem
+     * @return the id or -1 if this type was not registered yet
+     */
+    public int getTypeId(IDrawerItem drawerItem) {
+        if (drawerItem instanceof AbstractDrawerItem) {
+            int typeId = ((AbstractDrawerItem) drawerItem).getViewType();
+            if (typeId != -1) {
+                return typeId;
+            }
+        }
+        return getTypeId(drawerItem.getType());
+    }
+
+    /**
+     * get the id of a type
+     *
+     * @param type
+     * @return the id or -1 if this type was not registered yet
+     */
+    public int getTypeId(String type) {
+        Integer typeId = mTypeIds.get(type);
+        return typeId == null ? -1 : typeId;
+    }
+
+    /**
+     * get the type for a given id
+     *
+     * @param typeId
+     * @return the type or null if there is no type with this id
+     */
+    public String getType(int typeId) {
+        String[] types = mTypes;
+        if (typeId < 0 || typeId >= types.length) {
+            return null;
+        }
+        return types[typeId];
+    }
+
+    /**
+     * @return the amount of registered types
+     */
+    public int getTypeCount() {
+        return mTypes.length;
+    }
+}
@@ -0,0 +1,282 @@
+package com.mikepenz.materialdrawer.adapter;
+
+import com.mikepenz.materialdrawer.model.utils.DrawerItemPayload;
+
+import java.util.Arrays;
+
+/**
+ * Created by mikepenz on 23.10.15.
+ * Collects the notifications of the adapter while a batch is open and dispatches the minimal set on commit.
+ * Adjacent inserts and removes are merged into ranges, items which are inserted and removed again inside
+ * the batch are never notified, and multiple changes of the same position are notified once (with the merged payloads).
+ * The changes are tracked in the coordinates after all structural changes and dispatched last.
+ */
+class DrawerNotificationBatch {
+    private static final int INSERT = 0;
+    private static final int REMOVE = 1;
+    private static final int MOVE = 2;
+
+    //the structural operations in order. 3 ints per operation (type, position / from, count / to)
+    private int[] mOperations = new int[3 * 8];
+    private int mOperationCount = 0;
+
+    //sorted positions which were changed, and which were inserted inside this batch
+    private final PositionSet mChanged = new PositionSet();
+    private final PositionSet mInserted = new PositionSet();
+
+    private boolean mDataSetChanged = false;
+
+    boolean isEmpty() {
+        return !mDataSetChanged && mOperationCount == 0 && mChanged.mSize == 0;
+    }
+
+    void dataSetChanged() {
+        mDataSetChanged = true;
+    }
+
+    void insert(int position, int count) {
+        if (count <= 0 || mDataSetChanged) {
+            return;
+        }
+        mChanged.shiftInsert(position, count);
+        mInserted.shiftInsert(position, count);
+        for (int i = 0; i < count; i++) {
+            mInserted.add(position + i);
+        }
+
+        //an insert inside or directly after the previous insert extends it
+        if (lastType() == INSERT && position >= lastFirst() && position <= lastFirst() + lastSecond()) {
+            setLast(lastFirst(), lastSecond() + count);
+        } else {
+            add(INSERT, position, count);
+        }
+    }
+
+    void remove(int position, int count) {
+        if (count <= 0 || mDataSetChanged) {
+            return;
+        }
+        mChanged.shiftRemove(position, count);
+        mInserted.shiftRemove(position, count);
+
+        if (lastType() == INSERT && position >= lastFirst() && position + count <= lastFirst() + lastSecond()) {
+            //the removed items were only inserted in this batch, so they were never shown
+            if (lastSecond() == count) {
+                mOperationCount = mOperationCount - 1;
+            } else {
+                setLast(lastFirst(), lastSecond() - count);
+            }
+        } else if (lastType() == REMOVE && position == lastFirst()) {
+            setLast(position, lastSecond() + count);
+        } else if (lastType() == REMOVE && position + count == lastFirst()) {
+            setLast(position, lastSecond() + count);
+        } else {
+            add(REMOVE, position, count);
+        }
+    }
+
+    void move(int from, int to) {
+        if (from == to || mDataSetChanged) {
+            return;
+        }
+        mChanged.shiftMove(from, to);
+        mInserted.shiftMove(from, to);
+        add(MOVE, from, to);
+    }
+
+    /**
+     * @param position
+     * @param count
+     * @param payloads the flags of the DrawerItemPayloads or 0 if the items have to be bound completely
+     */
+    void change(int position, int count, int payloads) {
+        if (mDataSetChanged) {
+            return;
+        }
+        for (int i = position; i < position + count; i++) {
+            //inserted items are bound anyways
+            if (!mInserted.contains(i)) {
+                mChanged.add(i, payloads);
+            }
+        }
+    }
+
+    /**
+     * dispatches the collected notifications to the receiver and resets this batch
+     *
+     * @param receiver
+     */
+    void dispatchTo(DrawerNotificationReceiver receiver) {
+        if (mDataSetChanged) {
+            receiver.onDataSetChanged();
+        } else {
+            for (int i = 0; i < mOperationCount; i++) {
+                int first = mOperations[i * 3 + 1];
+                int second = mOperations[i * 3 + 2];
+                switch (mOperations[i * 3]) {
+                    case INSERT:
+                        receiver.onItemRangeInserted(first, second);
+                        break;
+                    case REMOVE:
+                        receiver.onItemRangeRemoved(first, second);
+                        break;
+                    case MOVE:
+                        receiver.onItemMoved(first, second);
+                        break;
+                }
+            }
+
+            //notify the changed positions with the same payloads as ranges
+            int i = 0;
+            while (i < mChanged.mSize) {
+                int start = mChanged.mPositions[i];
+                int payloads = mChanged.mPayloads[i];
+                int end = start;
+                while (i + 1 < mChanged.mSize && mChanged.mPositions[i + 1] == end + 1 && mChanged.mPayloads[i + 1] == payloads) {
+                    i = i + 1;
+                    end = end + 1;
+                }
+                dispatchChange(receiver, start, end - start + 1, payloads);
+                i = i + 1;
+            }
+        }
+        clear();
+    }
+
+    private static void dispatchChange(DrawerNotificationReceiver receiver, int position, int count, int payloads) {
+        if (payloads == 0) {
+            receiver.onItemRangeChanged(position, count, null);
+        } else {
+            //the RecyclerView collects all payloads for a position until it is bound
+            for (DrawerItemPayload payload : DrawerItemPayload.values()) {
+                if (payload.isIn(payloads)) {
+                    receiver.onItemRangeChanged(position, count, payload);
+                }
+            }
+        }
+    }
+
+    void clear() {
+        mOperationCount = 0;
+        mChanged.mSize = 0;
+        mInserted.mSize = 0;
+        mDataSetChanged = false;
+    }
+
+    private void add(int type, int first, int second) {
+        if ((mOperationCount + 1) * 3 > mOperations.length) {
+            mOperations = Arrays.copyOf(mOperations, mOperations.length * 2);
+        }
+        mOperations[mOperationCount * 3] = type;
+        mOperations[mOperationCount * 3 + 1] = first;
+        mOperations[mOperationCount * 3 + 2] = second;
+        mOperationCount = mOperationCount + 1;
+    }
+
+    private int lastType() {
+        return mOperationCount == 0 ? -1 : mOperations[(mOperationCount - 1) * 3];
+    }
+
+    private int lastFirst() {
+        return mOperations[(mOperationCount - 1) * 3 + 1];
+    }
+
+    private int lastSecond() {
+        return mOperations[(mOperationCount - 1) * 3 + 2];
+    }
+
+    private void setLast(int first, int second) {
+        mOperations[(mOperationCount - 1) * 3 + 1] = first;
+        mOperations[(mOperationCount - 1) * 3 + 2] = second;
+    }
+
+    /**
+     * a sorted set of positions (with their payload flags) which follows the structural changes of the adapter
+     */
+    private static class PositionSet {
+        private int[] mPositions = new int[16];
+        private int[] mPayloads = new int[16];
+        private int mSize = 0;
+
+        private boolean contains(int position) {
+            return Arrays.binarySearch(mPositions, 0, mSize, position) >= 0;
+        }
+
+        private void add(int position) {
+            add(position, 0);
+        }
+
+        /**
+         * adds the position, or merges the payloads if it is already contained. 0 (bind completely) wins
+         */
+        private void add(int position, int payloads) {
+            int index = Arrays.binarySearch(mPositions, 0, mSize, position);
+            if (index >= 0) {
+                if (mPayloads[index] != 0) {
+                    mPayloads[index] = payloads == 0 ? 0 : mPayloads[index] | payloads;
+                }
+                return;
+            }
+            index = -index - 1;
+            if (mSize == mPositions.length) {
+                mPositions = Arrays.copyOf(mPositions, mPositions.length * 2);
+                mPayloads = Arrays.copyOf(mPayloads, mPayloads.length * 2);
+            }
+            System.arraycopy(mPositions, index, mPositions, index + 1, mSize - index);
+            System.arraycopy(mPayloads, index, mPayloads, index + 1, mSize - index);
+            mPositions[index] = position;
+            mPayloads[index] = payloads;
+            mSize = mSize + 1;
+        }
+
+        private void shiftInsert(int position, int count) {
+            for (int i = 0; i < mSize; i++) {
+                if (mPositions[i] >= position) {
+                    mPositions[i] = mPositions[i] + count;
+                }
+            }
+        }
+
+        private void shiftRemove(int position, int count) {
+            int size = 0;
+            for (int i = 0; i < mSize; i++) {
+                int p = mPositions[i];
+                if (p >= position + count) {
+                    mPayloads[size] = mPayloads[i];
+                    mPositions[size++] = p - count;
+                } else if (p < position) {
+                    mPayloads[size] = mPayloads[i];
+                    mPositions[size++] = p;
+                }
+            }
+            mSize = size;
+        }
+
+        private void shiftMove(int from, int to) {
+            for (int i = 0; i < mSize; i++) {
+                int p = mPositions[i];
+                if (p == from) {
+                    mPositions[i] = to;
+                } else if (from < to && p > from && p <= to) {
+                    mPositions[i] = p - 1;
+                } else if (from > to && p >= to && p < from) {
+                    mPositions[i] = p + 1;
+                }
+            }
+
+            //only the moved position is out of order, so an insertion sort is enough
+            for (int i = 1; i < mSize; i++) {
+                int position = mPositions[i];
+                int payloads = mPayloads[i];
+                int j = i - 1;
+                while (j >= 0 && mPositions[j] > position) {
+                    mPositions[j + 1] = mPositions[j];
+                    mPayloads[j + 1] = mPayloads[j];
+                    j = j - 1;
+                }
+                mPositions[j + 1] = position;
+                mPayloads[j + 1] = payloads;
+            }
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.mikepenz.materialdrawer.adapter;
+
+import com.mikepenz.materialdrawer.model.utils.DrawerItemPayload;
+
+/**
+ * Created by mikepenz on 02.11.15.
+ * Receives the notifications which are dispatched by a DrawerItemDiff or a DrawerNotificationBatch.
+ * The adapter forwards them to the RecyclerView, so the calculation of the notifications does not depend on it.
+ */
+interface DrawerNotificationReceiver {
+    void onDataSetChanged();
+
+    void onItemRangeInserted(int position, int count);
+
+    void onItemRangeRemoved(int position, int count);
+
+    void onItemMoved(int fromPosition, int toPosition);
+
+    /**
+     * @param position
+     * @param count
+     * @param payload the changed part of the items, or null if they have to be bound completely
+     */
+    void onItemRangeChanged(int position, int count, DrawerItemPayload payload);
+}
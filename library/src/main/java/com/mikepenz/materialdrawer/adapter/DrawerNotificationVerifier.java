@@ -0,0 +1,178 @@
+package com.mikepenz.materialdrawer.adapter;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.support.v7.widget.RecyclerView;
+
+import com.mikepenz.materialdrawer.model.interfaces.IDrawerItem;
+
+import java.util.ArrayList;
+
+/**
+ * Created by mikepenz on 02.11.15.
+ * A debug helper which checks that the notifications of the adapter match the changes of its items.
+ * It keeps a shadow copy of the items, applies every notification to it the same way the RecyclerView does, and compares
+ * it with the items of the adapter once the notifications of a main loop message were dispatched (before the next layout).
+ * Inserted and changed positions can contain any item, all other positions have to contain the same item as before.
+ * A mismatch throws a RuntimeException which describes the notifications since the last check.
+ * <p/>
+ * This copies all items after every change, so it should only be enabled in debug builds and tests.
+ */
+class DrawerNotificationVerifier extends RecyclerView.AdapterDataObserver {
+    //a shadow entry which matches every item (inserted or changed positions)
+    private static final Object ANY = new Object();
+
+    private final BaseDrawerAdapter mAdapter;
+    private final Handler mHandler = new Handler(Looper.getMainLooper());
+    private final Runnable mVerifyRunnable = new Runnable() {
+        @Override
+        public void run() {
+            mScheduled = false;
+            verify();
+        }
+    };
+
+    private final ArrayList<Object> mShadow = new ArrayList<>();
+    private final StringBuilder mNotifications = new StringBuilder();
+    private boolean mScheduled = false;
+    //true if the whole data set changed, the next check only resyncs the shadow
+    private boolean mDataSetChanged = false;
+
+    DrawerNotificationVerifier(BaseDrawerAdapter adapter) {
+        this.mAdapter = adapter;
+        sync();
+    }
+
+    @Override
+    public void onChanged() {
+        mDataSetChanged = true;
+        schedule("changed");
+    }
+
+    @Override
+    public void onItemRangeChanged(int positionStart, int itemCount) {
+        if (!mDataSetChanged) {
+            checkRange(positionStart, itemCount, mShadow.size(), "change");
+            for (int i = positionStart; i < positionStart + itemCount; i++) {
+                mShadow.set(i, ANY);
+            }
+        }
+        schedule("change " + positionStart + " +" + itemCount);
+    }
+
+    @Override
+    public void onItemRangeInserted(int positionStart, int itemCount) {
+        if (!mDataSetChanged) {
+            checkRange(positionStart, 0, mShadow.size(), "insert");
+            for (int i = 0; i < itemCount; i++) {
+                mShadow.add(positionStart, ANY);
+            }
+        }
+        schedule("insert " + positionStart + " +" + itemCount);
+    }
+
+    @Override
+    public void onItemRangeRemoved(int positionStart, int itemCount) {
+        if (!mDataSetChanged) {
+            checkRange(positionStart, itemCount, mShadow.size(), "remove");
+            for (int i = 0; i < itemCount; i++) {
+                mShadow.remove(positionStart);
+            }
+        }
+        schedule("remove " + positionStart + " +" + itemCount);
+    }
+
+    @Override
+    public void onItemRangeMoved(int fromPosition, int toPosition, int itemCount) {
+        if (!mDataSetChanged) {
+            checkRange(fromPosition, 1, mShadow.size(), "move");
+            checkRange(toPosition, 1, mShadow.size(), "move");
+            mShadow.add(toPosition, mShadow.remove(fromPosition));
+        }
+        schedule("move " + fromPosition + " -> " + toPosition);
+    }
+
+    /**
+     * the verifier is not informed anymore, pending checks are dropped
+     */
+    void cancel() {
+        mHandler.removeCallbacks(mVerifyRunnable);
+        mScheduled = false;
+    }
+
+    private void schedule(String notification) {
+        mNotifications.append(notification).append(", ");
+        if (!mScheduled) {
+            mScheduled = true;
+            mHandler.post(mVerifyRunnable);
+        }
+    }
+
+    /**
+     * compares the shadow with the items of the adapter, and resyncs it afterwards
+     */
+    private void verify() {
+        //the notifications of an open batch were not dispatched yet
+        if (mAdapter.isBatching()) {
+            mScheduled = true;
+            mHandler.post(mVerifyRunnable);
+            return;
+        }
+
+        if (!mDataSetChanged) {
+            int itemCount = mAdapter.getItemCount();
+            if (mShadow.size() != itemCount) {
+                fail("expected " + mShadow.size() + " items but the adapter has " + itemCount);
+            }
+            for (int i = 0; i < itemCount; i++) {
+                Object expected = mShadow.get(i);
+                if (expected != ANY && !isSame(expected, getKey(i))) {
+                    fail("the item at position " + i + " changed without a notification");
+                }
+            }
+        }
+        sync();
+    }
+
+    private void sync() {
+        mShadow.clear();
+        int itemCount = mAdapter.getItemCount();
+        mShadow.ensureCapacity(itemCount);
+        for (int i = 0; i < itemCount; i++) {
+            mShadow.add(getKey(i));
+        }
+        mNotifications.setLength(0);
+        mDataSetChanged = false;
+    }
+
+    /**
+     * @return the item at the position, or its identifier if the items are created by a source (they can be recreated)
+     */
+    private Object getKey(int position) {
+        IDrawerItem drawerItem = mAdapter.getItem(position);
+        if (drawerItem != null && mAdapter.getDrawerItemSource() != null && mAdapter.getSegment(position) == BaseDrawerAdapter.SEGMENT_ITEMS) {
+            return drawerItem.getIdentifier();
+        }
+        return drawerItem;
+    }
+
+    private static boolean isSame(Object expected, Object key) {
+        //the identifiers are compared by value, the items by instance (their equals only compares the identifier)
+        if (expected instanceof Integer) {
+            return expected.equals(key);
+        }
+        return expected == key;
+    }
+
+    private void checkRange(int positionStart, int itemCount, int size, String notification) {
+        if (positionStart < 0 || itemCount < 0 || positionStart + itemCount > size) {
+            fail(notification + " of " + positionStart + " +" + itemCount + " is out of range, the adapter had " + size + " items");
+        }
+    }
+
+    private void fail(String message) {
+        String notifications = mNotifications.toString();
+        sync();
+        throw new RuntimeException("Inconsistent adapter notification: " + message + " (notifications: " + notifications + ")");
+    }
+}
@@ -0,0 +1,311 @@
+package com.mikepenz.materialdrawer.adapter;
+
+import com.mikepenz.materialdrawer.model.interfaces.IDrawerItem;
+import com.mikepenz.materialdrawer.util.IntIntHashMap;
+
+import java.util.ArrayList;
+
+/**
+ * Created by mikepenz on 26.10.15.
+ * Keeps track of the selected drawerItems by their identifier, so deselecting the previous selection does not require
+ * to scan all items and is not affected by items which were added, removed or moved in the meantime.
+ * Items without an identifier are remembered by their instance.
+ * The positions are only resolved through the Host when a selection changes.
+ */
+public class DrawerSelection {
+    public static final int MODE_NONE = 0;
+    public static final int MODE_SINGLE = 1;
+    public static final int MODE_MULTI = 2;
+
+    private final Host mHost;
+    private int mMode = MODE_SINGLE;
+
+    //the identifiers of the selected items (the value is not used)
+    private final IntIntHashMap mSelectedIdentifiers = new IntIntHashMap(4, -1);
+    //the selected items without an identifier
+    private final ArrayList<IDrawerItem> mSelectedItems = new ArrayList<>();
+
+    private OnSelectionChangedListener mOnSelectionChangedListener;
+
+    public DrawerSelection(Host host) {
+        this.mHost = host;
+    }
+
+    /**
+     * @param mode MODE_NONE, MODE_SINGLE or MODE_MULTI
+     */
+    public void setMode(int mode) {
+        if (mode != MODE_NONE && mode != MODE_SINGLE && mode != MODE_MULTI) {
+            throw new RuntimeException("unknown selection mode " + mode);
+        }
+        this.mMode = mode;
+        if (mode == MODE_NONE) {
+            deselectAll();
+        }
+    }
+
+    public int getMode() {
+        return mMode;
+    }
+
+    public void setOnSelectionChangedListener(OnSelectionChangedListener onSelectionChangedListener) {
+        this.mOnSelectionChangedListener = onSelectionChangedListener;
+    }
+
+    public OnSelectionChangedListener getOnSelectionChangedListener() {
+        return mOnSelectionChangedListener;
+    }
+
+    /**
+     * remembers the item if it is already selected (e.g. if it was defined as selected before it was added)
+     *
+     * @param drawerItem
+     */
+    public void track(IDrawerItem drawerItem) {
+        if (drawerItem != null && drawerItem.isSelected()) {
+            remember(drawerItem);
+        }
+    }
+
+    /**
+     * selects the item at the position. in MODE_SINGLE the previous selection is removed
+     *
+     * @param position
+     */
+    public void select(int position) {
+        if (mMode == MODE_NONE) {
+            return;
+        }
+        IDrawerItem drawerItem = mHost.getItem(position);
+        if (drawerItem == null) {
+            return;
+        }
+
+        if (mMode == MODE_SINGLE) {
+            deselectAllExcept(drawerItem);
+        }
+
+        boolean changed = !drawerItem.isSelected();
+        drawerItem.withSetSelected(true);
+        remember(drawerItem);
+        if (changed) {
+            dispatch(position, drawerItem, true);
+        }
+    }
+
+    /**
+     * deselects the item at the position
+     *
+     * @param position
+     */
+    public void deselect(int position) {
+        IDrawerItem drawerItem = mHost.getItem(position);
+        if (drawerItem == null) {
+            return;
+        }
+
+        forget(drawerItem);
+        if (drawerItem.isSelected()) {
+            drawerItem.withSetSelected(false);
+            dispatch(position, drawerItem, false);
+        }
+    }
+
+    /**
+     * selects the item at the position if it is not selected, and deselects it otherwise
+     *
+     * @param position
+     */
+    public void toggle(int position) {
+        IDrawerItem drawerItem = mHost.getItem(position);
+        if (drawerItem != null && drawerItem.isSelected()) {
+            deselect(position);
+        } else {
+            select(position);
+        }
+    }
+
+    /**
+     * deselects all selected items. this only touches the items which are selected
+     */
+    public void deselectAll() {
+        deselectAllExcept(null);
+    }
+
+    private void deselectAllExcept(IDrawerItem except) {
+        if (!mSelectedIdentifiers.isEmpty()) {
+            for (int identifier : mSelectedIdentifiers.keys()) {
+                if (except != null && except.getIdentifier() == identifier) {
+                    continue;
+                }
+                mSelectedIdentifiers.remove(identifier);
+
+                //the item could have been removed or replaced in the meantime
+                int position = mHost.getPosition(identifier);
+                IDrawerItem drawerItem = getItem(position, identifier);
+                if (drawerItem != null && drawerItem.getIdentifier() == identifier && drawerItem.isSelected()) {
+                    drawerItem.withSetSelected(false);
+                    dispatch(position, drawerItem, false);
+                }
+            }
+        }
+
+        for (int i = mSelectedItems.size() - 1; i >= 0; i--) {
+            IDrawerItem drawerItem = mSelectedItems.get(i);
+            if (drawerItem == except) {
+                continue;
+            }
+            mSelectedItems.remove(i);
+
+            if (drawerItem.isSelected()) {
+                drawerItem.withSetSelected(false);
+                //items without identifier have to be searched, but they are rare as the builder assigns identifiers
+                int position = mHost.getPosition(drawerItem);
+                if (position != -1) {
+                    dispatch(position, drawerItem, false);
+                }
+            }
+        }
+    }
+
+    /**
+     * @param identifier
+     * @return true if the item with this identifier was selected
+     */
+    public boolean isSelectedIdentifier(int identifier) {
+        return identifier >= 0 && mSelectedIdentifiers.containsKey(identifier);
+    }
+
+    /**
+     * @return the identifiers of the selected items (items without identifier are not contained)
+     */
+    public int[] getSelectedIdentifiers() {
+        purge();
+        return mSelectedIdentifiers.keys();
+    }
+
+    /**
+     * @return the selected items which are currently contained
+     */
+    public ArrayList<IDrawerItem> getSelectedItems() {
+        purge();
+        ArrayList<IDrawerItem> selectedItems = new ArrayList<>(mSelectedIdentifiers.size() + mSelectedItems.size());
+        for (int identifier : mSelectedIdentifiers.keys()) {
+            selectedItems.add(getItem(mHost.getPosition(identifier), identifier));
+        }
+        selectedItems.addAll(mSelectedItems);
+        return selectedItems;
+    }
+
+    /**
+     * removes the items which were removed or deselected without this selection
+     */
+    private void purge() {
+        for (int identifier : mSelectedIdentifiers.keys()) {
+            IDrawerItem drawerItem = getItem(mHost.getPosition(identifier), identifier);
+            if (drawerItem == null || drawerItem.getIdentifier() != identifier || !drawerItem.isSelected()) {
+                mSelectedIdentifiers.remove(identifier);
+            }
+        }
+        for (int i = mSelectedItems.size() - 1; i >= 0; i--) {
+            IDrawerItem drawerItem = mSelectedItems.get(i);
+            if (!drawerItem.isSelected() || mHost.getPosition(drawerItem) == -1) {
+                mSelectedItems.remove(i);
+            }
+        }
+    }
+
+    private void remember(IDrawerItem drawerItem) {
+        if (drawerItem.getIdentifier() >= 0) {
+            mSelectedIdentifiers.put(drawerItem.getIdentifier(), 0);
+        } else if (indexOfInstance(drawerItem) == -1) {
+            mSelectedItems.add(drawerItem);
+        }
+    }
+
+    private void forget(IDrawerItem drawerItem) {
+        if (drawerItem.getIdentifier() >= 0) {
+            mSelectedIdentifiers.remove(drawerItem.getIdentifier());
+        } else {
+            int index = indexOfInstance(drawerItem);
+            if (index != -1) {
+                mSelectedItems.remove(index);
+            }
+        }
+    }
+
+    /**
+     * equals of the items only compares the identifier, so the items without identifier are compared by their instance
+     */
+    private int indexOfInstance(IDrawerItem drawerItem) {
+        for (int i = 0; i < mSelectedItems.size(); i++) {
+            if (mSelectedItems.get(i) == drawerItem) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @return the item at the position, or the hidden item with the identifier if the position is -1
+     */
+    private IDrawerItem getItem(int position, int identifier) {
+        return position == -1 ? mHost.getHiddenItem(identifier) : mHost.getItem(position);
+    }
+
+    private void dispatch(int position, IDrawerItem drawerItem, boolean selected) {
+        //hidden items have no view to update
+        if (position != -1) {
+            mHost.onSelectionChanged(position, drawerItem, selected);
+        }
+        if (mOnSelectionChangedListener != null) {
+            mOnSelectionChangedListener.onSelectionChanged(drawerItem, selected);
+        }
+    }
+
+    /**
+     * the container of the items (the adapter or the sticky footer)
+     */
+    public interface Host {
+        /**
+         * @param identifier
+         * @return the position of the item with this identifier or -1
+         */
+        int getPosition(int identifier);
+
+        /**
+         * only used for items without identifier
+         *
+         * @param drawerItem
+         * @return the position of this instance or -1
+         */
+        int getPosition(IDrawerItem drawerItem);
+
+        /**
+         * @param position
+         * @return the item at the position or null
+         */
+        IDrawerItem getItem(int position);
+
+        /**
+         * hidden (or filtered) items keep their selection, but have no position
+         *
+         * @param identifier
+         * @return the hidden item with this identifier or null
+         */
+        IDrawerItem getHiddenItem(int identifier);
+
+        /**
+         * called after the selected state of the item was changed, so the view can be updated
+         *
+         * @param position
+         * @param drawerItem
+         * @param selected
+         */
+        void onSelectionChanged(int position, IDrawerItem drawerItem, boolean selected);
+    }
+
+    public interface OnSelectionChangedListener {
+        void onSelectionChanged(IDrawerItem drawerItem, boolean selected);
+    }
+}
@@ -0,0 +1,287 @@
+package com.mikepenz.materialdrawer.adapter;
+
+import com.mikepenz.materialdrawer.holder.StringHolder;
+import com.mikepenz.materialdrawer.model.AbstractDrawerItem;
+import com.mikepenz.materialdrawer.model.interfaces.Badgeable;
+import com.mikepenz.materialdrawer.model.interfaces.IDrawerItem;
+import com.mikepenz.materialdrawer.model.interfaces.Nameable;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+
+/**
+ * Created by mikepenz on 02.11.15.
+ * An immutable copy of the state of the drawerItems (identifier, type, name, badge, selection).
+ * The snapshot is created on the main thread after the changes were notified, and can be read from any thread
+ * without locking. Entries of items which did not change are shared with the previous snapshot, and if only some items
+ * changed just their entries are created again.
+ * <p/>
+ * The name and badge are the StringHolders of the items, a resource has to be resolved with StringHolder.getText(Context).
+ */
+public final class DrawerSnapshot {
+    public static final DrawerSnapshot EMPTY = new DrawerSnapshot(new Item[0], 0, null);
+
+    private final Item[] mItems;
+    private final List<Item> mItemList;
+    private final int[] mSelectedIdentifiers;
+    private final long mVersion;
+
+    /**
+     * @param items
+     * @param version
+     * @param selectedIdentifiers the identifiers of the selected items, or null to collect them from the items
+     */
+    private DrawerSnapshot(Item[] items, long version, int[] selectedIdentifiers) {
+        this.mItems = items;
+        this.mVersion = version;
+        this.mItemList = new AbstractList<Item>() {
+            @Override
+            public Item get(int index) {
+                return mItems[index];
+            }
+
+            @Override
+            public int size() {
+                return mItems.length;
+            }
+        };
+
+        if (selectedIdentifiers != null) {
+            mSelectedIdentifiers = selectedIdentifiers;
+            return;
+        }
+        int selectedCount = 0;
+        for (Item item : items) {
+            if (item.mSelected) {
+                selectedCount = selectedCount + 1;
+            }
+        }
+        mSelectedIdentifiers = new int[selectedCount];
+        int s = 0;
+        for (Item item : items) {
+            if (item.mSelected) {
+                mSelectedIdentifiers[s] = item.mIdentifier;
+                s = s + 1;
+            }
+        }
+    }
+
+    /**
+     * creates the snapshot of the drawerItems. the entries of the previous snapshot are reused if the item did not change,
+     * and the previous snapshot itself is returned if nothing changed
+     *
+     * @param drawerItems
+     * @param previous
+     * @return
+     */
+    static DrawerSnapshot create(List<IDrawerItem> drawerItems, DrawerSnapshot previous) {
+        int size = drawerItems.size();
+        Item[] items = new Item[size];
+        boolean changed = size != previous.mItems.length;
+        //only built if the items are not at the same position as before
+        IdentityHashMap<IDrawerItem, Item> previousItems = null;
+
+        for (int i = 0; i < size; i++) {
+            IDrawerItem drawerItem = drawerItems.get(i);
+            Item item = null;
+            if (i < previous.mItems.length && previous.mItems[i].mDrawerItem == drawerItem) {
+                item = previous.mItems[i];
+            } else {
+                changed = true;
+                if (previousItems == null) {
+                    previousItems = new IdentityHashMap<>(previous.mItems.length);
+                    for (Item previousItem : previous.mItems) {
+                        previousItems.put(previousItem.mDrawerItem, previousItem);
+                    }
+                }
+                item = previousItems.get(drawerItem);
+            }
+
+            if (item == null || !item.isSnapshotOf(drawerItem)) {
+                item = new Item(drawerItem);
+                changed = true;
+            }
+            items[i] = item;
+        }
+
+        if (!changed) {
+            return previous;
+        }
+        return new DrawerSnapshot(items, previous.mVersion + 1, null);
+    }
+
+    /**
+     * updates the entries of the snapshot between both indices, if the list was not structurally modified. the other entries
+     * are copied without checking them, and the previous snapshot itself is returned if nothing changed
+     *
+     * @param drawerItems
+     * @param previous
+     * @param from        the first changed index
+     * @param to          the last changed index
+     * @return
+     */
+    static DrawerSnapshot update(List<IDrawerItem> drawerItems, DrawerSnapshot previous, int from, int to) {
+        Item[] items = null;
+        boolean selectionChanged = false;
+        for (int i = Math.max(from, 0); i <= to && i < previous.mItems.length; i++) {
+            IDrawerItem drawerItem = drawerItems.get(i);
+            Item previousItem = previous.mItems[i];
+            if (!previousItem.isSnapshotOf(drawerItem)) {
+                if (items == null) {
+                    items = Arrays.copyOf(previous.mItems, previous.mItems.length);
+                }
+                items[i] = new Item(drawerItem);
+                if (previousItem.mSelected != items[i].mSelected || (previousItem.mSelected && previousItem.mIdentifier != items[i].mIdentifier)) {
+                    selectionChanged = true;
+                }
+            }
+        }
+
+        if (items == null) {
+            return previous;
+        }
+        return new DrawerSnapshot(items, previous.mVersion + 1, selectionChanged ? null : previous.mSelectedIdentifiers);
+    }
+
+    /**
+     * @return the items, in the order of the drawer. the list can't be modified
+     */
+    public List<Item> getItems() {
+        return mItemList;
+    }
+
+    /**
+     * @param identifier
+     * @return the item with the identifier or null
+     */
+    public Item getItem(int identifier) {
+        for (Item item : mItems) {
+            if (item.mIdentifier == identifier) {
+                return item;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return the identifiers of all items, in the order of the drawer
+     */
+    public int[] getIdentifiers() {
+        int[] identifiers = new int[mItems.length];
+        for (int i = 0; i < identifiers.length; i++) {
+            identifiers[i] = mItems[i].mIdentifier;
+        }
+        return identifiers;
+    }
+
+    /**
+     * @return the identifiers of the selected items
+     */
+    public int[] getSelectedIdentifiers() {
+        return Arrays.copyOf(mSelectedIdentifiers, mSelectedIdentifiers.length);
+    }
+
+    /**
+     * @return the identifier of the first selected item or -1
+     */
+    public int getSelectedIdentifier() {
+        return mSelectedIdentifiers.length > 0 ? mSelectedIdentifiers[0] : -1;
+    }
+
+    /**
+     * @return a number which is incremented with every published change, useful to detect if anything changed
+     */
+    public long getVersion() {
+        return mVersion;
+    }
+
+    /**
+     * the immutable state of one drawerItem
+     */
+    public static final class Item {
+        //only used on the main thread to find out if the item changed since the snapshot
+        private final IDrawerItem mDrawerItem;
+
+        private final int mIdentifier;
+        private final String mType;
+        private final StringHolder mName;
+        private final StringHolder mBadge;
+        private final boolean mSelected;
+        private final boolean mEnabled;
+        private final boolean mVisible;
+
+        Item(IDrawerItem drawerItem) {
+            this.mDrawerItem = drawerItem;
+            this.mIdentifier = drawerItem.getIdentifier();
+            this.mType = drawerItem.getType();
+            this.mName = getName(drawerItem);
+            this.mBadge = getBadge(drawerItem);
+            this.mSelected = drawerItem.isSelected();
+            this.mEnabled = drawerItem.isEnabled();
+            this.mVisible = isVisible(drawerItem);
+        }
+
+        /**
+         * @param drawerItem
+         * @return true if this is still the state of the drawerItem
+         */
+        boolean isSnapshotOf(IDrawerItem drawerItem) {
+            //the StringHolders can't be modified, so it is enough to compare the instances
+            return mDrawerItem == drawerItem
+                    && mIdentifier == drawerItem.getIdentifier()
+                    && mName == getName(drawerItem)
+                    && mBadge == getBadge(drawerItem)
+                    && mSelected == drawerItem.isSelected()
+                    && mEnabled == drawerItem.isEnabled()
+                    && mVisible == isVisible(drawerItem);
+        }
+
+        public int getIdentifier() {
+            return mIdentifier;
+        }
+
+        public String getType() {
+            return mType;
+        }
+
+        /**
+         * @return the name or null if the item has no name
+         */
+        public StringHolder getName() {
+            return mName;
+        }
+
+        /**
+         * @return the badge or null if the item has no badge
+         */
+        public StringHolder getBadge() {
+            return mBadge;
+        }
+
+        public boolean isSelected() {
+            return mSelected;
+        }
+
+        public boolean isEnabled() {
+            return mEnabled;
+        }
+
+        public boolean isVisible() {
+            return mVisible;
+        }
+
+        private static StringHolder getName(IDrawerItem drawerItem) {
+            return drawerItem instanceof Nameable ? ((Nameable) drawerItem).getName() : null;
+        }
+
+        private static StringHolder getBadge(IDrawerItem drawerItem) {
+            return drawerItem instanceof Badgeable ? ((Badgeable) drawerItem).getBadge() : null;
+        }
+
+        private static boolean isVisible(IDrawerItem drawerItem) {
+            return !(drawerItem instanceof AbstractDrawerItem) || ((AbstractDrawerItem) drawerItem).isVisible();
+        }
+    }
+}
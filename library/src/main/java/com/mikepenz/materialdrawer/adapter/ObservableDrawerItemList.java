@@ -0,0 +1,461 @@
+package com.mikepenz.materialdrawer.adapter;
+
+import com.mikepenz.materialdrawer.model.interfaces.IDrawerItem;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Created by mikepenz on 31.10.15.
+ * The list of drawerItems which is returned by the adapter. Every modification is forwarded to the adapter
+ * (after the list was modified), which notifies only the affected positions. This also works for modifications through
+ * the iterators and subLists of this list, so code which modifies the list directly doesn't have to call notifyDataSetChanged.
+ * <p/>
+ * sort (and Collections.sort) is notified as a change of every moved position. The java 8 methods removeIf, replaceAll and
+ * forEach can't be observed (their parameter types are missing before API 24), so any modification of the list after one
+ * of them modified it throws a ConcurrentModificationException. Use removeAll, retainAll or a listIterator instead.
+ */
+public class ObservableDrawerItemList extends ArrayList<IDrawerItem> {
+    private Observer mObserver;
+    //the modCount after the last observed modification, a different modCount was caused by an unobserved method
+    private int mObservedModCount;
+
+    ObservableDrawerItemList(Collection<? extends IDrawerItem> drawerItems, Observer observer) {
+        super(drawerItems);
+        this.mObserver = observer;
+        this.mObservedModCount = modCount;
+    }
+
+    /**
+     * stops forwarding the modifications, called if the adapter does not use this list anymore
+     */
+    void detach() {
+        mObserver = null;
+    }
+
+    @Override
+    public boolean add(IDrawerItem drawerItem) {
+        checkObserved();
+        super.add(drawerItem);
+        onInserted(size() - 1, 1);
+        return true;
+    }
+
+    @Override
+    public void add(int index, IDrawerItem drawerItem) {
+        checkObserved();
+        super.add(index, drawerItem);
+        onInserted(index, 1);
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends IDrawerItem> drawerItems) {
+        checkObserved();
+        int index = size();
+        boolean modified = super.addAll(drawerItems);
+        onInserted(index, size() - index);
+        return modified;
+    }
+
+    @Override
+    public boolean addAll(int index, Collection<? extends IDrawerItem> drawerItems) {
+        checkObserved();
+        int size = size();
+        boolean modified = super.addAll(index, drawerItems);
+        onInserted(index, size() - size);
+        return modified;
+    }
+
+    @Override
+    public IDrawerItem set(int index, IDrawerItem drawerItem) {
+        checkObserved();
+        IDrawerItem previous = super.set(index, drawerItem);
+        if (mObserver != null && previous != drawerItem) {
+            mObserver.onItemChanged(index, previous);
+        }
+        return previous;
+    }
+
+    /**
+     * moves the item to the index without removing and inserting it (the items between are shifted by one).
+     * this is notified as a move
+     *
+     * @param fromIndex
+     * @param toIndex
+     */
+    public void move(int fromIndex, int toIndex) {
+        checkObserved();
+        IDrawerItem drawerItem = get(fromIndex);
+        if (fromIndex < toIndex) {
+            for (int i = fromIndex; i < toIndex; i++) {
+                super.set(i, get(i + 1));
+            }
+        } else {
+            for (int i = fromIndex; i > toIndex; i--) {
+                super.set(i, get(i - 1));
+            }
+        }
+        super.set(toIndex, drawerItem);
+        if (mObserver != null && fromIndex != toIndex) {
+            mObserver.onItemMoved(fromIndex, toIndex);
+        }
+    }
+
+    /**
+     * sorts the list, every position which got another item is notified as a change.
+     * this is also used by Collections.sort since API 24
+     *
+     * @param comparator
+     */
+    public void sort(Comparator<? super IDrawerItem> comparator) {
+        checkObserved();
+        IDrawerItem[] sorted = toArray(new IDrawerItem[size()]);
+        Arrays.sort(sorted, comparator);
+        modCount++;
+        mObservedModCount = modCount;
+        for (int i = 0; i < sorted.length; i++) {
+            IDrawerItem previous = super.set(i, sorted[i]);
+            if (mObserver != null && previous != sorted[i]) {
+                mObserver.onItemChanged(i, previous);
+            }
+        }
+    }
+
+    @Override
+    public IDrawerItem remove(int index) {
+        checkObserved();
+        IDrawerItem previous = super.remove(index);
+        mObservedModCount = modCount;
+        if (mObserver != null) {
+            mObserver.onItemRangeRemoved(index, Collections.singletonList(previous));
+        }
+        return previous;
+    }
+
+    @Override
+    public boolean remove(Object object) {
+        int index = indexOf(object);
+        if (index == -1) {
+            return false;
+        }
+        remove(index);
+        return true;
+    }
+
+    @Override
+    public void clear() {
+        checkObserved();
+        List<IDrawerItem> removed = getRemovedItems(0, size());
+        super.clear();
+        onRemoved(0, removed);
+    }
+
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        checkObserved();
+        List<IDrawerItem> removed = getRemovedItems(fromIndex, toIndex);
+        super.removeRange(fromIndex, toIndex);
+        onRemoved(fromIndex, removed);
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> collection) {
+        return batchRemove(collection, false);
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> collection) {
+        return batchRemove(collection, true);
+    }
+
+    /**
+     * removes the items as ranges, starting at the end so the indices stay valid
+     */
+    private boolean batchRemove(Collection<?> collection, boolean retain) {
+        boolean modified = false;
+        int end = size();
+        for (int i = size() - 1; i >= -1; i--) {
+            boolean remove = i >= 0 && collection.contains(get(i)) != retain;
+            if (!remove) {
+                if (end > i + 1) {
+                    removeRange(i + 1, end);
+                    modified = true;
+                }
+                end = i;
+            }
+        }
+        return modified;
+    }
+
+    @Override
+    public Iterator<IDrawerItem> iterator() {
+        return new Itr(0);
+    }
+
+    @Override
+    public ListIterator<IDrawerItem> listIterator() {
+        return new Itr(0);
+    }
+
+    @Override
+    public ListIterator<IDrawerItem> listIterator(int index) {
+        if (index < 0 || index > size()) {
+            throw new IndexOutOfBoundsException("Index: " + index);
+        }
+        return new Itr(index);
+    }
+
+    @Override
+    public List<IDrawerItem> subList(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > size() || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException("fromIndex: " + fromIndex + ", toIndex: " + toIndex);
+        }
+        return new SubList(fromIndex, toIndex);
+    }
+
+    /**
+     * throws if the list was modified by a method which is not observed (e.g. removeIf or replaceAll), as the adapter
+     * doesn't know the items anymore
+     */
+    private void checkObserved() {
+        if (modCount != mObservedModCount) {
+            throw new ConcurrentModificationException("the drawerItems were modified by an unobserved method (removeIf, replaceAll, forEach)");
+        }
+    }
+
+    private void onInserted(int index, int count) {
+        mObservedModCount = modCount;
+        if (mObserver != null && count > 0) {
+            mObserver.onItemRangeInserted(index, count);
+        }
+    }
+
+    /**
+     * @return a copy of the items which will be removed, or null if the list is not observed
+     */
+    private List<IDrawerItem> getRemovedItems(int fromIndex, int toIndex) {
+        if (mObserver == null || fromIndex >= toIndex) {
+            return null;
+        }
+        ArrayList<IDrawerItem> removed = new ArrayList<>(toIndex - fromIndex);
+        for (int i = fromIndex; i < toIndex; i++) {
+            removed.add(get(i));
+        }
+        return removed;
+    }
+
+    private void onRemoved(int index, List<IDrawerItem> removed) {
+        mObservedModCount = modCount;
+        if (mObserver != null && removed != null) {
+            mObserver.onItemRangeRemoved(index, removed);
+        }
+    }
+
+    /**
+     * an iterator which modifies the list through its observed methods
+     */
+    private class Itr implements ListIterator<IDrawerItem> {
+        private int mCursor;
+        private int mLastReturned = -1;
+        private int mExpectedModCount = modCount;
+
+        Itr(int index) {
+            this.mCursor = index;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return mCursor < size();
+        }
+
+        @Override
+        public IDrawerItem next() {
+            checkModCount();
+            if (mCursor >= size()) {
+                throw new NoSuchElementException();
+            }
+            mLastReturned = mCursor;
+            mCursor = mCursor + 1;
+            return get(mLastReturned);
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return mCursor > 0;
+        }
+
+        @Override
+        public IDrawerItem previous() {
+            checkModCount();
+            if (mCursor <= 0) {
+                throw new NoSuchElementException();
+            }
+            mCursor = mCursor - 1;
+            mLastReturned = mCursor;
+            return get(mLastReturned);
+        }
+
+        @Override
+        public int nextIndex() {
+            return mCursor;
+        }
+
+        @Override
+        public int previousIndex() {
+            return mCursor - 1;
+        }
+
+        @Override
+        public void remove() {
+            if (mLastReturned == -1) {
+                throw new IllegalStateException();
+            }
+            checkModCount();
+            ObservableDrawerItemList.this.remove(mLastReturned);
+            mCursor = mLastReturned;
+            mLastReturned = -1;
+            mExpectedModCount = modCount;
+        }
+
+        @Override
+        public void set(IDrawerItem drawerItem) {
+            if (mLastReturned == -1) {
+                throw new IllegalStateException();
+            }
+            checkModCount();
+            ObservableDrawerItemList.this.set(mLastReturned, drawerItem);
+            mExpectedModCount = modCount;
+        }
+
+        @Override
+        public void add(IDrawerItem drawerItem) {
+            checkModCount();
+            ObservableDrawerItemList.this.add(mCursor, drawerItem);
+            mCursor = mCursor + 1;
+            mLastReturned = -1;
+            mExpectedModCount = modCount;
+        }
+
+        private void checkModCount() {
+            if (modCount != mExpectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+
+    /**
+     * a view of a range of this list, which modifies the list through its observed methods
+     */
+    private class SubList extends AbstractList<IDrawerItem> {
+        private final int mOffset;
+        private int mSize;
+
+        SubList(int fromIndex, int toIndex) {
+            this.mOffset = fromIndex;
+            this.mSize = toIndex - fromIndex;
+            this.modCount = ObservableDrawerItemList.this.modCount;
+        }
+
+        @Override
+        public IDrawerItem get(int index) {
+            checkIndex(index, mSize);
+            return ObservableDrawerItemList.this.get(mOffset + index);
+        }
+
+        @Override
+        public int size() {
+            checkModCount();
+            return mSize;
+        }
+
+        @Override
+        public IDrawerItem set(int index, IDrawerItem drawerItem) {
+            checkIndex(index, mSize);
+            return ObservableDrawerItemList.this.set(mOffset + index, drawerItem);
+        }
+
+        @Override
+        public void add(int index, IDrawerItem drawerItem) {
+            checkIndex(index, mSize + 1);
+            ObservableDrawerItemList.this.add(mOffset + index, drawerItem);
+            mSize = mSize + 1;
+            this.modCount = ObservableDrawerItemList.this.modCount;
+        }
+
+        @Override
+        public boolean addAll(Collection<? extends IDrawerItem> drawerItems) {
+            return addAll(mSize, drawerItems);
+        }
+
+        @Override
+        public boolean addAll(int index, Collection<? extends IDrawerItem> drawerItems) {
+            checkIndex(index, mSize + 1);
+            int size = ObservableDrawerItemList.this.size();
+            ObservableDrawerItemList.this.addAll(mOffset + index, drawerItems);
+            int added = ObservableDrawerItemList.this.size() - size;
+            mSize = mSize + added;
+            this.modCount = ObservableDrawerItemList.this.modCount;
+            return added > 0;
+        }
+
+        @Override
+        public IDrawerItem remove(int index) {
+            checkIndex(index, mSize);
+            IDrawerItem previous = ObservableDrawerItemList.this.remove(mOffset + index);
+            mSize = mSize - 1;
+            this.modCount = ObservableDrawerItemList.this.modCount;
+            return previous;
+        }
+
+        @Override
+        protected void removeRange(int fromIndex, int toIndex) {
+            checkModCount();
+            ObservableDrawerItemList.this.removeRange(mOffset + fromIndex, mOffset + toIndex);
+            mSize = mSize - (toIndex - fromIndex);
+            this.modCount = ObservableDrawerItemList.this.modCount;
+        }
+
+        private void checkIndex(int index, int size) {
+            checkModCount();
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + mSize);
+            }
+        }
+
+        private void checkModCount() {
+            if (this.modCount != ObservableDrawerItemList.this.modCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+
+    /**
+     * is informed about every modification, after the list was modified
+     */
+    interface Observer {
+        void onItemRangeInserted(int index, int count);
+
+        /**
+         * @param index
+         * @param removed the removed items
+         */
+        void onItemRangeRemoved(int index, List<IDrawerItem> removed);
+
+        /**
+         * @param index
+         * @param previous the replaced item
+         */
+        void onItemChanged(int index, IDrawerItem previous);
+
+        void onItemMoved(int fromIndex, int toIndex);
+    }
+}
@@ -2,6 +2,7 @@ package com.mikepenz.materialdrawer.holder;
 
 import android.content.Context;
 import android.content.res.ColorStateList;
+import android.content.res.Resources;
 import android.graphics.drawable.Drawable;
 import android.support.annotation.ColorInt;
 import android.support.annotation.ColorRes;
@@ -10,6 +11,7 @@ import android.widget.TextView;
 
 import com.mikepenz.materialdrawer.R;
 import com.mikepenz.materialdrawer.model.utils.BadgeDrawableBuilder;
+import com.mikepenz.materialdrawer.util.DrawerUIUtils;
 import com.mikepenz.materialize.util.UIUtils;
 
 /**
@@ -18,6 +20,9 @@ import com.mikepenz.materialize.util.UIUtils;
 public class BadgeStyle {
     private int mGradientDrawable = R.drawable.material_drawer_badge;
     private Drawable mBadgeBackground;
+    //the background which was built for the last badge, it is reused once that badge does not show it anymore
+    private Drawable mBuiltBackground;
+    private Resources.Theme mBuiltBackgroundTheme;
     private ColorHolder mColor;
     private ColorHolder mColorPressed;
     private ColorHolder mTextColor;
@@ -33,6 +38,7 @@ public class BadgeStyle {
     public BadgeStyle withGradientDrawable(@DrawableRes int gradientDrawable) {
         this.mGradientDrawable = gradientDrawable;
         this.mBadgeBackground = null;
+        this.mBuiltBackground = null;
         return this;
     }
 
@@ -43,6 +49,7 @@ public class BadgeStyle {
     public BadgeStyle withBadgeBackground(Drawable badgeBackground) {
         this.mBadgeBackground = badgeBackground;
         this.mGradientDrawable = -1;
+        this.mBuiltBackground = null;
         return this;
     }
 
@@ -52,11 +59,13 @@ public class BadgeStyle {
 
     public BadgeStyle withColor(@ColorInt int color) {
         this.mColor = ColorHolder.fromColor(color);
+        this.mBuiltBackground = null;
         return this;
     }
 
     public BadgeStyle withColorRes(@ColorRes int color) {
         this.mColor = ColorHolder.fromColorRes(color);
+        this.mBuiltBackground = null;
         return this;
     }
 
@@ -66,11 +75,13 @@ public class BadgeStyle {
 
     public BadgeStyle withColorPressed(@ColorInt int colorPressed) {
         this.mColorPressed = ColorHolder.fromColor(colorPressed);
+        this.mBuiltBackground = null;
         return this;
     }
 
     public BadgeStyle withColorPressedRes(@ColorRes int colorPressed) {
         this.mColorPressed = ColorHolder.fromColorRes(colorPressed);
+        this.mBuiltBackground = null;
         return this;
     }
 
@@ -94,11 +105,13 @@ public class BadgeStyle {
 
     public BadgeStyle withCorners(int corners) {
         this.mCorners = DimenHolder.fromPixel(corners);
+        this.mBuiltBackground = null;
         return this;
     }
 
     public BadgeStyle withCornersDp(int corners) {
         this.mCorners = DimenHolder.fromDp(corners);
+        this.mBuiltBackground = null;
         return this;
     }
 
@@ -164,7 +177,11 @@ public class BadgeStyle {
         Context ctx = badgeTextView.getContext();
         //set background for badge
         if (mBadgeBackground == null) {
-            UIUtils.setBackground(badgeTextView, new BadgeDrawableBuilder(this).build(ctx));
+            if (mBuiltBackground == null || mBuiltBackgroundTheme != ctx.getTheme() || !DrawerUIUtils.takeDrawable(mBuiltBackground, badgeTextView)) {
+                mBuiltBackground = new BadgeDrawableBuilder(this).build(ctx);
+                mBuiltBackgroundTheme = ctx.getTheme();
+            }
+            UIUtils.setBackground(badgeTextView, mBuiltBackground);
         } else {
             UIUtils.setBackground(badgeTextView, mBadgeBackground);
         }
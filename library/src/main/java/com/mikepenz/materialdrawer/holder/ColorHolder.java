@@ -12,7 +12,7 @@ import android.view.View;
 import android.widget.TextView;
 
 import com.mikepenz.iconics.IconicsDrawable;
-import com.mikepenz.materialize.util.UIUtils;
+import com.mikepenz.materialdrawer.util.DrawerUIUtils;
 
 /**
  * Created by mikepenz on 13.07.15.
@@ -114,7 +114,7 @@ public class ColorHolder {
         //get the color from the holder else from the theme
         int color = color(ctx);
         if (color == 0) {
-            return UIUtils.getThemeColorFromAttrOrRes(ctx, colorStyle, colorDefaultRes);
+            return DrawerUIUtils.getThemeColorFromAttrOrRes(ctx, colorStyle, colorDefaultRes);
         } else {
             return color;
         }
@@ -144,7 +144,7 @@ public class ColorHolder {
      */
     public static int color(ColorHolder colorHolder, Context ctx, @AttrRes int colorStyle, @ColorRes int colorDefault) {
         if (colorHolder == null) {
-            return UIUtils.getThemeColorFromAttrOrRes(ctx, colorStyle, colorDefault);
+            return DrawerUIUtils.getThemeColorFromAttrOrRes(ctx, colorStyle, colorDefault);
         } else {
             return colorHolder.color(ctx, colorStyle, colorDefault);
         }
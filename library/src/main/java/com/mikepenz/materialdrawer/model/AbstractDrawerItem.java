@@ -11,7 +11,11 @@ import com.mikepenz.materialdrawer.model.interfaces.IDrawerItem;
 import com.mikepenz.materialdrawer.model.interfaces.OnPostBindViewListener;
 import com.mikepenz.materialdrawer.model.interfaces.Selectable;
 import com.mikepenz.materialdrawer.model.interfaces.Tagable;
+import com.mikepenz.materialdrawer.model.utils.DrawerItemPayload;
 import com.mikepenz.materialdrawer.model.utils.ViewHolderFactory;
+import com.mikepenz.materialdrawer.util.DrawerItemViews;
+
+import java.util.List;
 
 /**
  * Created by mikepenz on 14.07.15.
@@ -29,6 +33,26 @@ public abstract class AbstractDrawerItem<T> implements IDrawerItem<T>, Selectabl
         return mIdentifier;
     }
 
+    //the viewType of the type of this item, assigned once by the DrawerItemTypeRegistry
+    private int mViewType = -1;
+
+    /**
+     * @return the viewType which the DrawerItemTypeRegistry assigned to getType(), or -1 if it was not registered yet
+     */
+    public int getViewType() {
+        return mViewType;
+    }
+
+    /**
+     * caches the viewType of this item, only used by the DrawerItemTypeRegistry.
+     * the type of an item must not change after it was added to an adapter
+     *
+     * @param viewType
+     */
+    public void setViewType(int viewType) {
+        this.mViewType = viewType;
+    }
+
     protected Object mTag;
 
     public T withTag(Object object) {
@@ -53,6 +77,24 @@ public abstract class AbstractDrawerItem<T> implements IDrawerItem<T>, Selectabl
         return mEnabled;
     }
 
+    protected boolean mVisible = true;
+
+    /**
+     * hidden items stay in the list of the adapter, but are not shown and do not have a position.
+     * to change the visibility of an item which was already added use Drawer.setVisible
+     *
+     * @param visible
+     * @return
+     */
+    public T withVisible(boolean visible) {
+        this.mVisible = visible;
+        return (T) this;
+    }
+
+    public boolean isVisible() {
+        return mVisible;
+    }
+
     protected boolean mSelected = false;
 
     @Override
@@ -79,6 +121,23 @@ public abstract class AbstractDrawerItem<T> implements IDrawerItem<T>, Selectabl
         return mSelectable;
     }
 
+    protected boolean mDraggable = true;
+
+    /**
+     * define if the item can be dragged to another position, if reordering is enabled for the drawer
+     *
+     * @param draggable
+     * @return
+     */
+    public T withDraggable(boolean draggable) {
+        this.mDraggable = draggable;
+        return (T) this;
+    }
+
+    public boolean isDraggable() {
+        return mDraggable;
+    }
+
     public Drawer.OnDrawerItemClickListener mOnDrawerItemClickListener = null;
 
     public Drawer.OnDrawerItemClickListener getOnDrawerItemClickListener() {
@@ -127,25 +186,68 @@ public abstract class AbstractDrawerItem<T> implements IDrawerItem<T>, Selectabl
         }
     }
 
+    /**
+     * binds the view for a partial change. only the views affected by the payloads (see DrawerItemPayload) are updated,
+     * if the payloads are empty or not supported by this item the whole view is bound
+     *
+     * @param holder
+     * @param payloads
+     */
+    public void bindView(RecyclerView.ViewHolder holder, List<Object> payloads) {
+        int flags = DrawerItemPayload.toFlags(payloads);
+        if (flags == 0 || !bindPayloads(holder, flags)) {
+            bindView(holder);
+        }
+    }
+
+    /**
+     * override this to support partial binding. only update the views affected by the payloads
+     *
+     * @param holder
+     * @param payloads the flags of the DrawerItemPayloads
+     * @return true if the payloads were bound, false if the whole view has to be bound
+     */
+    protected boolean bindPayloads(RecyclerView.ViewHolder holder, int payloads) {
+        return false;
+    }
+
     public abstract ViewHolderFactory getFactory();
 
     @Override
     public View generateView(Context ctx) {
-        RecyclerView.ViewHolder viewHolder = getFactory().factory(LayoutInflater.from(ctx).inflate(getLayoutRes(), null, false));
+        RecyclerView.ViewHolder viewHolder = getFactory().factory(createView(ctx, null));
         bindView(viewHolder);
         return viewHolder.itemView;
     }
 
     @Override
     public View generateView(Context ctx, ViewGroup parent) {
-        RecyclerView.ViewHolder viewHolder = getFactory().factory(LayoutInflater.from(ctx).inflate(getLayoutRes(), parent, false));
+        RecyclerView.ViewHolder viewHolder = getFactory().factory(createView(ctx, parent));
         bindView(viewHolder);
         return viewHolder.itemView;
     }
 
     @Override
     public RecyclerView.ViewHolder getViewHolder(ViewGroup parent) {
-        return getFactory().factory(LayoutInflater.from(parent.getContext()).inflate(getLayoutRes(), parent, false));
+        return getFactory().factory(createView(parent.getContext(), parent));
+    }
+
+    /**
+     * creates the view of the layoutRes. the default layouts are built in code if DrawerItemViews is enabled,
+     * all other layouts are inflated
+     *
+     * @param ctx
+     * @param parent the parent for the layoutParams (can be null)
+     * @return
+     */
+    protected View createView(Context ctx, ViewGroup parent) {
+        if (DrawerItemViews.isEnabled()) {
+            View view = DrawerItemViews.create(ctx, parent, getLayoutRes());
+            if (view != null) {
+                return view;
+            }
+        }
+        return LayoutInflater.from(ctx).inflate(getLayoutRes(), parent, false);
     }
 
     public boolean equals(Integer id) {
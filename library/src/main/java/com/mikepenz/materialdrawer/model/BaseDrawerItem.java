@@ -9,7 +9,6 @@ import android.support.annotation.ColorInt;
 import android.support.annotation.ColorRes;
 import android.support.annotation.DrawableRes;
 import android.support.annotation.StringRes;
-import android.util.Pair;
 
 import com.mikepenz.iconics.typeface.IIcon;
 import com.mikepenz.materialdrawer.R;
@@ -20,6 +19,7 @@ import com.mikepenz.materialdrawer.model.interfaces.Iconable;
 import com.mikepenz.materialdrawer.model.interfaces.Nameable;
 import com.mikepenz.materialdrawer.model.interfaces.Tagable;
 import com.mikepenz.materialdrawer.model.interfaces.Typefaceable;
+import com.mikepenz.materialdrawer.model.utils.DrawerItemIconCache;
 import com.mikepenz.materialdrawer.util.DrawerUIUtils;
 
 /**
@@ -43,7 +43,8 @@ public abstract class BaseDrawerItem<T> extends AbstractDrawerItem<T> implements
 
     protected Typeface typeface = null;
 
-    protected Pair<Integer, ColorStateList> colorStateList;
+    //the icon drawable of this item, so it is not created again for every ViewHolder it is bound to
+    protected DrawerItemIconCache iconCache = new DrawerItemIconCache();
 
     public T withIcon(ImageHolder icon) {
         this.icon = icon;
@@ -320,10 +321,6 @@ public abstract class BaseDrawerItem<T> extends AbstractDrawerItem<T> implements
      * @return
      */
     protected ColorStateList getTextColorStateList(@ColorInt int color, @ColorInt int selectedTextColor) {
-        if (colorStateList == null || color + selectedTextColor != colorStateList.first) {
-            colorStateList = new Pair<>(color + selectedTextColor, DrawerUIUtils.getTextColorStateList(color, selectedTextColor));
-        }
-
-        return colorStateList.second;
+        return DrawerUIUtils.getCachedTextColorStateList(color, selectedTextColor);
     }
 }
@@ -1,7 +1,6 @@
 package com.mikepenz.materialdrawer.model;
 
 import android.content.Context;
-import android.graphics.drawable.Drawable;
 import android.support.annotation.ColorInt;
 import android.support.annotation.ColorRes;
 import android.support.annotation.StringRes;
@@ -12,10 +11,10 @@ import android.widget.TextView;
 
 import com.mikepenz.materialdrawer.R;
 import com.mikepenz.materialdrawer.holder.ColorHolder;
-import com.mikepenz.materialdrawer.holder.ImageHolder;
 import com.mikepenz.materialdrawer.holder.StringHolder;
+import com.mikepenz.materialdrawer.model.utils.DrawerItemPayload;
+import com.mikepenz.materialdrawer.model.utils.ViewHolderBindCache;
 import com.mikepenz.materialdrawer.util.DrawerUIUtils;
-import com.mikepenz.materialize.util.UIUtils;
 
 /**
  * Created by mikepenz on 03.02.15.
@@ -79,7 +78,7 @@ public abstract class BasePrimaryDrawerItem<T> extends BaseDrawerItem<T> {
         int selectedIconColor = getSelectedIconColor(ctx);
 
         //set the background for the item
-        UIUtils.setBackground(viewHolder.view, DrawerUIUtils.getSelectableBackground(ctx, selectedColor));
+        viewHolder.bindCache.applyBackground(viewHolder.view, selectedColor);
         //set the text for the name
         StringHolder.applyTo(this.getName(), viewHolder.name);
         //set the text for the description or hide
@@ -97,19 +96,69 @@ public abstract class BasePrimaryDrawerItem<T> extends BaseDrawerItem<T> {
         }
 
         //get the drawables for our icon and set it
-        Drawable icon = ImageHolder.decideIcon(getIcon(), ctx, iconColor, isIconTinted(), 1);
-        Drawable selectedIcon = ImageHolder.decideIcon(getSelectedIcon(), ctx, selectedIconColor, isIconTinted(), 1);
-        ImageHolder.applyMultiIconTo(icon, iconColor, selectedIcon, selectedIconColor, isIconTinted(), viewHolder.icon);
+        viewHolder.bindCache.applyIcons(viewHolder.icon, iconCache, getIcon(), getSelectedIcon(), iconColor, selectedIconColor, isIconTinted());
 
         //for android API 17 --> Padding not applied via xml
         DrawerUIUtils.setDrawerVerticalPadding(viewHolder.view);
     }
 
+    /**
+     * the payloads which are handled by bindPayloadsHelper
+     */
+    protected static final int HELPER_PAYLOADS = DrawerItemPayload.SELECTION.flag() | DrawerItemPayload.NAME.flag() | DrawerItemPayload.ICON.flag() | DrawerItemPayload.ENABLED.flag();
+
+    @Override
+    protected boolean bindPayloads(RecyclerView.ViewHolder holder, int payloads) {
+        if ((payloads & ~HELPER_PAYLOADS) != 0) {
+            return false;
+        }
+        bindPayloadsHelper((BaseViewHolder) holder, payloads);
+
+        //call the onPostBindView method to trigger post bind view actions (like the listener to modify the item if required)
+        onPostBindView(this, holder.itemView);
+        return true;
+    }
+
+    /**
+     * a helper method which only binds the views affected by the payloads (see HELPER_PAYLOADS)
+     *
+     * @param viewHolder
+     * @param payloads   the flags of the DrawerItemPayloads
+     */
+    protected void bindPayloadsHelper(BaseViewHolder viewHolder, int payloads) {
+        Context ctx = viewHolder.itemView.getContext();
+
+        //the background and the colors are StateLists, so the selection only has to be set
+        if (DrawerItemPayload.SELECTION.isIn(payloads)) {
+            viewHolder.itemView.setSelected(isSelected());
+        }
+
+        if (DrawerItemPayload.NAME.isIn(payloads)) {
+            StringHolder.applyTo(this.getName(), viewHolder.name);
+        }
+
+        //the text and icon colors depend on the enabled state
+        if (DrawerItemPayload.ENABLED.isIn(payloads)) {
+            int color = getColor(ctx);
+            int selectedTextColor = getSelectedTextColor(ctx);
+            viewHolder.name.setTextColor(getTextColorStateList(color, selectedTextColor));
+            ColorHolder.applyToOr(getDescriptionTextColor(), viewHolder.description, getTextColorStateList(color, selectedTextColor));
+        }
+
+        if (DrawerItemPayload.ICON.isIn(payloads) || DrawerItemPayload.ENABLED.isIn(payloads)) {
+            //the ImageHolder may have been modified, so the icons are always set again
+            viewHolder.bindCache.invalidateIcons();
+            iconCache.invalidate();
+            viewHolder.bindCache.applyIcons(viewHolder.icon, iconCache, getIcon(), getSelectedIcon(), getIconColor(ctx), getSelectedIconColor(ctx), isIconTinted());
+        }
+    }
+
     protected static class BaseViewHolder extends RecyclerView.ViewHolder {
         protected View view;
         protected ImageView icon;
         protected TextView name;
         protected TextView description;
+        protected ViewHolderBindCache bindCache = new ViewHolderBindCache();
 
         public BaseViewHolder(View view) {
             super(view);
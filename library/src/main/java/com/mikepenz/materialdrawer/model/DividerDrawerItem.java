@@ -8,7 +8,7 @@ import android.view.View;
 
 import com.mikepenz.materialdrawer.R;
 import com.mikepenz.materialdrawer.model.utils.ViewHolderFactory;
-import com.mikepenz.materialize.util.UIUtils;
+import com.mikepenz.materialdrawer.util.DrawerUIUtils;
 
 /**
  * Created by mikepenz on 03.02.15.
@@ -43,7 +43,7 @@ public class DividerDrawerItem extends AbstractDrawerItem<DividerDrawerItem> {
                 ViewCompat.IMPORTANT_FOR_ACCESSIBILITY_NO);
 
         //set the color for the divider
-        viewHolder.divider.setBackgroundColor(UIUtils.getThemeColorFromAttrOrRes(ctx, R.attr.material_drawer_divider, R.color.material_drawer_divider));
+        viewHolder.divider.setBackgroundColor(DrawerUIUtils.getThemeColorFromAttrOrRes(ctx, R.attr.material_drawer_divider, R.color.material_drawer_divider));
 
         //call the onPostBindView method to trigger post bind view actions (like the listener to modify the item if required)
         onPostBindView(this, holder.itemView);
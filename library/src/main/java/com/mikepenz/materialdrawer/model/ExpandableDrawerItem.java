@@ -0,0 +1,182 @@
+package com.mikepenz.materialdrawer.model;
+
+import android.content.Context;
+import android.graphics.drawable.Drawable;
+import android.support.annotation.LayoutRes;
+import android.support.v7.widget.RecyclerView;
+import android.view.View;
+import android.widget.ImageView;
+
+import com.mikepenz.iconics.IconicsDrawable;
+import com.mikepenz.materialdrawer.R;
+import com.mikepenz.materialdrawer.icons.MaterialDrawerFont;
+import com.mikepenz.materialdrawer.model.interfaces.IDrawerItem;
+import com.mikepenz.materialdrawer.model.utils.DrawerItemPayload;
+import com.mikepenz.materialdrawer.model.utils.ViewHolderFactory;
+import com.mikepenz.materialdrawer.util.IdDistributor;
+
+import java.util.ArrayList;
+import java.util.Collections;
+
+/**
+ * Created by mikepenz on 28.10.15.
+ * A drawerItem which shows its subItems below itself if it is clicked (expanded) and removes them again on the next click.
+ * The subItems can be created lazily by a SubItemProvider on the first expand, and are kept after they were collapsed.
+ */
+public class ExpandableDrawerItem extends BasePrimaryDrawerItem<ExpandableDrawerItem> {
+    private ArrayList<IDrawerItem> mSubItems;
+    private SubItemProvider mSubItemProvider;
+    private boolean mExpanded = false;
+
+    public ExpandableDrawerItem() {
+        //a click expands or collapses the item, it is not selected
+        mSelectable = false;
+    }
+
+    public ExpandableDrawerItem withSubItems(IDrawerItem... subItems) {
+        this.mSubItems = new ArrayList<>();
+        Collections.addAll(this.mSubItems, IdDistributor.checkIds(subItems));
+        return this;
+    }
+
+    /**
+     * the provider is called on the first expand to create the subItems, so they only exist if they are shown
+     *
+     * @param subItemProvider
+     * @return
+     */
+    public ExpandableDrawerItem withSubItemProvider(SubItemProvider subItemProvider) {
+        this.mSubItemProvider = subItemProvider;
+        this.mSubItems = null;
+        return this;
+    }
+
+    /**
+     * the expanded state is set by the adapter. use Drawer.expand / collapse to change it
+     *
+     * @param expanded
+     * @return
+     */
+    public ExpandableDrawerItem withSetExpanded(boolean expanded) {
+        this.mExpanded = expanded;
+        return this;
+    }
+
+    public boolean isExpanded() {
+        return mExpanded;
+    }
+
+    /**
+     * @return true if the subItems were already created
+     */
+    public boolean hasSubItems() {
+        return mSubItems != null;
+    }
+
+    /**
+     * returns the subItems, they are created with the SubItemProvider on the first call
+     *
+     * @return
+     */
+    public ArrayList<IDrawerItem> getSubItems() {
+        if (mSubItems == null) {
+            ArrayList<IDrawerItem> subItems = mSubItemProvider == null ? null : mSubItemProvider.getSubItems(this);
+            mSubItems = subItems == null ? new ArrayList<IDrawerItem>() : IdDistributor.checkIds(subItems);
+        }
+        return mSubItems;
+    }
+
+    @Override
+    public String getType() {
+        return "EXPANDABLE_ITEM";
+    }
+
+    @Override
+    @LayoutRes
+    public int getLayoutRes() {
+        return R.layout.material_drawer_item_expandable;
+    }
+
+    @Override
+    public void bindView(RecyclerView.ViewHolder holder) {
+        //get our viewHolder
+        ViewHolder viewHolder = (ViewHolder) holder;
+
+        //bind the basic view parts
+        bindViewHelper(viewHolder);
+
+        //bind the arrow
+        bindArrow(viewHolder);
+
+        //call the onPostBindView method to trigger post bind view actions (like the listener to modify the item if required)
+        onPostBindView(this, holder.itemView);
+    }
+
+    @Override
+    protected boolean bindPayloads(RecyclerView.ViewHolder holder, int payloads) {
+        if ((payloads & ~(HELPER_PAYLOADS | DrawerItemPayload.EXPANDED.flag())) != 0) {
+            return false;
+        }
+        ViewHolder viewHolder = (ViewHolder) holder;
+        bindPayloadsHelper(viewHolder, payloads);
+
+        //the arrow color depends on the enabled state
+        if (DrawerItemPayload.EXPANDED.isIn(payloads) || DrawerItemPayload.ENABLED.isIn(payloads)) {
+            bindArrow(viewHolder);
+        }
+
+        //call the onPostBindView method to trigger post bind view actions (like the listener to modify the item if required)
+        onPostBindView(this, holder.itemView);
+        return true;
+    }
+
+    /**
+     * shows the arrow for the expanded state. the drawables are kept by the ViewHolder
+     *
+     * @param viewHolder
+     */
+    private void bindArrow(ViewHolder viewHolder) {
+        Context ctx = viewHolder.itemView.getContext();
+        int color = getColor(ctx);
+
+        if (viewHolder.arrowColor != color || viewHolder.arrowExpanded == null) {
+            viewHolder.arrowColor = color;
+            viewHolder.arrowExpanded = new IconicsDrawable(ctx, MaterialDrawerFont.Icon.mdf_arrow_drop_up).sizeRes(R.dimen.material_drawer_item_expandable_arrow).paddingRes(R.dimen.material_drawer_item_expandable_arrow_padding).color(color);
+            viewHolder.arrowCollapsed = new IconicsDrawable(ctx, MaterialDrawerFont.Icon.mdf_arrow_drop_down).sizeRes(R.dimen.material_drawer_item_expandable_arrow).paddingRes(R.dimen.material_drawer_item_expandable_arrow_padding).color(color);
+        }
+        viewHolder.arrow.setImageDrawable(mExpanded ? viewHolder.arrowExpanded : viewHolder.arrowCollapsed);
+    }
+
+    @Override
+    public ViewHolderFactory getFactory() {
+        return new ItemFactory();
+    }
+
+    public static class ItemFactory implements ViewHolderFactory<ViewHolder> {
+        public ViewHolder factory(View v) {
+            return new ViewHolder(v);
+        }
+    }
+
+    private static class ViewHolder extends BaseViewHolder {
+        private ImageView arrow;
+        private int arrowColor;
+        private Drawable arrowExpanded;
+        private Drawable arrowCollapsed;
+
+        public ViewHolder(View view) {
+            super(view);
+            this.arrow = (ImageView) view.findViewById(R.id.material_drawer_arrow);
+        }
+    }
+
+    public interface SubItemProvider {
+        /**
+         * creates the subItems of the expandableDrawerItem. called once on the first expand
+         *
+         * @param expandableDrawerItem
+         * @return
+         */
+        ArrayList<IDrawerItem> getSubItems(ExpandableDrawerItem expandableDrawerItem);
+    }
+}
@@ -1,7 +1,6 @@
 package com.mikepenz.materialdrawer.model;
 
 import android.content.Context;
-import android.graphics.drawable.Drawable;
 import android.support.annotation.LayoutRes;
 import android.support.v7.widget.RecyclerView;
 import android.view.View;
@@ -10,11 +9,10 @@ import android.widget.TextView;
 
 import com.mikepenz.materialdrawer.R;
 import com.mikepenz.materialdrawer.holder.BadgeStyle;
-import com.mikepenz.materialdrawer.holder.ImageHolder;
 import com.mikepenz.materialdrawer.holder.StringHolder;
+import com.mikepenz.materialdrawer.model.utils.DrawerItemPayload;
+import com.mikepenz.materialdrawer.model.utils.ViewHolderBindCache;
 import com.mikepenz.materialdrawer.model.utils.ViewHolderFactory;
-import com.mikepenz.materialdrawer.util.DrawerUIUtils;
-import com.mikepenz.materialize.util.UIUtils;
 
 /**
  * Created by mikepenz on 03.02.15.
@@ -113,20 +111,14 @@ public class MiniDrawerItem extends BaseDrawerItem<MiniDrawerItem> {
             //get the correct color for the background
             int selectedColor = getSelectedColor(ctx);
             //set the background for the item
-            UIUtils.setBackground(viewHolder.view, DrawerUIUtils.getSelectableBackground(ctx, selectedColor));
+            viewHolder.bindCache.applyBackground(viewHolder.view, selectedColor);
         }
 
         //set the text for the badge or hide
-        boolean badgeVisible = StringHolder.applyToOrHide(mBadge, viewHolder.badge);
-        //style the badge if it is visible
-        if (badgeVisible) {
-            mBadgeStyle.style(viewHolder.badge);
-        }
+        bindBadge(viewHolder);
 
         //get the drawables for our icon and set it
-        Drawable icon = ImageHolder.decideIcon(getIcon(), ctx, iconColor, isIconTinted(), 1);
-        Drawable selectedIcon = ImageHolder.decideIcon(getSelectedIcon(), ctx, selectedIconColor, isIconTinted(), 1);
-        ImageHolder.applyMultiIconTo(icon, iconColor, selectedIcon, selectedIconColor, isIconTinted(), viewHolder.icon);
+        bindIcon(viewHolder, iconColor, selectedIconColor);
 
         //for android API 17 --> Padding not applied via xml
         int verticalPadding = ctx.getResources().getDimensionPixelSize(R.dimen.material_drawer_padding);
@@ -137,6 +129,45 @@ public class MiniDrawerItem extends BaseDrawerItem<MiniDrawerItem> {
         onPostBindView(this, holder.itemView);
     }
 
+    @Override
+    protected boolean bindPayloads(RecyclerView.ViewHolder holder, int payloads) {
+        int supported = DrawerItemPayload.SELECTION.flag() | DrawerItemPayload.BADGE.flag() | DrawerItemPayload.ICON.flag();
+        if ((payloads & ~supported) != 0) {
+            return false;
+        }
+        Context ctx = holder.itemView.getContext();
+        ViewHolder viewHolder = (ViewHolder) holder;
+
+        if (DrawerItemPayload.SELECTION.isIn(payloads)) {
+            viewHolder.itemView.setSelected(isSelected());
+        }
+        if (DrawerItemPayload.BADGE.isIn(payloads)) {
+            bindBadge(viewHolder);
+        }
+        if (DrawerItemPayload.ICON.isIn(payloads)) {
+            //the ImageHolder may have been modified, so the icons are always set again
+            viewHolder.bindCache.invalidateIcons();
+            iconCache.invalidate();
+            bindIcon(viewHolder, getIconColor(ctx), getSelectedIconColor(ctx));
+        }
+
+        //call the onPostBindView method to trigger post bind view actions (like the listener to modify the item if required)
+        onPostBindView(this, holder.itemView);
+        return true;
+    }
+
+    private void bindBadge(ViewHolder viewHolder) {
+        boolean badgeVisible = StringHolder.applyToOrHide(mBadge, viewHolder.badge);
+        //style the badge if it is visible
+        if (badgeVisible) {
+            viewHolder.bindCache.applyBadgeStyle(viewHolder.badge, mBadgeStyle, null);
+        }
+    }
+
+    private void bindIcon(ViewHolder viewHolder, int iconColor, int selectedIconColor) {
+        viewHolder.bindCache.applyIcons(viewHolder.icon, iconCache, getIcon(), getSelectedIcon(), iconColor, selectedIconColor, isIconTinted());
+    }
+
     @Override
     public ViewHolderFactory getFactory() {
         return new ItemFactory();
@@ -153,6 +184,7 @@ public class MiniDrawerItem extends BaseDrawerItem<MiniDrawerItem> {
         private View view;
         private ImageView icon;
         private TextView badge;
+        private ViewHolderBindCache bindCache = new ViewHolderBindCache();
 
         public ViewHolder(View view) {
             super(view);
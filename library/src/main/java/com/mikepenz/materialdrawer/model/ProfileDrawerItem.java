@@ -22,10 +22,11 @@ import com.mikepenz.materialdrawer.holder.StringHolder;
 import com.mikepenz.materialdrawer.model.interfaces.IProfile;
 import com.mikepenz.materialdrawer.model.interfaces.Tagable;
 import com.mikepenz.materialdrawer.model.interfaces.Typefaceable;
+import com.mikepenz.materialdrawer.model.utils.DrawerItemPayload;
+import com.mikepenz.materialdrawer.model.utils.ViewHolderBindCache;
 import com.mikepenz.materialdrawer.model.utils.ViewHolderFactory;
 import com.mikepenz.materialdrawer.util.DrawerImageLoader;
 import com.mikepenz.materialdrawer.util.DrawerUIUtils;
-import com.mikepenz.materialize.util.UIUtils;
 
 /**
  * Created by mikepenz on 03.02.15.
@@ -182,7 +183,7 @@ public class ProfileDrawerItem extends AbstractDrawerItem<ProfileDrawerItem> imp
         //get the correct color for the text
         int color = ColorHolder.color(getTextColor(), ctx, R.attr.material_drawer_primary_text, R.color.material_drawer_primary_text);
 
-        UIUtils.setBackground(viewHolder.view, DrawerUIUtils.getSelectableBackground(ctx, selectedColor));
+        viewHolder.bindCache.applyBackground(viewHolder.view, selectedColor);
 
         if (nameShown) {
             viewHolder.name.setVisibility(View.VISIBLE);
@@ -222,6 +223,19 @@ public class ProfileDrawerItem extends AbstractDrawerItem<ProfileDrawerItem> imp
         onPostBindView(this, holder.itemView);
     }
 
+    @Override
+    protected boolean bindPayloads(RecyclerView.ViewHolder holder, int payloads) {
+        //the background is a StateList, so the selection only has to be set
+        if (payloads != DrawerItemPayload.SELECTION.flag()) {
+            return false;
+        }
+        holder.itemView.setSelected(isSelected());
+
+        //call the onPostBindView method to trigger post bind view actions (like the listener to modify the item if required)
+        onPostBindView(this, holder.itemView);
+        return true;
+    }
+
     @Override
     public ViewHolderFactory getFactory() {
         return new ItemFactory();
@@ -238,6 +252,7 @@ public class ProfileDrawerItem extends AbstractDrawerItem<ProfileDrawerItem> imp
         private ImageView profileIcon;
         private TextView name;
         private TextView email;
+        private ViewHolderBindCache bindCache = new ViewHolderBindCache();
 
         private ViewHolder(View view) {
             super(view);
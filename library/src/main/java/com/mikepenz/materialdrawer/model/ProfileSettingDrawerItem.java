@@ -22,9 +22,10 @@ import com.mikepenz.materialdrawer.holder.StringHolder;
 import com.mikepenz.materialdrawer.model.interfaces.IProfile;
 import com.mikepenz.materialdrawer.model.interfaces.Tagable;
 import com.mikepenz.materialdrawer.model.interfaces.Typefaceable;
+import com.mikepenz.materialdrawer.model.utils.DrawerItemPayload;
+import com.mikepenz.materialdrawer.model.utils.ViewHolderBindCache;
 import com.mikepenz.materialdrawer.model.utils.ViewHolderFactory;
 import com.mikepenz.materialdrawer.util.DrawerUIUtils;
-import com.mikepenz.materialize.util.UIUtils;
 
 /**
  * Created by mikepenz on 03.02.15.
@@ -217,7 +218,7 @@ public class ProfileSettingDrawerItem extends AbstractDrawerItem<ProfileSettingD
         int color = ColorHolder.color(getTextColor(), ctx, R.attr.material_drawer_primary_text, R.color.material_drawer_primary_text);
         int iconColor = ColorHolder.color(getIconColor(), ctx, R.attr.material_drawer_primary_icon, R.color.material_drawer_primary_icon);
 
-        UIUtils.setBackground(viewHolder.view, DrawerUIUtils.getSelectableBackground(ctx, selectedColor));
+        viewHolder.bindCache.applyBackground(viewHolder.view, selectedColor);
 
         StringHolder.applyTo(this.getName(), viewHolder.name);
         viewHolder.name.setTextColor(color);
@@ -236,6 +237,25 @@ public class ProfileSettingDrawerItem extends AbstractDrawerItem<ProfileSettingD
         onPostBindView(this, holder.itemView);
     }
 
+    @Override
+    protected boolean bindPayloads(RecyclerView.ViewHolder holder, int payloads) {
+        int supported = DrawerItemPayload.SELECTION.flag() | DrawerItemPayload.NAME.flag();
+        if ((payloads & ~supported) != 0) {
+            return false;
+        }
+        //the background is a StateList, so the selection only has to be set
+        if (DrawerItemPayload.SELECTION.isIn(payloads)) {
+            holder.itemView.setSelected(isSelected());
+        }
+        if (DrawerItemPayload.NAME.isIn(payloads)) {
+            StringHolder.applyTo(this.getName(), ((ViewHolder) holder).name);
+        }
+
+        //call the onPostBindView method to trigger post bind view actions (like the listener to modify the item if required)
+        onPostBindView(this, holder.itemView);
+        return true;
+    }
+
     @Override
     public ViewHolderFactory getFactory() {
         return new ItemFactory();
@@ -251,6 +271,7 @@ public class ProfileSettingDrawerItem extends AbstractDrawerItem<ProfileSettingD
         private View view;
         private ImageView icon;
         private TextView name;
+        private ViewHolderBindCache bindCache = new ViewHolderBindCache();
 
         private ViewHolder(View view) {
             super(view);
@@ -11,6 +11,7 @@ import com.mikepenz.materialdrawer.R;
 import com.mikepenz.materialdrawer.holder.BadgeStyle;
 import com.mikepenz.materialdrawer.holder.StringHolder;
 import com.mikepenz.materialdrawer.model.interfaces.ColorfulBadgeable;
+import com.mikepenz.materialdrawer.model.utils.DrawerItemPayload;
 import com.mikepenz.materialdrawer.model.utils.ViewHolderFactory;
 
 /**
@@ -65,23 +66,14 @@ public class SecondaryDrawerItem extends BaseSecondaryDrawerItem<SecondaryDrawer
 
     @Override
     public void bindView(RecyclerView.ViewHolder holder) {
-        Context ctx = holder.itemView.getContext();
-
         //get our viewHolder
         ViewHolder viewHolder = (ViewHolder) holder;
 
         //bind the basic view parts
         bindViewHelper((BaseViewHolder) holder);
 
-        //set the text for the badge or hide
-        boolean badgeVisible = StringHolder.applyToOrHide(mBadge, viewHolder.badge);
-        //style the badge if it is visible
-        if (badgeVisible) {
-            mBadgeStyle.style(viewHolder.badge, getTextColorStateList(getColor(ctx), getSelectedTextColor(ctx)));
-            viewHolder.badgeContainer.setVisibility(View.VISIBLE);
-        } else {
-            viewHolder.badgeContainer.setVisibility(View.GONE);
-        }
+        //bind the badge
+        bindBadge(viewHolder);
 
         //define the typeface for our textViews
         if (getTypeface() != null) {
@@ -92,6 +84,42 @@ public class SecondaryDrawerItem extends BaseSecondaryDrawerItem<SecondaryDrawer
         onPostBindView(this, holder.itemView);
     }
 
+    @Override
+    protected boolean bindPayloads(RecyclerView.ViewHolder holder, int payloads) {
+        if ((payloads & ~(HELPER_PAYLOADS | DrawerItemPayload.BADGE.flag())) != 0) {
+            return false;
+        }
+        ViewHolder viewHolder = (ViewHolder) holder;
+        bindPayloadsHelper(viewHolder, payloads);
+
+        //the badge color depends on the enabled state
+        if (DrawerItemPayload.BADGE.isIn(payloads) || DrawerItemPayload.ENABLED.isIn(payloads)) {
+            bindBadge(viewHolder);
+        }
+
+        //call the onPostBindView method to trigger post bind view actions (like the listener to modify the item if required)
+        onPostBindView(this, holder.itemView);
+        return true;
+    }
+
+    /**
+     * set the text for the badge or hide it
+     *
+     * @param viewHolder
+     */
+    private void bindBadge(ViewHolder viewHolder) {
+        Context ctx = viewHolder.itemView.getContext();
+
+        boolean badgeVisible = StringHolder.applyToOrHide(mBadge, viewHolder.badge);
+        //style the badge if it is visible
+        if (badgeVisible) {
+            viewHolder.bindCache.applyBadgeStyle(viewHolder.badge, mBadgeStyle, getTextColorStateList(getColor(ctx), getSelectedTextColor(ctx)));
+            viewHolder.badgeContainer.setVisibility(View.VISIBLE);
+        } else {
+            viewHolder.badgeContainer.setVisibility(View.GONE);
+        }
+    }
+
     @Override
     public ViewHolderFactory getFactory() {
         return new ItemFactory();
@@ -13,8 +13,9 @@ import com.mikepenz.materialdrawer.holder.ColorHolder;
 import com.mikepenz.materialdrawer.holder.StringHolder;
 import com.mikepenz.materialdrawer.model.interfaces.Nameable;
 import com.mikepenz.materialdrawer.model.interfaces.Typefaceable;
+import com.mikepenz.materialdrawer.model.utils.DrawerItemPayload;
 import com.mikepenz.materialdrawer.model.utils.ViewHolderFactory;
-import com.mikepenz.materialize.util.UIUtils;
+import com.mikepenz.materialdrawer.util.DrawerUIUtils;
 
 /**
  * Created by mikepenz on 03.02.15.
@@ -115,8 +116,9 @@ public class SectionDrawerItem extends AbstractDrawerItem<SectionDrawerItem> imp
         viewHolder.view.setClickable(false);
         viewHolder.view.setEnabled(false);
 
-        //define the text color
-        viewHolder.name.setTextColor(ColorHolder.color(getTextColor(), ctx, R.attr.material_drawer_secondary_text, R.color.material_drawer_secondary_text));
+        //define the text color (setTextColor(int) would create a new ColorStateList for every bind)
+        int textColor = ColorHolder.color(getTextColor(), ctx, R.attr.material_drawer_secondary_text, R.color.material_drawer_secondary_text);
+        viewHolder.name.setTextColor(DrawerUIUtils.getCachedTextColorStateList(textColor, textColor));
 
         //set the text for the name
         StringHolder.applyTo(this.getName(), viewHolder.name);
@@ -129,12 +131,24 @@ public class SectionDrawerItem extends AbstractDrawerItem<SectionDrawerItem> imp
         }
 
         //set the color for the divider
-        viewHolder.divider.setBackgroundColor(UIUtils.getThemeColorFromAttrOrRes(ctx, R.attr.material_drawer_divider, R.color.material_drawer_divider));
+        viewHolder.divider.setBackgroundColor(DrawerUIUtils.getThemeColorFromAttrOrRes(ctx, R.attr.material_drawer_divider, R.color.material_drawer_divider));
 
         //call the onPostBindView method to trigger post bind view actions (like the listener to modify the item if required)
         onPostBindView(this, holder.itemView);
     }
 
+    @Override
+    protected boolean bindPayloads(RecyclerView.ViewHolder holder, int payloads) {
+        if (payloads != DrawerItemPayload.NAME.flag()) {
+            return false;
+        }
+        StringHolder.applyTo(this.getName(), ((ViewHolder) holder).name);
+
+        //call the onPostBindView method to trigger post bind view actions (like the listener to modify the item if required)
+        onPostBindView(this, holder.itemView);
+        return true;
+    }
+
     @Override
     public ViewHolderFactory getFactory() {
         return new ItemFactory();
@@ -74,7 +74,7 @@ public class ToggleDrawerItem extends BasePrimaryDrawerItem<ToggleDrawerItem> {
     @Override
     public void bindView(RecyclerView.ViewHolder holder) {
         //get our viewHolder
-        final ViewHolder viewHolder = (ViewHolder) holder;
+        ViewHolder viewHolder = (ViewHolder) holder;
 
         //bind the basic view parts
         bindViewHelper((BaseViewHolder) holder);
@@ -86,17 +86,7 @@ public class ToggleDrawerItem extends BasePrimaryDrawerItem<ToggleDrawerItem> {
         viewHolder.toggle.setEnabled(toggleEnabled);
 
         //add a onDrawerItemClickListener here to be able to check / uncheck if the drawerItem can't be selected
-        withOnDrawerItemClickListener(new Drawer.OnDrawerItemClickListener() {
-            @Override
-            public boolean onItemClick(View view, int position, IDrawerItem drawerItem) {
-                if (!isSelectable()) {
-                    checked = !checked;
-                    viewHolder.toggle.setChecked(checked);
-                }
-
-                return false;
-            }
-        });
+        withOnDrawerItemClickListener(onDrawerItemClickListener);
 
         //call the onPostBindView method to trigger post bind view actions (like the listener to modify the item if required)
         onPostBindView(this, holder.itemView);
@@ -122,6 +112,23 @@ public class ToggleDrawerItem extends BasePrimaryDrawerItem<ToggleDrawerItem> {
         }
     }
 
+    //created once per item, so binding the item does not allocate a new listener
+    private Drawer.OnDrawerItemClickListener onDrawerItemClickListener = new Drawer.OnDrawerItemClickListener() {
+        @Override
+        public boolean onItemClick(View view, int position, IDrawerItem drawerItem) {
+            if (!isSelectable()) {
+                checked = !checked;
+                //the view is the root view of this item
+                ToggleButton toggle = (ToggleButton) view.findViewById(R.id.material_drawer_toggle);
+                if (toggle != null) {
+                    toggle.setChecked(checked);
+                }
+            }
+
+            return false;
+        }
+    };
+
     private CompoundButton.OnCheckedChangeListener checkedChangeListener = new CompoundButton.OnCheckedChangeListener() {
         @Override
         public void onCheckedChanged(CompoundButton buttonView, boolean isChecked) {
@@ -0,0 +1,28 @@
+package com.mikepenz.materialdrawer.model.interfaces;
+
+/**
+ * Created by mikepenz on 29.10.15.
+ * Provides the drawerItems on demand instead of a complete list (e.g. for drawers with thousands of entries).
+ * The adapter only creates the items around the shown positions and keeps a limited amount of them.
+ * Items which are dropped are created again if they are needed, so the same position has to return an item with the same identifier.
+ */
+public interface IDrawerItemSource {
+    /**
+     * @return the amount of drawerItems
+     */
+    int getCount();
+
+    /**
+     * creates the drawerItem for the position
+     *
+     * @param position the position inside the drawerItems (without the header items)
+     * @return
+     */
+    IDrawerItem createItem(int position);
+
+    /**
+     * @param identifier
+     * @return the position of the drawerItem with this identifier (without the header items) or -1
+     */
+    int getPosition(int identifier);
+}
@@ -0,0 +1,78 @@
+package com.mikepenz.materialdrawer.model.utils;
+
+import android.graphics.drawable.Drawable;
+import android.view.View;
+import android.widget.ImageView;
+
+import com.mikepenz.materialdrawer.holder.ImageHolder;
+import com.mikepenz.materialdrawer.util.DrawerUIUtils;
+
+/**
+ * Created by mikepenz on 02.11.15.
+ * Remembers the icon drawable which was created for a drawerItem, so binding the item to another ViewHolder (e.g. while
+ * scrolling) does not create the drawables again.
+ * A drawable can only be shown by one ImageView. It is taken from the previous ImageView if that one is not attached
+ * anymore (a recycled ViewHolder), if it is still attached (e.g. an animated view) a new drawable has to be created.
+ * Before API 11 the ImageView of a drawable can't be checked, so the drawable is only reused by the same ImageView.
+ */
+public class DrawerItemIconCache {
+    private Drawable mDrawable;
+    private ImageHolder mIconHolder;
+    private ImageHolder mSelectedIconHolder;
+    private int mIconColor;
+    private int mSelectedIconColor;
+    private boolean mIconTinted;
+
+    /**
+     * sets the cached drawable to the imageView, if it was created for the same icons and colors
+     *
+     * @param imageView
+     * @param icon
+     * @param selectedIcon
+     * @param iconColor
+     * @param selectedIconColor
+     * @param tinted
+     * @return true if the cached drawable was set
+     */
+    public boolean applyTo(ImageView imageView, ImageHolder icon, ImageHolder selectedIcon, int iconColor, int selectedIconColor, boolean tinted) {
+        if (mDrawable == null || icon != mIconHolder || selectedIcon != mSelectedIconHolder
+                || iconColor != mIconColor || selectedIconColor != mSelectedIconColor || tinted != mIconTinted) {
+            return false;
+        }
+
+        if (imageView.getDrawable() != mDrawable) {
+            if (!DrawerUIUtils.takeDrawable(mDrawable, imageView)) {
+                return false;
+            }
+            imageView.setImageDrawable(mDrawable);
+        }
+        imageView.setVisibility(View.VISIBLE);
+        return true;
+    }
+
+    /**
+     * remembers the drawable which was created for the icons and colors
+     *
+     * @param drawable          the drawable which is shown, null if the icon is hidden
+     * @param icon
+     * @param selectedIcon
+     * @param iconColor
+     * @param selectedIconColor
+     * @param tinted
+     */
+    public void put(Drawable drawable, ImageHolder icon, ImageHolder selectedIcon, int iconColor, int selectedIconColor, boolean tinted) {
+        mDrawable = drawable;
+        mIconHolder = icon;
+        mSelectedIconHolder = selectedIcon;
+        mIconColor = iconColor;
+        mSelectedIconColor = selectedIconColor;
+        mIconTinted = tinted;
+    }
+
+    /**
+     * forces the drawable to be created again (e.g. if the ImageHolder was modified)
+     */
+    public void invalidate() {
+        mDrawable = null;
+    }
+}
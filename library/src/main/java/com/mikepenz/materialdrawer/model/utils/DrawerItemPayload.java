@@ -0,0 +1,54 @@
+package com.mikepenz.materialdrawer.model.utils;
+
+import java.util.List;
+
+/**
+ * Created by mikepenz on 24.10.15.
+ * The payloads which are passed with a change notification if only a part of a drawerItem changed.
+ * Items which support it only rebind the affected views instead of running the whole bindView.
+ */
+public enum DrawerItemPayload {
+    BADGE,
+    NAME,
+    ICON,
+    SELECTION,
+    ENABLED,
+    EXPANDED;
+
+    /**
+     * @return the flag of this payload, used to combine multiple payloads in one int
+     */
+    public int flag() {
+        return 1 << ordinal();
+    }
+
+    /**
+     * @param flags
+     * @return true if this payload is contained in the flags
+     */
+    public boolean isIn(int flags) {
+        return (flags & flag()) != 0;
+    }
+
+    /**
+     * combines the payloads passed to onBindViewHolder to flags
+     *
+     * @param payloads
+     * @return the flags or 0 if the view has to be bound completely (no payloads or an unknown payload)
+     */
+    public static int toFlags(List<Object> payloads) {
+        if (payloads == null) {
+            return 0;
+        }
+        int flags = 0;
+        for (int i = 0; i < payloads.size(); i++) {
+            Object payload = payloads.get(i);
+            if (payload instanceof DrawerItemPayload) {
+                flags = flags | ((DrawerItemPayload) payload).flag();
+            } else {
+                return 0;
+            }
+        }
+        return flags;
+    }
+}
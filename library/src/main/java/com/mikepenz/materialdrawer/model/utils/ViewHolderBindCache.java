@@ -0,0 +1,132 @@
+package com.mikepenz.materialdrawer.model.utils;
+
+import android.content.res.ColorStateList;
+import android.graphics.drawable.Drawable;
+import android.view.View;
+import android.widget.ImageView;
+import android.widget.TextView;
+
+import com.mikepenz.materialdrawer.holder.BadgeStyle;
+import com.mikepenz.materialdrawer.holder.ImageHolder;
+import com.mikepenz.materialdrawer.util.DrawerUIUtils;
+import com.mikepenz.materialize.util.UIUtils;
+
+/**
+ * Created by mikepenz on 25.10.15.
+ * Remembers what was last bound to the views of a ViewHolder, so rebinding with the same background, icons or badge
+ * style does not create new drawables. The icons of another drawerItem are taken from its DrawerItemIconCache.
+ * A cached value is only reused as long as the view still shows the drawable which was set by this cache.
+ */
+public class ViewHolderBindCache {
+    private Drawable mBackground;
+    private int mBackgroundColor;
+
+    private boolean mIconBound = false;
+    private Drawable mIcon;
+    private ImageHolder mIconHolder;
+    private ImageHolder mSelectedIconHolder;
+    private int mIconColor;
+    private int mSelectedIconColor;
+    private boolean mIconTinted;
+
+    private BadgeStyle mBadgeStyle;
+    private ColorStateList mBadgeColors;
+    private Drawable mBadgeBackground;
+
+    /**
+     * sets the selectable background for the selectedColor, if it is not already set
+     *
+     * @param view
+     * @param selectedColor
+     */
+    public void applyBackground(View view, int selectedColor) {
+        if (mBackground == null || mBackgroundColor != selectedColor || view.getBackground() != mBackground) {
+            mBackground = DrawerUIUtils.getSelectableBackground(view.getContext(), selectedColor);
+            mBackgroundColor = selectedColor;
+            UIUtils.setBackground(view, mBackground);
+        }
+    }
+
+    /**
+     * decides and sets the icon and the selectedIcon, if they are not already set
+     *
+     * @param imageView
+     * @param icon
+     * @param selectedIcon
+     * @param iconColor
+     * @param selectedIconColor
+     * @param tinted
+     */
+    public void applyIcons(ImageView imageView, ImageHolder icon, ImageHolder selectedIcon, int iconColor, int selectedIconColor, boolean tinted) {
+        applyIcons(imageView, null, icon, selectedIcon, iconColor, selectedIconColor, tinted);
+    }
+
+    /**
+     * decides and sets the icon and the selectedIcon, if they are not already set. the drawable of the drawerItem is
+     * reused if it was already created for another ViewHolder
+     *
+     * @param imageView
+     * @param itemIcons         the icon cache of the drawerItem (can be null)
+     * @param icon
+     * @param selectedIcon
+     * @param iconColor
+     * @param selectedIconColor
+     * @param tinted
+     */
+    public void applyIcons(ImageView imageView, DrawerItemIconCache itemIcons, ImageHolder icon, ImageHolder selectedIcon, int iconColor, int selectedIconColor, boolean tinted) {
+        if (mIconBound && imageView.getDrawable() == mIcon && icon == mIconHolder && selectedIcon == mSelectedIconHolder
+                && iconColor == mIconColor && selectedIconColor == mSelectedIconColor && tinted == mIconTinted) {
+            return;
+        }
+
+        if (itemIcons == null || !itemIcons.applyTo(imageView, icon, selectedIcon, iconColor, selectedIconColor, tinted)) {
+            Drawable iconDrawable = ImageHolder.decideIcon(icon, imageView.getContext(), iconColor, tinted, 1);
+            Drawable selectedIconDrawable = ImageHolder.decideIcon(selectedIcon, imageView.getContext(), selectedIconColor, tinted, 1);
+            ImageHolder.applyMultiIconTo(iconDrawable, iconColor, selectedIconDrawable, selectedIconColor, tinted, imageView);
+            if (itemIcons != null) {
+                itemIcons.put(iconDrawable != null ? imageView.getDrawable() : null, icon, selectedIcon, iconColor, selectedIconColor, tinted);
+            }
+        }
+
+        mIconBound = true;
+        mIcon = imageView.getDrawable();
+        mIconHolder = icon;
+        mSelectedIconHolder = selectedIcon;
+        mIconColor = iconColor;
+        mSelectedIconColor = selectedIconColor;
+        mIconTinted = tinted;
+    }
+
+    /**
+     * forces the icons to be set again with the next applyIcons (e.g. if the ImageHolder was modified)
+     */
+    public void invalidateIcons() {
+        mIconBound = false;
+    }
+
+    /**
+     * styles the badge, if it is not already styled with this style and colors
+     *
+     * @param badge
+     * @param badgeStyle
+     * @param colors
+     */
+    public void applyBadgeStyle(TextView badge, BadgeStyle badgeStyle, ColorStateList colors) {
+        if (badgeStyle == mBadgeStyle && colors == mBadgeColors && mBadgeBackground != null && badge.getBackground() == mBadgeBackground) {
+            return;
+        }
+
+        badgeStyle.style(badge, colors);
+
+        mBadgeStyle = badgeStyle;
+        mBadgeColors = colors;
+        mBadgeBackground = badge.getBackground();
+    }
+
+    /**
+     * forces the badge to be styled again with the next applyBadgeStyle (e.g. if the BadgeStyle was modified)
+     */
+    public void invalidateBadgeStyle() {
+        mBadgeStyle = null;
+    }
+}
@@ -0,0 +1,100 @@
+package com.mikepenz.materialdrawer.util;
+
+import android.support.v7.widget.RecyclerView;
+import android.support.v7.widget.helper.ItemTouchHelper;
+
+import com.mikepenz.materialdrawer.Drawer;
+import com.mikepenz.materialdrawer.adapter.BaseDrawerAdapter;
+import com.mikepenz.materialdrawer.model.interfaces.IDrawerItem;
+
+import java.util.ArrayList;
+
+/**
+ * Created by mikepenz on 01.11.15.
+ * Allows to reorder the drawerItems by dragging them after a long press. Every step of the drag is a single move
+ * in the adapter, the listener is called once when the item is dropped.
+ * The drag is not started by the ItemTouchHelper itself, but by the drawer with startDrag on a long click which was not
+ * consumed by the OnDrawerItemLongClickListener, so a long press either opens the listener or starts the drag.
+ * Only draggable items can be moved, and only over other draggable items. Pushed drawer levels can't be reordered.
+ */
+public class DrawerItemTouchCallback extends ItemTouchHelper.Callback {
+    private final BaseDrawerAdapter mAdapter;
+    private final Drawer.OnDrawerItemsReorderedListener mOnDrawerItemsReorderedListener;
+
+    //true if an item was moved since the drag started
+    private boolean mMoved = false;
+
+    /**
+     * @param adapter
+     * @param onDrawerItemsReorderedListener called with the new order after an item was dropped (can be null)
+     */
+    public DrawerItemTouchCallback(BaseDrawerAdapter adapter, Drawer.OnDrawerItemsReorderedListener onDrawerItemsReorderedListener) {
+        this.mAdapter = adapter;
+        this.mOnDrawerItemsReorderedListener = onDrawerItemsReorderedListener;
+    }
+
+    /**
+     * @return the adapter of the drawer level whose items can be reordered
+     */
+    public BaseDrawerAdapter getAdapter() {
+        return mAdapter;
+    }
+
+    @Override
+    public boolean isLongPressDragEnabled() {
+        //the drawer starts the drag after its long click listener
+        return false;
+    }
+
+    @Override
+    public int getMovementFlags(RecyclerView recyclerView, RecyclerView.ViewHolder viewHolder) {
+        //another level of the drawer is shown
+        if (recyclerView.getAdapter() != mAdapter) {
+            return 0;
+        }
+        if (mAdapter.isDraggable(viewHolder.getAdapterPosition())) {
+            return makeMovementFlags(ItemTouchHelper.UP | ItemTouchHelper.DOWN, 0);
+        }
+        return 0;
+    }
+
+    @Override
+    public boolean canDropOver(RecyclerView recyclerView, RecyclerView.ViewHolder current, RecyclerView.ViewHolder target) {
+        return mAdapter.isDraggable(target.getAdapterPosition());
+    }
+
+    @Override
+    public boolean onMove(RecyclerView recyclerView, RecyclerView.ViewHolder viewHolder, RecyclerView.ViewHolder target) {
+        int fromPosition = viewHolder.getAdapterPosition();
+        int toPosition = target.getAdapterPosition();
+        if (fromPosition == RecyclerView.NO_POSITION || toPosition == RecyclerView.NO_POSITION) {
+            return false;
+        }
+        mAdapter.moveDrawerItem(fromPosition, toPosition);
+        mMoved = true;
+        return true;
+    }
+
+    @Override
+    public void onSwiped(RecyclerView.ViewHolder viewHolder, int direction) {
+        //swiping is not supported
+    }
+
+    @Override
+    public void clearView(RecyclerView recyclerView, RecyclerView.ViewHolder viewHolder) {
+        super.clearView(recyclerView, viewHolder);
+
+        //the item was dropped
+        if (mMoved) {
+            mMoved = false;
+            if (mOnDrawerItemsReorderedListener != null) {
+                ArrayList<IDrawerItem> drawerItems = mAdapter.getDrawerItems();
+                int[] identifiers = new int[drawerItems.size()];
+                for (int i = 0; i < identifiers.length; i++) {
+                    identifiers[i] = drawerItems.get(i).getIdentifier();
+                }
+                mOnDrawerItemsReorderedListener.onDrawerItemsReordered(identifiers);
+            }
+        }
+    }
+}
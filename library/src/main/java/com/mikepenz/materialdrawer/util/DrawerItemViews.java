@@ -0,0 +1,253 @@
+package com.mikepenz.materialdrawer.util;
+
+import android.content.Context;
+import android.content.ContextWrapper;
+import android.content.res.Resources;
+import android.graphics.Typeface;
+import android.os.Build;
+import android.support.v4.view.GravityCompat;
+import android.support.v4.view.ViewCompat;
+import android.support.v7.app.AppCompatActivity;
+import android.support.v7.widget.AppCompatImageView;
+import android.support.v7.widget.AppCompatTextView;
+import android.support.v7.widget.SwitchCompat;
+import android.util.TypedValue;
+import android.view.Gravity;
+import android.view.View;
+import android.view.ViewGroup;
+import android.widget.ImageView;
+import android.widget.LinearLayout;
+import android.widget.RelativeLayout;
+import android.widget.TextView;
+import android.widget.ToggleButton;
+
+import com.mikepenz.materialdrawer.R;
+
+/**
+ * Created by mikepenz on 02.11.15.
+ * Builds the views of the default item layouts in code instead of inflating them, which avoids parsing the XML and
+ * creating the views by reflection. The views, ids, sizes and paddings are the same as in the layouts
+ * (primary, secondary, switch, toggle, section and divider), so the ViewHolders and the binding are unchanged.
+ * Items which use another layout are still inflated.
+ * <p/>
+ * In an AppCompatActivity the TextViews and ImageViews are created as AppCompatTextView and AppCompatImageView, like the
+ * AppCompat LayoutInflater does it for the layouts, so they are tinted the same way.
+ * <p/>
+ * This is disabled by default, enable it once (e.g. in Application.onCreate) with DrawerItemViews.setEnabled(true).
+ */
+public class DrawerItemViews {
+    private static final int BADGE = 0;
+    private static final int SWITCH = 1;
+    private static final int TOGGLE = 2;
+
+    private static volatile boolean sEnabled = false;
+
+    private DrawerItemViews() {
+
+    }
+
+    /**
+     * define if the views of the default layouts are built in code (default false)
+     *
+     * @param enabled
+     */
+    public static void setEnabled(boolean enabled) {
+        sEnabled = enabled;
+    }
+
+    public static boolean isEnabled() {
+        return sEnabled;
+    }
+
+    /**
+     * builds the view of the layout if it is one of the default layouts
+     *
+     * @param ctx
+     * @param parent    the parent the layoutParams are created for, the view is not added (can be null)
+     * @param layoutRes
+     * @return the view, or null if the layout has to be inflated
+     */
+    public static View create(Context ctx, ViewGroup parent, int layoutRes) {
+        if (layoutRes == R.layout.material_drawer_item_primary) {
+            return createItem(ctx, parent, false, BADGE, isAppCompat(ctx));
+        } else if (layoutRes == R.layout.material_drawer_item_secondary) {
+            return createItem(ctx, parent, true, BADGE, isAppCompat(ctx));
+        } else if (layoutRes == R.layout.material_drawer_item_switch) {
+            return createItem(ctx, parent, false, SWITCH, isAppCompat(ctx));
+        } else if (layoutRes == R.layout.material_drawer_item_secondary_switch) {
+            return createItem(ctx, parent, true, SWITCH, isAppCompat(ctx));
+        } else if (layoutRes == R.layout.material_drawer_item_toggle) {
+            return createItem(ctx, parent, false, TOGGLE, isAppCompat(ctx));
+        } else if (layoutRes == R.layout.material_drawer_item_secondary_toggle) {
+            return createItem(ctx, parent, true, TOGGLE, isAppCompat(ctx));
+        } else if (layoutRes == R.layout.material_drawer_item_section) {
+            return createSection(ctx, parent, isAppCompat(ctx));
+        } else if (layoutRes == R.layout.material_drawer_item_divider) {
+            return createDivider(ctx, parent);
+        }
+        return null;
+    }
+
+    /**
+     * the layouts are inflated with the AppCompat views if the context belongs to an AppCompatActivity
+     * (or is the context the DrawerPreInflater created for one)
+     *
+     * @param ctx
+     * @return true if the AppCompat views have to be created
+     */
+    static boolean isAppCompat(Context ctx) {
+        while (ctx instanceof ContextWrapper) {
+            if (ctx instanceof AppCompatActivity) {
+                return true;
+            }
+            if (ctx instanceof DrawerPreInflater.ThemeCopyContext) {
+                return ((DrawerPreInflater.ThemeCopyContext) ctx).mAppCompat;
+            }
+            ctx = ((ContextWrapper) ctx).getBaseContext();
+        }
+        return false;
+    }
+
+    /**
+     * material_drawer_item_primary / _secondary and their switch and toggle variants
+     */
+    private static View createItem(Context ctx, ViewGroup parent, boolean secondary, int accessory, boolean appCompat) {
+        Resources res = ctx.getResources();
+        int height = res.getDimensionPixelSize(secondary ? R.dimen.material_drawer_item_secondary : R.dimen.material_drawer_item_primary);
+        int verticalPadding = res.getDimensionPixelSize(R.dimen.material_drawer_vertical_padding);
+        int padding = res.getDimensionPixelSize(R.dimen.material_drawer_padding);
+        int textSize = res.getDimensionPixelSize(secondary ? R.dimen.material_drawer_item_secondary_text : R.dimen.material_drawer_item_primary_text);
+
+        LinearLayout root = new LinearLayout(ctx);
+        root.setOrientation(LinearLayout.HORIZONTAL);
+        if (parent != null) {
+            root.setLayoutParams(new ViewGroup.LayoutParams(ViewGroup.LayoutParams.MATCH_PARENT, height));
+        }
+        //the toggle layouts have no padding
+        if (accessory != TOGGLE) {
+            ViewCompat.setPaddingRelative(root, verticalPadding, 0, verticalPadding, 0);
+        }
+        if (accessory != BADGE) {
+            root.setDescendantFocusability(ViewGroup.FOCUS_BLOCK_DESCENDANTS);
+        }
+
+        //the icon
+        ImageView icon = appCompat ? new AppCompatImageView(ctx) : new ImageView(ctx);
+        icon.setId(R.id.material_drawer_icon);
+        int iconPadding = res.getDimensionPixelSize(secondary ? R.dimen.material_drawer_item_secondary_icon_padding : R.dimen.material_drawer_item_primary_icon_padding);
+        int iconPaddingRight = res.getDimensionPixelSize(secondary ? R.dimen.material_drawer_item_secondary_icon_padding_right : R.dimen.material_drawer_item_primary_icon_padding_right);
+        ViewCompat.setPaddingRelative(icon, 0, iconPadding, iconPaddingRight, iconPadding);
+        LinearLayout.LayoutParams iconParams = new LinearLayout.LayoutParams(res.getDimensionPixelSize(secondary ? R.dimen.material_drawer_item_secondary_icon : R.dimen.material_drawer_item_primary_icon), height);
+        iconParams.gravity = Gravity.CENTER_VERTICAL;
+        root.addView(icon, iconParams);
+
+        //the name and the description
+        LinearLayout texts = new LinearLayout(ctx);
+        texts.setOrientation(LinearLayout.VERTICAL);
+        texts.setGravity(Gravity.CENTER_VERTICAL | GravityCompat.START);
+        root.addView(texts, new LinearLayout.LayoutParams(0, ViewGroup.LayoutParams.MATCH_PARENT, 1));
+
+        TextView name = createTextView(ctx, appCompat, R.id.material_drawer_name, "sans-serif-medium", textSize, Gravity.CENTER_VERTICAL | GravityCompat.START, true);
+        texts.addView(name, new LinearLayout.LayoutParams(ViewGroup.LayoutParams.MATCH_PARENT, ViewGroup.LayoutParams.WRAP_CONTENT));
+
+        int descriptionSize = res.getDimensionPixelSize(secondary ? R.dimen.material_drawer_item_secondary_description : R.dimen.material_drawer_item_primary_description);
+        TextView description = createTextView(ctx, appCompat, R.id.material_drawer_description, "sans-serif", descriptionSize, Gravity.CENTER_VERTICAL | GravityCompat.START, true);
+        texts.addView(description, new LinearLayout.LayoutParams(ViewGroup.LayoutParams.MATCH_PARENT, ViewGroup.LayoutParams.WRAP_CONTENT));
+
+        //the badge, switch or toggle
+        int extraTextSize = secondary ? res.getDimensionPixelSize(R.dimen.material_drawer_item_secondary_extra_text) : textSize;
+        if (accessory == SWITCH) {
+            SwitchCompat switchView = new SwitchCompat(ctx);
+            switchView.setId(R.id.material_drawer_switch);
+            switchView.setGravity(Gravity.CENTER_VERTICAL | GravityCompat.END);
+            ViewCompat.setPaddingRelative(switchView, padding, 0, 0, 0);
+            switchView.setTextOff("");
+            switchView.setTextOn("");
+            switchView.setTextSize(TypedValue.COMPLEX_UNIT_PX, extraTextSize);
+            switchView.setShowText(false);
+            root.addView(switchView, new LinearLayout.LayoutParams(ViewGroup.LayoutParams.WRAP_CONTENT, ViewGroup.LayoutParams.MATCH_PARENT));
+        } else {
+            LinearLayout container = new LinearLayout(ctx);
+            container.setId(R.id.material_drawer_badge_container);
+            container.setGravity(Gravity.CENTER);
+            ViewCompat.setPaddingRelative(container, padding, 0, 0, 0);
+            root.addView(container, new LinearLayout.LayoutParams(ViewGroup.LayoutParams.WRAP_CONTENT, ViewGroup.LayoutParams.MATCH_PARENT));
+
+            if (accessory == TOGGLE) {
+                ToggleButton toggle = new ToggleButton(ctx);
+                toggle.setId(R.id.material_drawer_toggle);
+                toggle.setGravity(Gravity.CENTER_VERTICAL | GravityCompat.END);
+                toggle.setTextSize(TypedValue.COMPLEX_UNIT_PX, extraTextSize);
+                container.addView(toggle, new LinearLayout.LayoutParams(ViewGroup.LayoutParams.WRAP_CONTENT, ViewGroup.LayoutParams.MATCH_PARENT));
+            } else {
+                TextView badge = createTextView(ctx, appCompat, R.id.material_drawer_badge, "sans-serif", textSize, Gravity.CENTER, false);
+                int onePadding = (int) TypedValue.applyDimension(TypedValue.COMPLEX_UNIT_DIP, 1, res.getDisplayMetrics());
+                badge.setMinWidth((int) TypedValue.applyDimension(TypedValue.COMPLEX_UNIT_DIP, 20, res.getDisplayMetrics()));
+                badge.setPadding(onePadding, 0, onePadding, 0);
+                container.addView(badge, new LinearLayout.LayoutParams(ViewGroup.LayoutParams.MATCH_PARENT, ViewGroup.LayoutParams.WRAP_CONTENT));
+            }
+        }
+        return root;
+    }
+
+    /**
+     * material_drawer_item_section
+     */
+    private static View createSection(Context ctx, ViewGroup parent, boolean appCompat) {
+        Resources res = ctx.getResources();
+        int verticalPadding = res.getDimensionPixelSize(R.dimen.material_drawer_vertical_padding);
+
+        LinearLayout root = new LinearLayout(ctx);
+        root.setOrientation(LinearLayout.VERTICAL);
+        if (parent != null) {
+            root.setLayoutParams(new ViewGroup.LayoutParams(ViewGroup.LayoutParams.MATCH_PARENT, ViewGroup.LayoutParams.WRAP_CONTENT));
+        }
+
+        View divider = new View(ctx);
+        divider.setId(R.id.material_drawer_divider);
+        LinearLayout.LayoutParams dividerParams = new LinearLayout.LayoutParams(ViewGroup.LayoutParams.MATCH_PARENT, (int) TypedValue.applyDimension(TypedValue.COMPLEX_UNIT_DIP, 1, res.getDisplayMetrics()));
+        dividerParams.topMargin = res.getDimensionPixelSize(R.dimen.material_drawer_padding);
+        root.addView(divider, dividerParams);
+
+        TextView name = createTextView(ctx, appCompat, R.id.material_drawer_name, "sans-serif-medium", res.getDimensionPixelSize(R.dimen.material_drawer_item_section_text), Gravity.CENTER_VERTICAL | GravityCompat.START, false);
+        name.setPadding(verticalPadding, 0, verticalPadding, 0);
+        root.addView(name, new LinearLayout.LayoutParams(ViewGroup.LayoutParams.MATCH_PARENT, res.getDimensionPixelSize(R.dimen.material_drawer_item_primary)));
+        return root;
+    }
+
+    /**
+     * material_drawer_item_divider
+     */
+    private static View createDivider(Context ctx, ViewGroup parent) {
+        Resources res = ctx.getResources();
+        int padding = res.getDimensionPixelSize(R.dimen.material_drawer_padding);
+
+        RelativeLayout root = new RelativeLayout(ctx);
+        root.setPadding(0, padding, 0, padding);
+        if (parent != null) {
+            root.setLayoutParams(new ViewGroup.LayoutParams(ViewGroup.LayoutParams.MATCH_PARENT, ViewGroup.LayoutParams.WRAP_CONTENT));
+        }
+
+        View divider = new View(ctx);
+        divider.setId(R.id.material_drawer_divider);
+        root.addView(divider, new RelativeLayout.LayoutParams(ViewGroup.LayoutParams.MATCH_PARENT, (int) TypedValue.applyDimension(TypedValue.COMPLEX_UNIT_DIP, 1, res.getDisplayMetrics())));
+        return root;
+    }
+
+    /**
+     * a single line TextView like the ones of the layouts
+     */
+    private static TextView createTextView(Context ctx, boolean appCompat, int id, String fontFamily, int textSize, int gravity, boolean anyRtl) {
+        TextView textView = appCompat ? new AppCompatTextView(ctx) : new TextView(ctx);
+        textView.setId(id);
+        textView.setTypeface(Typeface.create(fontFamily, Typeface.NORMAL));
+        textView.setGravity(gravity);
+        textView.setSingleLine(true);
+        textView.setLines(1);
+        textView.setTextSize(TypedValue.COMPLEX_UNIT_PX, textSize);
+        if (anyRtl && Build.VERSION.SDK_INT >= Build.VERSION_CODES.JELLY_BEAN_MR1) {
+            textView.setTextDirection(View.TEXT_DIRECTION_ANY_RTL);
+        }
+        return textView;
+    }
+}
@@ -0,0 +1,262 @@
+package com.mikepenz.materialdrawer.util;
+
+import android.content.Context;
+import android.content.res.Resources;
+import android.os.Process;
+import android.support.annotation.LayoutRes;
+import android.support.v7.widget.RecyclerView;
+import android.util.AttributeSet;
+import android.util.Log;
+import android.view.ContextThemeWrapper;
+import android.view.LayoutInflater;
+import android.view.View;
+import android.widget.FrameLayout;
+
+import com.mikepenz.materialdrawer.R;
+import com.mikepenz.materialdrawer.model.PrimaryDrawerItem;
+import com.mikepenz.materialdrawer.model.SecondaryDrawerItem;
+import com.mikepenz.materialdrawer.model.SwitchDrawerItem;
+import com.mikepenz.materialdrawer.model.ToggleDrawerItem;
+import com.mikepenz.materialdrawer.model.interfaces.IDrawerItem;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Created by mikepenz on 02.11.15.
+ * Inflates the ViewHolders of the drawerItems (and the accountHeader) of an Activity on a background thread, e.g. in
+ * onCreate before the drawer is built, so the first opening of the drawer does not have to inflate them on the main thread.
+ * The adapter takes a ready ViewHolder of the type if there is one, and inflates it itself otherwise.
+ * <p/>
+ * The views are inflated with the application context and a copy of the theme of the Activity, so they don't keep the
+ * Activity. They are only handed to views of the same Activity (matched by its theme), so Activities with another
+ * theme never get wrongly styled views.
+ * <p/>
+ * The views are created by the LayoutInflater factory of the Activity while the inflation runs, so an AppCompatActivity
+ * gets the same AppCompat views as with a normal inflation (and DrawerItemViews creates them too).
+ */
+public class DrawerPreInflater {
+    private static final String TAG = "DrawerPreInflater";
+
+    private static DrawerPreInflater SINGLETON = null;
+
+    private int mCount = 2;
+    private int[] mHeaderLayouts = new int[]{R.layout.material_drawer_header};
+
+    //the ready views per theme of the activity they were inflated for. an entry is dropped with the activity
+    private final Map<Resources.Theme, Pool> mPools = Collections.synchronizedMap(new WeakHashMap<Resources.Theme, Pool>());
+
+    private DrawerPreInflater() {
+
+    }
+
+    public static synchronized DrawerPreInflater getInstance() {
+        if (SINGLETON == null) {
+            SINGLETON = new DrawerPreInflater();
+        }
+        return SINGLETON;
+    }
+
+    /**
+     * define how many ViewHolders are inflated per drawerItem type (default 2)
+     *
+     * @param count
+     * @return
+     */
+    public DrawerPreInflater withCount(int count) {
+        this.mCount = count;
+        return this;
+    }
+
+    /**
+     * define the layouts of the accountHeader which are inflated once (default material_drawer_header)
+     *
+     * @param headerLayouts
+     * @return
+     */
+    public DrawerPreInflater withHeaderLayouts(@LayoutRes int... headerLayouts) {
+        this.mHeaderLayouts = headerLayouts == null ? new int[0] : headerLayouts;
+        return this;
+    }
+
+    /**
+     * starts the inflation on a background thread. without drawerItems the ViewHolders of the PrimaryDrawerItem,
+     * SecondaryDrawerItem, SwitchDrawerItem and ToggleDrawerItem are inflated.
+     * has to be called on the main thread, after the theme of the activity was set
+     *
+     * @param ctx         the activity (or the themed context) which shows the drawer, only its theme is kept
+     * @param drawerItems an item of every type which should be inflated
+     */
+    public void preInflate(Context ctx, IDrawerItem... drawerItems) {
+        if (drawerItems == null || drawerItems.length == 0) {
+            drawerItems = new IDrawerItem[]{new PrimaryDrawerItem(), new SecondaryDrawerItem(), new SwitchDrawerItem(), new ToggleDrawerItem()};
+        }
+        Resources.Theme theme = ctx.getTheme();
+        //the theme is copied here, as it must not be read while the main thread modifies it
+        final ThemeCopyContext context = new ThemeCopyContext(ctx.getApplicationContext(), theme, DrawerItemViews.isAppCompat(ctx));
+        //the views are created by the factory of the activity (e.g. the AppCompat views), it is released after the inflation
+        final HostFactory hostFactory = new HostFactory(LayoutInflater.from(ctx).getFactory());
+        LayoutInflater.from(context).setFactory(hostFactory);
+        final Pool pool = getPool(theme, true);
+        final IDrawerItem[] items = drawerItems;
+        final int[] headerLayouts = mHeaderLayouts;
+        final int count = mCount;
+
+        Thread thread = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                Process.setThreadPriority(Process.THREAD_PRIORITY_BACKGROUND);
+                try {
+                    inflate(context, pool, items, headerLayouts, count);
+                } finally {
+                    //the pooled views must not keep the activity through the inflater of their context
+                    hostFactory.release();
+                }
+            }
+        }, TAG);
+        thread.start();
+    }
+
+    private static void inflate(Context context, Pool pool, IDrawerItem[] drawerItems, int[] headerLayouts, int count) {
+        LayoutInflater inflater = LayoutInflater.from(context);
+        FrameLayout parent = new FrameLayout(context);
+
+        for (IDrawerItem drawerItem : drawerItems) {
+            ConcurrentLinkedQueue<RecyclerView.ViewHolder> queue = getQueue(pool.mViewHolders, drawerItem.getType());
+            try {
+                while (queue.size() < count) {
+                    queue.offer(drawerItem.getViewHolder(parent));
+                }
+            } catch (RuntimeException e) {
+                //the adapter inflates this type itself
+                Log.w(TAG, "could not inflate " + drawerItem.getType(), e);
+            }
+        }
+
+        for (int headerLayout : headerLayouts) {
+            ConcurrentLinkedQueue<View> queue = getQueue(pool.mViews, headerLayout);
+            try {
+                if (queue.isEmpty()) {
+                    queue.offer(inflater.inflate(headerLayout, null, false));
+                }
+            } catch (RuntimeException e) {
+                Log.w(TAG, "could not inflate the header layout", e);
+            }
+        }
+    }
+
+    private Pool getPool(Resources.Theme theme, boolean create) {
+        synchronized (mPools) {
+            Pool pool = mPools.get(theme);
+            if (pool == null && create) {
+                pool = new Pool();
+                mPools.put(theme, pool);
+            }
+            return pool;
+        }
+    }
+
+    private static <K, V> ConcurrentLinkedQueue<V> getQueue(ConcurrentHashMap<K, ConcurrentLinkedQueue<V>> queues, K key) {
+        ConcurrentLinkedQueue<V> queue = queues.get(key);
+        if (queue == null) {
+            queue = new ConcurrentLinkedQueue<>();
+            ConcurrentLinkedQueue<V> previous = queues.putIfAbsent(key, queue);
+            if (previous != null) {
+                queue = previous;
+            }
+        }
+        return queue;
+    }
+
+    /**
+     * takes a ready ViewHolder of the drawerItem type, which was inflated for the theme of the context
+     *
+     * @param ctx  the context of the RecyclerView
+     * @param type
+     * @return the ViewHolder or null if none is ready
+     */
+    public RecyclerView.ViewHolder obtain(Context ctx, String type) {
+        Pool pool = mPools.isEmpty() ? null : getPool(ctx.getTheme(), false);
+        if (pool == null) {
+            return null;
+        }
+        ConcurrentLinkedQueue<RecyclerView.ViewHolder> queue = pool.mViewHolders.get(type);
+        return queue == null ? null : queue.poll();
+    }
+
+    /**
+     * takes a ready view of the layout (inflated without parent), which was inflated for the theme of the context
+     *
+     * @param ctx
+     * @param layoutRes
+     * @return the view or null if none is ready
+     */
+    public View obtainView(Context ctx, @LayoutRes int layoutRes) {
+        Pool pool = mPools.isEmpty() ? null : getPool(ctx.getTheme(), false);
+        if (pool == null) {
+            return null;
+        }
+        ConcurrentLinkedQueue<View> queue = pool.mViews.get(layoutRes);
+        return queue == null ? null : queue.poll();
+    }
+
+    /**
+     * drops all ready ViewHolders and views
+     */
+    public void clear() {
+        mPools.clear();
+    }
+
+    /**
+     * the ready ViewHolders per drawerItem type, and the ready views per layout of one theme. filled by the background thread
+     */
+    private static class Pool {
+        private final ConcurrentHashMap<String, ConcurrentLinkedQueue<RecyclerView.ViewHolder>> mViewHolders = new ConcurrentHashMap<>();
+        private final ConcurrentHashMap<Integer, ConcurrentLinkedQueue<View>> mViews = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * forwards the view creation to the factory of the activity until it is released
+     */
+    private static class HostFactory implements LayoutInflater.Factory {
+        private volatile LayoutInflater.Factory mFactory;
+
+        HostFactory(LayoutInflater.Factory factory) {
+            this.mFactory = factory;
+        }
+
+        @Override
+        public View onCreateView(String name, Context context, AttributeSet attrs) {
+            LayoutInflater.Factory factory = mFactory;
+            return factory == null ? null : factory.onCreateView(name, context, attrs);
+        }
+
+        void release() {
+            mFactory = null;
+        }
+    }
+
+    /**
+     * a context with a copy of the theme of another context, so the views get the same styling without keeping it
+     */
+    static class ThemeCopyContext extends ContextThemeWrapper {
+        private final Resources.Theme mTheme;
+        //true if the context it was copied from belongs to an AppCompatActivity
+        final boolean mAppCompat;
+
+        ThemeCopyContext(Context base, Resources.Theme theme, boolean appCompat) {
+            super(base, 0);
+            mTheme = base.getResources().newTheme();
+            mTheme.setTo(theme);
+            mAppCompat = appCompat;
+        }
+
+        @Override
+        public Resources.Theme getTheme() {
+            return mTheme;
+        }
+    }
+}
@@ -3,25 +3,66 @@ package com.mikepenz.materialdrawer.util;
 import android.annotation.SuppressLint;
 import android.content.Context;
 import android.content.res.ColorStateList;
+import android.content.res.Resources;
 import android.graphics.drawable.ColorDrawable;
 import android.graphics.drawable.Drawable;
 import android.graphics.drawable.StateListDrawable;
 import android.os.Build;
+import android.support.annotation.AttrRes;
+import android.support.annotation.ColorRes;
+import android.support.v4.view.ViewCompat;
 import android.util.DisplayMetrics;
+import android.util.SparseArray;
+import android.util.SparseIntArray;
 import android.util.TypedValue;
 import android.view.View;
+import android.widget.ImageView;
 
 import com.mikepenz.iconics.IconicsDrawable;
 import com.mikepenz.materialdrawer.R;
 import com.mikepenz.materialdrawer.icons.MaterialDrawerFont;
 import com.mikepenz.materialize.util.UIUtils;
 
+import java.util.WeakHashMap;
+
 /**
  * Created by mikepenz on 15.03.14.
  */
 @SuppressLint("InlinedApi")
 public class DrawerUIUtils {
+    //the resolved theme colors (attr -> color) per theme, so binding a view does not resolve them again
+    private static final WeakHashMap<Resources.Theme, SparseIntArray> THEME_COLORS = new WeakHashMap<>();
+    //the text colorStateLists (selected_text_color -> text_color -> colorStateList), they are immutable and shared by all items
+    private static final SparseArray<SparseArray<ColorStateList>> TEXT_COLOR_STATE_LISTS = new SparseArray<>();
 
+    /**
+     * get the color of a theme attribute or the default color. The resolved color is cached per theme and attribute,
+     * so this does not allocate after the first call
+     *
+     * @param ctx
+     * @param attr
+     * @param res  the default color. it has to be the same for each call with this attr
+     * @return
+     */
+    public static int getThemeColorFromAttrOrRes(Context ctx, @AttrRes int attr, @ColorRes int res) {
+        Resources.Theme theme = ctx.getTheme();
+        synchronized (THEME_COLORS) {
+            SparseIntArray colors = THEME_COLORS.get(theme);
+            if (colors == null) {
+                colors = new SparseIntArray();
+                THEME_COLORS.put(theme, colors);
+            }
+
+            int index = colors.indexOfKey(attr);
+            if (index >= 0) {
+                return colors.valueAt(index);
+            }
+
+            int color = UIUtils.getThemeColorFromAttrOrRes(ctx, attr, res);
+            colors.put(attr, color);
+            return color;
+        }
+    }
 
     /**
      * helper to create a colorStateList for the text
@@ -43,6 +84,63 @@ public class DrawerUIUtils {
         );
     }
 
+    /**
+     * helper to get a shared colorStateList for the text. it is created once per color combination, so this does not
+     * allocate after the first call
+     *
+     * @param text_color
+     * @param selected_text_color
+     * @return
+     */
+    public static ColorStateList getCachedTextColorStateList(int text_color, int selected_text_color) {
+        synchronized (TEXT_COLOR_STATE_LISTS) {
+            SparseArray<ColorStateList> colorStateLists = TEXT_COLOR_STATE_LISTS.get(selected_text_color);
+            if (colorStateLists == null) {
+                colorStateLists = new SparseArray<>();
+                TEXT_COLOR_STATE_LISTS.put(selected_text_color, colorStateLists);
+            }
+
+            ColorStateList colorStateList = colorStateLists.get(text_color);
+            if (colorStateList == null) {
+                colorStateList = getTextColorStateList(text_color, selected_text_color);
+                colorStateLists.put(text_color, colorStateList);
+            }
+            return colorStateList;
+        }
+    }
+
+    /**
+     * checks if a drawable which was set to another view can be set to this view. a drawable can only be shown by one
+     * view, so it is removed from the previous view if that one is not attached anymore (e.g. a recycled ViewHolder).
+     * before API 11 the view of a drawable can't be checked, so this returns false
+     *
+     * @param drawable
+     * @param view
+     * @return true if the drawable is not shown by another view (anymore)
+     */
+    public static boolean takeDrawable(Drawable drawable, View view) {
+        if (Build.VERSION.SDK_INT < Build.VERSION_CODES.HONEYCOMB) {
+            return false;
+        }
+        //the view which shows the drawable is its callback
+        Drawable.Callback callback = drawable.getCallback();
+        if (callback == null || callback == view) {
+            return true;
+        }
+        if (!(callback instanceof View) || ViewCompat.isAttachedToWindow((View) callback)) {
+            return false;
+        }
+        View previous = (View) callback;
+        if (previous instanceof ImageView && ((ImageView) previous).getDrawable() == drawable) {
+            ((ImageView) previous).setImageDrawable(null);
+            return true;
+        } else if (previous.getBackground() == drawable) {
+            UIUtils.setBackground(previous, null);
+            return true;
+        }
+        return false;
+    }
+
     /**
      * helper to create a stateListDrawable for the icon
      *
@@ -0,0 +1,314 @@
+package com.mikepenz.materialdrawer.util;
+
+import android.annotation.TargetApi;
+import android.app.Activity;
+import android.app.Application;
+import android.os.Build;
+import android.os.Bundle;
+import android.support.v7.widget.RecyclerView;
+import android.util.SparseArray;
+import android.util.SparseIntArray;
+
+import java.util.ArrayList;
+import java.util.WeakHashMap;
+
+/**
+ * Created by mikepenz on 02.11.15.
+ * The RecycledViewPool of the drawer. It replaces the static RecyclerViewCacheUtil, so the ViewHolders (and the context they
+ * were inflated with) live only as long as the drawer.
+ * Every viewType has its own capacity. If the pool of a type is full the least recently recycled ViewHolder is dropped,
+ * and the most recently recycled one is returned first. The hits and misses are counted to tune the capacities.
+ * <p/>
+ * If it is attached to an Activity it clears itself when the Activity is destroyed (API 14+).
+ * <p/>
+ * With forActivity one pool is shared by all drawers, appended drawers and MiniDrawers of an Activity. The viewTypes are
+ * registered globally, so a ViewHolder recycled by one of them can be reused by every other one, and the total capacity
+ * caps how many ViewHolders the whole Activity keeps.
+ */
+public class DrawerViewPool extends RecyclerView.RecycledViewPool {
+    public static final int DEFAULT_CAPACITY = 5;
+    public static final int DEFAULT_SHARED_TOTAL_CAPACITY = 20;
+
+    //the shared pools per activity, an entry is removed once its activity is destroyed
+    private static final WeakHashMap<Activity, DrawerViewPool> SHARED_POOLS = new WeakHashMap<>();
+
+    private int mDefaultCapacity;
+    private int mTotalCapacity = -1;
+    private final SparseIntArray mCapacities = new SparseIntArray();
+    //the recycled ViewHolders per viewType, the most recently recycled at the end
+    private final SparseArray<ArrayList<RecyclerView.ViewHolder>> mScrap = new SparseArray<>();
+    //all recycled ViewHolders over all viewTypes, the least recently recycled first
+    private final ArrayList<RecyclerView.ViewHolder> mRecycleOrder = new ArrayList<>();
+
+    private int mHitCount = 0;
+    private int mMissCount = 0;
+    private int mEvictionCount = 0;
+
+    private Object mLifecycleCallbacks;
+
+    public DrawerViewPool() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param defaultCapacity the amount of ViewHolders which are kept for every viewType without an own capacity
+     */
+    public DrawerViewPool(int defaultCapacity) {
+        this.mDefaultCapacity = defaultCapacity;
+    }
+
+    /**
+     * returns the pool which is shared by all drawers of the activity, and creates it on the first call.
+     * the pool is cleared and released once the activity is destroyed. below API 14 the activity can't be observed,
+     * so every call returns a new pool which is not shared
+     *
+     * @param activity
+     * @return
+     */
+    public static DrawerViewPool forActivity(Activity activity) {
+        if (Build.VERSION.SDK_INT < Build.VERSION_CODES.ICE_CREAM_SANDWICH) {
+            return new DrawerViewPool();
+        }
+        DrawerViewPool pool = SHARED_POOLS.get(activity);
+        if (pool == null) {
+            pool = new DrawerViewPool();
+            pool.setTotalCapacity(DEFAULT_SHARED_TOTAL_CAPACITY);
+            pool.attachTo(activity);
+            SHARED_POOLS.put(activity, pool);
+        }
+        return pool;
+    }
+
+    /**
+     * @param defaultCapacity the amount of ViewHolders which are kept for every viewType without an own capacity
+     */
+    public void setDefaultCapacity(int defaultCapacity) {
+        this.mDefaultCapacity = defaultCapacity;
+        for (int i = 0; i < mScrap.size(); i++) {
+            trim(mScrap.keyAt(i));
+        }
+    }
+
+    /**
+     * defines the capacity of a single viewType
+     *
+     * @param viewType
+     * @param max
+     */
+    @Override
+    public void setMaxRecycledViews(int viewType, int max) {
+        mCapacities.put(viewType, max);
+        trim(viewType);
+    }
+
+    /**
+     * defines how many ViewHolders are kept over all viewTypes. if the pool is full the least recently recycled
+     * ViewHolder of any viewType is dropped
+     *
+     * @param totalCapacity the capacity, or -1 to only limit the single viewTypes (default, shared pools 20)
+     */
+    public void setTotalCapacity(int totalCapacity) {
+        this.mTotalCapacity = totalCapacity;
+        trimTotal();
+    }
+
+    public int getTotalCapacity() {
+        return mTotalCapacity;
+    }
+
+    /**
+     * @param viewType
+     * @return the amount of ViewHolders which are kept for this viewType
+     */
+    public int getCapacity(int viewType) {
+        return mCapacities.get(viewType, mDefaultCapacity);
+    }
+
+    @Override
+    public RecyclerView.ViewHolder getRecycledView(int viewType) {
+        ArrayList<RecyclerView.ViewHolder> scrap = mScrap.get(viewType);
+        if (scrap != null && !scrap.isEmpty()) {
+            mHitCount = mHitCount + 1;
+            RecyclerView.ViewHolder viewHolder = scrap.remove(scrap.size() - 1);
+            mRecycleOrder.remove(viewHolder);
+            return viewHolder;
+        }
+        mMissCount = mMissCount + 1;
+        return null;
+    }
+
+    @Override
+    public void putRecycledView(RecyclerView.ViewHolder scrap) {
+        int viewType = scrap.getItemViewType();
+        int capacity = getCapacity(viewType);
+        if (capacity <= 0) {
+            return;
+        }
+        ArrayList<RecyclerView.ViewHolder> typeScrap = mScrap.get(viewType);
+        if (typeScrap == null) {
+            typeScrap = new ArrayList<>(capacity);
+            mScrap.put(viewType, typeScrap);
+        }
+        if (typeScrap.contains(scrap)) {
+            return;
+        }
+        resetViewHolder(scrap);
+        typeScrap.add(scrap);
+        mRecycleOrder.add(scrap);
+        trim(viewType);
+        trimTotal();
+    }
+
+    /**
+     * resets the position, ids, flags and payloads of the ViewHolder like the default pool does, so it is bound like a new one.
+     * ViewHolder.resetInternal is package private, so the ViewHolder passes through the (always empty) storage of the
+     * default pool, which resets it
+     *
+     * @param scrap
+     */
+    private void resetViewHolder(RecyclerView.ViewHolder scrap) {
+        super.putRecycledView(scrap);
+        super.getRecycledView(scrap.getItemViewType());
+    }
+
+    /**
+     * @param viewType
+     * @return the amount of ViewHolders of this viewType in the pool
+     */
+    public int getRecycledViewCount(int viewType) {
+        ArrayList<RecyclerView.ViewHolder> scrap = mScrap.get(viewType);
+        return scrap == null ? 0 : scrap.size();
+    }
+
+    /**
+     * @return the amount of ViewHolders of all viewTypes in the pool
+     */
+    public int getRecycledViewCount() {
+        return mRecycleOrder.size();
+    }
+
+    /**
+     * drops the least recently recycled ViewHolders which exceed the capacity of the viewType
+     */
+    private void trim(int viewType) {
+        ArrayList<RecyclerView.ViewHolder> scrap = mScrap.get(viewType);
+        if (scrap == null) {
+            return;
+        }
+        int overflow = scrap.size() - Math.max(getCapacity(viewType), 0);
+        for (int i = 0; i < overflow; i++) {
+            mRecycleOrder.remove(scrap.remove(0));
+            mEvictionCount = mEvictionCount + 1;
+        }
+    }
+
+    /**
+     * drops the least recently recycled ViewHolders of any viewType which exceed the total capacity
+     */
+    private void trimTotal() {
+        if (mTotalCapacity < 0) {
+            return;
+        }
+        while (mRecycleOrder.size() > mTotalCapacity) {
+            RecyclerView.ViewHolder viewHolder = mRecycleOrder.remove(0);
+            ArrayList<RecyclerView.ViewHolder> scrap = mScrap.get(viewHolder.getItemViewType());
+            if (scrap != null) {
+                scrap.remove(viewHolder);
+            }
+            mEvictionCount = mEvictionCount + 1;
+        }
+    }
+
+    @Override
+    public void clear() {
+        mScrap.clear();
+        mRecycleOrder.clear();
+    }
+
+    /**
+     * @return how often a ViewHolder was taken from the pool
+     */
+    public int getHitCount() {
+        return mHitCount;
+    }
+
+    /**
+     * @return how often the pool had no ViewHolder of the requested type (so it had to be created). for a shared pool
+     * this is the amount of ViewHolders all drawers of the activity inflated together
+     */
+    public int getMissCount() {
+        return mMissCount;
+    }
+
+    /**
+     * @return how many ViewHolders were dropped because the pool of their type was full
+     */
+    public int getEvictionCount() {
+        return mEvictionCount;
+    }
+
+    public void resetStats() {
+        mHitCount = 0;
+        mMissCount = 0;
+        mEvictionCount = 0;
+    }
+
+    /**
+     * clears the pool once the activity is destroyed, so no ViewHolder outlives it (only API 14+, else the pool is released
+     * together with the drawer)
+     *
+     * @param activity
+     */
+    public void attachTo(Activity activity) {
+        if (activity != null && mLifecycleCallbacks == null && Build.VERSION.SDK_INT >= Build.VERSION_CODES.ICE_CREAM_SANDWICH) {
+            mLifecycleCallbacks = new ClearOnDestroyCallbacks(activity);
+            activity.getApplication().registerActivityLifecycleCallbacks((Application.ActivityLifecycleCallbacks) mLifecycleCallbacks);
+        }
+    }
+
+    @TargetApi(Build.VERSION_CODES.ICE_CREAM_SANDWICH)
+    private class ClearOnDestroyCallbacks implements Application.ActivityLifecycleCallbacks {
+        private Activity mActivity;
+
+        ClearOnDestroyCallbacks(Activity activity) {
+            this.mActivity = activity;
+        }
+
+        @Override
+        public void onActivityDestroyed(Activity activity) {
+            if (activity == mActivity) {
+                clear();
+                if (SHARED_POOLS.get(activity) == DrawerViewPool.this) {
+                    SHARED_POOLS.remove(activity);
+                }
+                activity.getApplication().unregisterActivityLifecycleCallbacks(this);
+                mActivity = null;
+                mLifecycleCallbacks = null;
+            }
+        }
+
+        @Override
+        public void onActivityCreated(Activity activity, Bundle savedInstanceState) {
+        }
+
+        @Override
+        public void onActivityStarted(Activity activity) {
+        }
+
+        @Override
+        public void onActivityResumed(Activity activity) {
+        }
+
+        @Override
+        public void onActivityPaused(Activity activity) {
+        }
+
+        @Override
+        public void onActivityStopped(Activity activity) {
+        }
+
+        @Override
+        public void onActivitySaveInstanceState(Activity activity, Bundle outState) {
+        }
+    }
+}
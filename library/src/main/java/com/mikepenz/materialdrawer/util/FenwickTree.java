@@ -0,0 +1,108 @@
+package com.mikepenz.materialdrawer.util;
+
+import java.util.Arrays;
+
+/**
+ * Created by mikepenz on 27.10.15.
+ * A binary indexed tree over int values. Prefix sums, point updates, appending and the search for the n-th counted index
+ * (if all values are 0 or 1) are O(log n), it is rebuilt in O(n).
+ * Used by the adapter to map between the positions of the visible items and the positions in the list of all items.
+ */
+public class FenwickTree {
+    private int[] mTree = new int[1];
+    private int mSize = 0;
+
+    /**
+     * rebuilds the tree in O(n)
+     *
+     * @param values the values, only the first size values are used
+     * @param size
+     */
+    public void build(int[] values, int size) {
+        if (mTree.length < size + 1) {
+            mTree = new int[Math.max(size + 1, mTree.length * 2)];
+        } else {
+            Arrays.fill(mTree, 0, size + 1, 0);
+        }
+        mSize = size;
+
+        for (int i = 1; i <= size; i++) {
+            mTree[i] = mTree[i] + values[i - 1];
+            int parent = i + (i & -i);
+            if (parent <= size) {
+                mTree[parent] = mTree[parent] + mTree[i];
+            }
+        }
+    }
+
+    public int size() {
+        return mSize;
+    }
+
+    /**
+     * adds the delta to the value at the index in O(log n)
+     *
+     * @param index zero based
+     * @param delta
+     */
+    public void add(int index, int delta) {
+        for (int i = index + 1; i <= mSize; i = i + (i & -i)) {
+            mTree[i] = mTree[i] + delta;
+        }
+    }
+
+    /**
+     * appends a value after the last one in O(log n)
+     *
+     * @param value
+     */
+    public void append(int value) {
+        int i = mSize + 1;
+        if (mTree.length < i + 1) {
+            mTree = Arrays.copyOf(mTree, Math.max(i + 1, mTree.length * 2));
+        }
+        //the node covers the values after i - lowbit(i), the new value is the last of them
+        mTree[i] = value + sum(i - 1) - sum(i - (i & -i));
+        mSize = i;
+    }
+
+    /**
+     * drops the values after the first size ones in O(1)
+     *
+     * @param size
+     */
+    public void truncate(int size) {
+        mSize = Math.max(0, Math.min(size, mSize));
+    }
+
+    /**
+     * @param count
+     * @return the sum of the first count values
+     */
+    public int sum(int count) {
+        int sum = 0;
+        for (int i = Math.min(count, mSize); i > 0; i = i - (i & -i)) {
+            sum = sum + mTree[i];
+        }
+        return sum;
+    }
+
+    /**
+     * searches the index of the n-th 1, if all values are 0 or 1
+     *
+     * @param n zero based
+     * @return the index or size() if there are not enough values
+     */
+    public int find(int n) {
+        int index = 0;
+        int remaining = n + 1;
+        for (int step = Integer.highestOneBit(Math.max(mSize, 1)); step > 0; step = step >> 1) {
+            int next = index + step;
+            if (next <= mSize && mTree[next] < remaining) {
+                index = next;
+                remaining = remaining - mTree[next];
+            }
+        }
+        return index;
+    }
+}
@@ -0,0 +1,215 @@
+package com.mikepenz.materialdrawer.util;
+
+import java.util.Arrays;
+
+/**
+ * Created by mikepenz on 21.10.15.
+ * A small open addressing hash map with primitive int keys and values.
+ * Used for the identifier lookups inside the adapter, so we do not have to box every identifier.
+ */
+public class IntIntHashMap {
+    private static final int FREE = Integer.MIN_VALUE;
+
+    private int[] mKeys;
+    private int[] mValues;
+    private int mMask;
+    private int mSize;
+
+    //Integer.MIN_VALUE is used to mark free slots, so this key is stored separately
+    private boolean mHasFreeKey;
+    private int mFreeValue;
+
+    private final int mNoValue;
+
+    /**
+     * @param noValue the value which is returned if a key is not contained in the map
+     */
+    public IntIntHashMap(int noValue) {
+        this(16, noValue);
+    }
+
+    /**
+     * @param initialCapacity the expected amount of entries
+     * @param noValue         the value which is returned if a key is not contained in the map
+     */
+    public IntIntHashMap(int initialCapacity, int noValue) {
+        this.mNoValue = noValue;
+        allocate(tableSizeFor(initialCapacity));
+    }
+
+    public int size() {
+        return mSize + (mHasFreeKey ? 1 : 0);
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    public boolean containsKey(int key) {
+        if (key == FREE) {
+            return mHasFreeKey;
+        }
+        return mKeys[indexOf(key)] != FREE;
+    }
+
+    /**
+     * @param key
+     * @return the value for the key or the noValue passed in the constructor
+     */
+    public int get(int key) {
+        if (key == FREE) {
+            return mHasFreeKey ? mFreeValue : mNoValue;
+        }
+        int index = indexOf(key);
+        return mKeys[index] == FREE ? mNoValue : mValues[index];
+    }
+
+    /**
+     * @param key
+     * @param value
+     * @return the previous value or the noValue passed in the constructor
+     */
+    public int put(int key, int value) {
+        if (key == FREE) {
+            int previous = mHasFreeKey ? mFreeValue : mNoValue;
+            mHasFreeKey = true;
+            mFreeValue = value;
+            return previous;
+        }
+
+        int index = indexOf(key);
+        if (mKeys[index] != FREE) {
+            int previous = mValues[index];
+            mValues[index] = value;
+            return previous;
+        }
+
+        mKeys[index] = key;
+        mValues[index] = value;
+        mSize = mSize + 1;
+        //keep the load factor below 0.5 so the probe sequences stay short
+        if (mSize * 2 > mKeys.length) {
+            rehash(mKeys.length * 2);
+        }
+        return mNoValue;
+    }
+
+    /**
+     * only puts the value if there is no mapping for this key yet
+     *
+     * @param key
+     * @param value
+     * @return true if the value was added
+     */
+    public boolean putIfAbsent(int key, int value) {
+        if (containsKey(key)) {
+            return false;
+        }
+        put(key, value);
+        return true;
+    }
+
+    /**
+     * @param key
+     * @return the removed value or the noValue passed in the constructor
+     */
+    public int remove(int key) {
+        if (key == FREE) {
+            int previous = mHasFreeKey ? mFreeValue : mNoValue;
+            mHasFreeKey = false;
+            return previous;
+        }
+
+        int index = indexOf(key);
+        if (mKeys[index] == FREE) {
+            return mNoValue;
+        }
+        int previous = mValues[index];
+        mKeys[index] = FREE;
+        mSize = mSize - 1;
+
+        //shift the following entries of the probe sequence back so lookups do not stop too early
+        int free = index;
+        int next = (index + 1) & mMask;
+        while (mKeys[next] != FREE) {
+            int home = hash(mKeys[next]) & mMask;
+            if (((next - home) & mMask) >= ((next - free) & mMask)) {
+                mKeys[free] = mKeys[next];
+                mValues[free] = mValues[next];
+                mKeys[next] = FREE;
+                free = next;
+            }
+            next = (next + 1) & mMask;
+        }
+        return previous;
+    }
+
+    public void clear() {
+        if (mSize > 0) {
+            Arrays.fill(mKeys, FREE);
+            mSize = 0;
+        }
+        mHasFreeKey = false;
+    }
+
+    /**
+     * @return all keys of this map (in no specific order)
+     */
+    public int[] keys() {
+        int[] keys = new int[size()];
+        int i = 0;
+        for (int key : mKeys) {
+            if (key != FREE) {
+                keys[i++] = key;
+            }
+        }
+        if (mHasFreeKey) {
+            keys[i] = FREE;
+        }
+        return keys;
+    }
+
+    private int indexOf(int key) {
+        int index = hash(key) & mMask;
+        while (mKeys[index] != FREE && mKeys[index] != key) {
+            index = (index + 1) & mMask;
+        }
+        return index;
+    }
+
+    private void rehash(int capacity) {
+        int[] keys = mKeys;
+        int[] values = mValues;
+        allocate(capacity);
+        mSize = 0;
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != FREE) {
+                int index = indexOf(keys[i]);
+                mKeys[index] = keys[i];
+                mValues[index] = values[i];
+                mSize = mSize + 1;
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        mKeys = new int[capacity];
+        mValues = new int[capacity];
+        Arrays.fill(mKeys, FREE);
+        mMask = capacity - 1;
+    }
+
+    private static int hash(int key) {
+        //spread the bits as identifiers are often sequential
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    private static int tableSizeFor(int expected) {
+        int capacity = 4;
+        while (capacity < expected * 2) {
+            capacity = capacity << 1;
+        }
+        return capacity;
+    }
+}
@@ -3,19 +3,22 @@ package com.mikepenz.materialdrawer.util;
 import android.support.v7.widget.RecyclerView;
 
 import com.mikepenz.materialdrawer.Drawer;
+import com.mikepenz.materialdrawer.adapter.BaseDrawerAdapter;
 import com.mikepenz.materialdrawer.model.interfaces.IDrawerItem;
 
 import java.util.HashMap;
-import java.util.Stack;
 
 /**
  * Created by mikepenz on 18.09.15.
+ *
+ * @deprecated the ViewHolders are pooled per drawer by the DrawerViewPool (Drawer.getViewPool()). this class only fills
+ * the RecycledViewPool of the RecyclerView and keeps no ViewHolders itself
  */
+@Deprecated
 public class RecyclerViewCacheUtil {
     private static RecyclerViewCacheUtil SINGLETON = null;
 
     private int CACHE_SIZE = 3;
-    private HashMap<String, Stack<RecyclerView.ViewHolder>> CACHE = new HashMap<>();
 
     private RecyclerViewCacheUtil() {
 
@@ -51,44 +54,42 @@ public class RecyclerViewCacheUtil {
     }
 
     /**
-     * clear the CACHE
+     * the ViewHolders are not cached here anymore, clear the pool of the drawer instead
      */
     public void clear() {
-        CACHE.clear();
     }
 
     /**
-     * init the cache on your own.
+     * puts up to cacheSize ViewHolders per type into the RecycledViewPool of the RecyclerView.
+     * the RecyclerView has to use a BaseDrawerAdapter
      *
      * @param recyclerView
      * @param drawerItems
      */
     public void init(RecyclerView recyclerView, IDrawerItem... drawerItems) {
-        if (drawerItems != null) {
-            for (IDrawerItem d : drawerItems) {
-                if (!CACHE.containsKey(d.getType())) {
-                    CACHE.put(d.getType(), new Stack<RecyclerView.ViewHolder>());
-                }
-
-                if (CACHE_SIZE == -1 || CACHE.get(d.getType()).size() <= CACHE_SIZE) {
-                    CACHE.get(d.getType()).push(d.getViewHolder(recyclerView));
-                }
+        if (drawerItems == null || !(recyclerView.getAdapter() instanceof BaseDrawerAdapter)) {
+            return;
+        }
+        BaseDrawerAdapter adapter = (BaseDrawerAdapter) recyclerView.getAdapter();
+        RecyclerView.RecycledViewPool pool = recyclerView.getRecycledViewPool();
+        HashMap<String, Integer> counts = new HashMap<>();
+        for (IDrawerItem d : drawerItems) {
+            Integer count = counts.get(d.getType());
+            count = count == null ? 0 : count;
+            if (CACHE_SIZE == -1 || count < CACHE_SIZE) {
+                pool.putRecycledView(adapter.createViewHolder(recyclerView, d));
+                counts.put(d.getType(), count + 1);
             }
         }
     }
 
     /**
-     * this is used to get a cached drawerItem from the cache or null
+     * the ViewHolders are taken from the RecycledViewPool by the RecyclerView
      *
      * @param type
-     * @return
+     * @return always null
      */
     public RecyclerView.ViewHolder obtain(String type) {
-        if (CACHE.containsKey(type)) {
-            if (CACHE.get(type).size() > 0) {
-                return CACHE.get(type).pop();
-            }
-        }
         return null;
     }
 }
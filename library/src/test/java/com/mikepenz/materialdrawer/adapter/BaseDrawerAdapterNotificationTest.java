@@ -0,0 +1,241 @@
+package com.mikepenz.materialdrawer.adapter;
+
+import android.support.v7.widget.RecyclerView;
+
+import com.mikepenz.materialdrawer.BuildConfig;
+import com.mikepenz.materialdrawer.model.interfaces.IDrawerItem;
+import com.mikepenz.materialdrawer.model.utils.DrawerItemPayload;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricGradleTestRunner;
+import org.robolectric.RuntimeEnvironment;
+import org.robolectric.annotation.Config;
+import org.robolectric.shadows.ShadowLooper;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Created by mikepenz on 02.11.15.
+ * Checks the notifications of the header, item and footer segments, with the notification verifier enabled.
+ */
+@RunWith(RobolectricGradleTestRunner.class)
+@Config(constants = BuildConfig.class, sdk = 21)
+public class BaseDrawerAdapterNotificationTest {
+    private DrawerAdapter mAdapter;
+    private final List<String> mNotifications = new ArrayList<>();
+
+    @Before
+    public void setUp() {
+        //the verifier checks the notifications of a main loop message once it is run
+        ShadowLooper.pauseMainLooper();
+
+        mAdapter = new DrawerAdapter();
+        mAdapter.setVerifyNotifications(true);
+        RecyclerView recyclerView = new RecyclerView(RuntimeEnvironment.application);
+        recyclerView.setAdapter(mAdapter);
+        mAdapter.registerAdapterDataObserver(new RecyclerView.AdapterDataObserver() {
+            @Override
+            public void onChanged() {
+                mNotifications.add("changed");
+            }
+
+            @Override
+            public void onItemRangeChanged(int positionStart, int itemCount) {
+                mNotifications.add("change " + positionStart + " +" + itemCount);
+            }
+
+            @Override
+            public void onItemRangeInserted(int positionStart, int itemCount) {
+                mNotifications.add("insert " + positionStart + " +" + itemCount);
+            }
+
+            @Override
+            public void onItemRangeRemoved(int positionStart, int itemCount) {
+                mNotifications.add("remove " + positionStart + " +" + itemCount);
+            }
+
+            @Override
+            public void onItemRangeMoved(int fromPosition, int toPosition, int itemCount) {
+                mNotifications.add("move " + fromPosition + " -> " + toPosition);
+            }
+        });
+    }
+
+    @Test
+    public void drawerItemsAreInsertedAfterTheHeaders() {
+        mAdapter.addHeaderDrawerItems(new TestDrawerItem(100), new TestDrawerItem(101));
+        mAdapter.addDrawerItems(new TestDrawerItem(1), new TestDrawerItem(2), new TestDrawerItem(3));
+        mAdapter.addDrawerItem(3, new TestDrawerItem(4));
+        verify("insert 0 +2", "insert 2 +3", "insert 3 +1");
+        assertEquals(4, mAdapter.getItem(3).getIdentifier());
+    }
+
+    @Test
+    public void footersAreInsertedAtTheEnd() {
+        mAdapter.addDrawerItems(new TestDrawerItem(1), new TestDrawerItem(2));
+        mAdapter.addFooterDrawerItems(new TestDrawerItem(200));
+        mAdapter.addFooterDrawerItems(new TestDrawerItem(201), new TestDrawerItem(202));
+        verify("insert 0 +2", "insert 2 +1", "insert 3 +2");
+    }
+
+    @Test
+    public void clearingTheHeadersRemovesAllOfThem() {
+        mAdapter.addHeaderDrawerItems(new TestDrawerItem(100), new TestDrawerItem(101), new TestDrawerItem(102));
+        mAdapter.addDrawerItems(new TestDrawerItem(1));
+        mAdapter.clearHeaderItems();
+        mAdapter.clearHeaderItems();
+        verify("insert 0 +3", "insert 3 +1", "remove 0 +3");
+        assertEquals(1, mAdapter.getItemCount());
+    }
+
+    @Test
+    public void replacedSegmentsAreChangedAndResized() {
+        mAdapter.addDrawerItems(new TestDrawerItem(1), new TestDrawerItem(2));
+        mAdapter.setFooterDrawerItems(new ArrayList<IDrawerItem>(Arrays.asList(new TestDrawerItem(200), new TestDrawerItem(201))));
+        mAdapter.setFooterDrawerItems(new ArrayList<IDrawerItem>(Collections.singletonList(new TestDrawerItem(202))));
+        mAdapter.setHeaderDrawerItems(new ArrayList<IDrawerItem>(Collections.singletonList(new TestDrawerItem(100))));
+        //the changes of a batch are dispatched after its structural changes
+        verify("insert 0 +2", "insert 2 +2", "remove 3 +1", "change 2 +1", "insert 0 +1");
+        assertEquals(4, mAdapter.getItemCount());
+    }
+
+    @Test
+    public void clearingTheFootersRemovesThemAfterTheItems() {
+        mAdapter.addHeaderDrawerItems(new TestDrawerItem(100));
+        mAdapter.addDrawerItems(new TestDrawerItem(1), new TestDrawerItem(2));
+        mAdapter.addFooterDrawerItems(new TestDrawerItem(200), new TestDrawerItem(201));
+        mAdapter.clearFooterItems();
+        verify("insert 0 +1", "insert 1 +2", "insert 3 +2", "remove 3 +2");
+    }
+
+    @Test
+    public void hiddenAndFilteredItemsAreNotified() {
+        mAdapter.addHeaderDrawerItems(new TestDrawerItem(100));
+        mAdapter.addDrawerItems(new TestDrawerItem(1, "alpha"), new TestDrawerItem(2, "beta"), new TestDrawerItem(3, "alphabet"));
+        mAdapter.filter(RuntimeEnvironment.application, "alpha");
+        mAdapter.moveDrawerItem(1, 2);
+        mAdapter.clearFilter();
+        verify("insert 0 +1", "insert 1 +3", "remove 2 +1", "move 1 -> 2", "insert 1 +1");
+        assertEquals(2, mAdapter.getItem(1).getIdentifier());
+        assertEquals(3, mAdapter.getItem(2).getIdentifier());
+        assertEquals(1, mAdapter.getItem(3).getIdentifier());
+    }
+
+    @Test
+    public void renamedItemsAreFilteredAgain() {
+        mAdapter.addHeaderDrawerItems(new TestDrawerItem(100));
+        TestDrawerItem alpha = new TestDrawerItem(1, "alpha");
+        TestDrawerItem alphabet = new TestDrawerItem(3, "alphabet");
+        mAdapter.addDrawerItems(alpha, new TestDrawerItem(2, "beta"), alphabet);
+        mAdapter.filter(RuntimeEnvironment.application, "alpha");
+
+        //still matching, only the name is rebound
+        alpha.withName("alpha one");
+        mAdapter.notifyAdapterItemChanged(1, DrawerItemPayload.NAME);
+        //not matching anymore
+        alphabet.withName("gamma");
+        mAdapter.notifyAdapterItemChanged(2, DrawerItemPayload.NAME);
+        verify("insert 0 +1", "insert 1 +3", "remove 2 +1", "change 1 +1", "remove 2 +1");
+        assertEquals(2, mAdapter.getItemCount());
+        assertEquals(-1, mAdapter.getPosition(3));
+    }
+
+    @Test
+    public void theFirstOfDuplicateIdentifiersStaysIndexed() {
+        mAdapter.addHeaderDrawerItems(new TestDrawerItem(5));
+        mAdapter.addDrawerItems(new TestDrawerItem(1), new TestDrawerItem(2), new TestDrawerItem(5), new TestDrawerItem(2));
+        assertEquals(2, mAdapter.getPosition(2));
+        assertEquals(0, mAdapter.getPosition(5));
+
+        //the moved duplicate must not replace the first one
+        ((ObservableDrawerItemList) mAdapter.getDrawerItems()).move(3, 2);
+        assertEquals(2, mAdapter.getPosition(2));
+        ((ObservableDrawerItemList) mAdapter.getDrawerItems()).move(3, 0);
+        assertEquals(0, mAdapter.getPosition(5));
+        assertEquals(3, mAdapter.getPosition(2));
+
+        //a change notified around the adapter keeps the first one too
+        mAdapter.notifyItemRangeChanged(0, mAdapter.getItemCount());
+        assertEquals(0, mAdapter.getPosition(5));
+        assertEquals(3, mAdapter.getPosition(2));
+        verify("insert 0 +1", "insert 1 +4", "move 4 -> 3", "move 4 -> 1", "change 0 +5");
+    }
+
+    @Test(expected = RuntimeException.class)
+    public void aWrongNotificationIsReported() {
+        mAdapter.addDrawerItems(new TestDrawerItem(1), new TestDrawerItem(2));
+        ShadowLooper.runUiThreadTasks();
+        //nothing was removed
+        mAdapter.notifyItemRemoved(0);
+        ShadowLooper.runUiThreadTasks();
+    }
+
+    @Test
+    public void randomModificationsAreNotifiedConsistently() {
+        Random random = new Random(19);
+        int identifier = 0;
+        for (int i = 0; i < 500; i++) {
+            int count = mAdapter.getDrawerItems().size();
+            switch (random.nextInt(9)) {
+                case 0:
+                    mAdapter.addHeaderDrawerItems(new TestDrawerItem(100000 + identifier++));
+                    break;
+                case 1:
+                    mAdapter.addFooterDrawerItems(new TestDrawerItem(200000 + identifier++), new TestDrawerItem(200000 + identifier++));
+                    break;
+                case 2:
+                    if (random.nextInt(4) == 0) {
+                        mAdapter.clearHeaderItems();
+                    } else {
+                        mAdapter.clearFooterItems();
+                    }
+                    break;
+                case 3:
+                    mAdapter.addDrawerItems(new TestDrawerItem(identifier++, "item " + identifier), new TestDrawerItem(identifier++, "item " + identifier));
+                    break;
+                case 4:
+                    if (count > 0) {
+                        mAdapter.getDrawerItems().remove(random.nextInt(count));
+                    }
+                    break;
+                case 5:
+                    if (count > 1) {
+                        ((ObservableDrawerItemList) mAdapter.getDrawerItems()).move(random.nextInt(count), random.nextInt(count));
+                    }
+                    break;
+                case 6:
+                    if (count > 0) {
+                        mAdapter.getDrawerItems().set(random.nextInt(count), new TestDrawerItem(identifier++, "item " + identifier));
+                    }
+                    break;
+                case 7:
+                    mAdapter.filter(RuntimeEnvironment.application, random.nextBoolean() ? "item 1" : null);
+                    break;
+                default:
+                    mAdapter.beginBatch();
+                    mAdapter.addDrawerItem(mAdapter.getHeaderItemCount(), new TestDrawerItem(identifier++, "item " + identifier));
+                    mAdapter.addHeaderDrawerItems(new TestDrawerItem(100000 + identifier++));
+                    mAdapter.commitBatch();
+                    break;
+            }
+            //throws if the notifications did not match the changes
+            ShadowLooper.runUiThreadTasks();
+        }
+    }
+
+    /**
+     * runs the verifier, and checks the notifications which were dispatched
+     */
+    private void verify(String... notifications) {
+        ShadowLooper.runUiThreadTasks();
+        assertEquals(Arrays.asList(notifications), mNotifications);
+    }
+}
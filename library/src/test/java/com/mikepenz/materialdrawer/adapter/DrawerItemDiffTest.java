@@ -0,0 +1,230 @@
+package com.mikepenz.materialdrawer.adapter;
+
+import com.mikepenz.materialdrawer.model.interfaces.IDrawerItem;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Created by mikepenz on 02.11.15.
+ */
+public class DrawerItemDiffTest {
+
+    @Test
+    public void equalListsHaveNoOperations() {
+        List<IDrawerItem> items = items(1, 2, 3, 4);
+        DrawerItemDiff diff = DrawerItemDiff.calculate(items, new ArrayList<>(items));
+        assertFalse(diff.isFullChange());
+        assertEquals(0, diff.getOperationCount());
+    }
+
+    @Test
+    public void replacedInstancesAreChanged() {
+        List<IDrawerItem> oldItems = items(1, 2, 3, 4, 5);
+        List<IDrawerItem> newItems = new ArrayList<>(oldItems);
+        newItems.set(1, new TestDrawerItem(2));
+        newItems.set(2, new TestDrawerItem(3));
+
+        RecordingReceiver receiver = dispatch(oldItems, newItems);
+        assertEquals(Collections.singletonList("change 1 +2"), receiver.mNotifications);
+    }
+
+    @Test
+    public void onlyTheChangedRowsOfALargeListAreNotified() {
+        List<IDrawerItem> oldItems = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            oldItems.add(new TestDrawerItem(i));
+        }
+        List<IDrawerItem> newItems = new ArrayList<>(oldItems);
+        newItems.set(10, new TestDrawerItem(10));
+        newItems.set(250, new TestDrawerItem(250));
+        newItems.set(499, new TestDrawerItem(499));
+
+        RecordingReceiver receiver = dispatch(oldItems, newItems);
+        assertEquals(3, receiver.mNotifications.size());
+        assertEquals(3, receiver.count("change"));
+    }
+
+    @Test
+    public void removesAndInsertsAreMergedToRanges() {
+        List<IDrawerItem> oldItems = items(1, 2, 3, 4, 5, 6);
+        RecordingReceiver receiver = dispatch(oldItems, reorder(oldItems, 1, 4, 5, 7, 8, 6));
+        assertEquals(Arrays.asList("remove 1 +2", "insert 3 +2"), receiver.mNotifications);
+    }
+
+    @Test
+    public void aSingleMovedItemIsOneMove() {
+        List<IDrawerItem> oldItems = items(1, 2, 3, 4, 5);
+        List<IDrawerItem> newItems = new ArrayList<>(oldItems);
+        newItems.add(3, newItems.remove(1));
+
+        RecordingReceiver receiver = dispatch(oldItems, newItems);
+        assertEquals(Collections.singletonList("move 1 -> 3"), receiver.mNotifications);
+    }
+
+    @Test
+    public void theOffsetIsAddedToAllPositions() {
+        RecordingReceiver receiver = new RecordingReceiver();
+        List<IDrawerItem> oldItems = items(1, 2, 3);
+        DrawerItemDiff.calculate(oldItems, reorder(oldItems, 2, 3, 4)).dispatchUpdatesTo(receiver, 2);
+        assertEquals(Arrays.asList("remove 2 +1", "insert 4 +1"), receiver.mNotifications);
+    }
+
+    @Test
+    public void duplicateOrMissingIdentifiersAreAFullChange() {
+        assertTrue(DrawerItemDiff.calculate(items(1, 2), items(1, 1)).isFullChange());
+        assertTrue(DrawerItemDiff.calculate(items(1, -1), items(1)).isFullChange());
+
+        RecordingReceiver receiver = new RecordingReceiver();
+        DrawerItemDiff.calculate(items(1, 2), items(2, 2)).dispatchUpdatesTo(receiver, 0);
+        assertEquals(Collections.singletonList("changed"), receiver.mNotifications);
+    }
+
+    @Test
+    public void aReversedListNeedsOneMoveLessThanItsSize() {
+        int size = 200;
+        List<IDrawerItem> oldItems = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            oldItems.add(new TestDrawerItem(i));
+        }
+        List<IDrawerItem> newItems = new ArrayList<>(oldItems);
+        Collections.reverse(newItems);
+
+        RecordingReceiver receiver = dispatch(oldItems, newItems);
+        assertEquals(size - 1, receiver.count("move"));
+    }
+
+    @Test
+    public void theOperationsTransformTheOldIntoTheNewList() {
+        Random random = new Random(11);
+        for (int run = 0; run < 300; run++) {
+            List<IDrawerItem> oldItems = new ArrayList<>();
+            int identifier = 0;
+            int size = random.nextInt(60);
+            for (int i = 0; i < size; i++) {
+                oldItems.add(new TestDrawerItem(identifier++));
+            }
+
+            //remove, replace, insert and shuffle some items
+            List<IDrawerItem> newItems = new ArrayList<>(oldItems);
+            for (int i = newItems.size() - 1; i >= 0; i--) {
+                int operation = random.nextInt(6);
+                if (operation == 0) {
+                    newItems.remove(i);
+                } else if (operation == 1) {
+                    newItems.set(i, new TestDrawerItem(newItems.get(i).getIdentifier()));
+                }
+            }
+            int inserts = random.nextInt(10);
+            for (int i = 0; i < inserts; i++) {
+                newItems.add(random.nextInt(newItems.size() + 1), new TestDrawerItem(identifier++));
+            }
+            int moves = random.nextInt(5);
+            for (int i = 0; i < moves && newItems.size() > 1; i++) {
+                newItems.add(random.nextInt(newItems.size()), newItems.remove(random.nextInt(newItems.size())));
+            }
+
+            RecordingReceiver receiver = dispatch(oldItems, newItems);
+            assertEquals(newItems.size(), receiver.mShadow.size());
+        }
+    }
+
+    @Test
+    public void aShuffledLargeListIsTransformed() {
+        List<IDrawerItem> oldItems = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            oldItems.add(new TestDrawerItem(i));
+        }
+        List<IDrawerItem> newItems = new ArrayList<>(oldItems);
+        Collections.shuffle(newItems, new Random(5));
+
+        //every item which is not part of the longest increasing sequence is moved once
+        RecordingReceiver receiver = dispatch(oldItems, newItems);
+        assertEquals(receiver.mNotifications.size(), receiver.count("move"));
+        assertTrue(receiver.count("move") < newItems.size());
+    }
+
+    private static List<IDrawerItem> items(int... identifiers) {
+        List<IDrawerItem> items = new ArrayList<>();
+        for (int identifier : identifiers) {
+            items.add(new TestDrawerItem(identifier));
+        }
+        return items;
+    }
+
+    /**
+     * builds a new list out of the old instances with the given identifiers, unknown identifiers become new items
+     */
+    private static List<IDrawerItem> reorder(List<IDrawerItem> oldItems, int... identifiers) {
+        List<IDrawerItem> items = new ArrayList<>();
+        for (int identifier : identifiers) {
+            IDrawerItem item = new TestDrawerItem(identifier);
+            for (IDrawerItem oldItem : oldItems) {
+                if (oldItem.getIdentifier() == identifier) {
+                    item = oldItem;
+                }
+            }
+            items.add(item);
+        }
+        return items;
+    }
+
+    /**
+     * dispatches the diff to a shadow of the old items, and checks that it results in the new items. inserted positions
+     * have to contain new items, all other positions the old item with the same identifier
+     */
+    private static RecordingReceiver dispatch(List<IDrawerItem> oldItems, List<IDrawerItem> newItems) {
+        RecordingReceiver receiver = new RecordingReceiver(new ArrayList<Object>(oldItems));
+        DrawerItemDiff diff = DrawerItemDiff.calculate(oldItems, newItems);
+        assertFalse(diff.isFullChange());
+        diff.dispatchUpdatesTo(receiver, 0);
+
+        List<Object> shadow = receiver.mShadow;
+        assertEquals(newItems.size(), shadow.size());
+        List<Integer> changed = new ArrayList<>();
+        for (String notification : receiver.mNotifications) {
+            if (notification.startsWith("change ")) {
+                String[] parts = notification.substring(7).split(" \\+");
+                int position = Integer.parseInt(parts[0]);
+                for (int i = 0; i < Integer.parseInt(parts[1]); i++) {
+                    changed.add(position + i);
+                }
+            }
+        }
+        for (int i = 0; i < newItems.size(); i++) {
+            IDrawerItem newItem = newItems.get(i);
+            IDrawerItem shadowItem = (IDrawerItem) shadow.get(i);
+            if (!containsIdentifier(oldItems, newItem.getIdentifier())) {
+                assertNull("position " + i + " has to be inserted", shadowItem);
+            } else {
+                assertEquals("position " + i, newItem.getIdentifier(), shadowItem.getIdentifier());
+                //a replaced instance has to be rebound, the others must not
+                assertEquals("change of position " + i, shadowItem != newItem, changed.contains(i));
+                if (!changed.contains(i)) {
+                    assertSame(newItem, shadowItem);
+                }
+            }
+        }
+        return receiver;
+    }
+
+    private static boolean containsIdentifier(List<IDrawerItem> items, int identifier) {
+        for (IDrawerItem item : items) {
+            if (item.getIdentifier() == identifier) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,158 @@
+package com.mikepenz.materialdrawer.adapter;
+
+import com.mikepenz.materialdrawer.model.interfaces.IDrawerItem;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Created by mikepenz on 02.11.15.
+ */
+public class DrawerItemFilterTest {
+    private static final String[] NAMES = new String[]{"Inbox", "Outbox", "Sent", "Drafts", "Spam", "Trash", "Starred", "Important", "Settings", "Help"};
+
+    private DrawerItemFilter mFilter;
+    private List<IDrawerItem> mItems;
+
+    @Before
+    public void setUp() {
+        //without a context the names are only resolved from their text
+        mFilter = new DrawerItemFilter(null);
+        mItems = new ArrayList<>();
+        for (int i = 0; i < NAMES.length; i++) {
+            mItems.add(new TestDrawerItem(i, NAMES[i]));
+        }
+        //an item without a name
+        mItems.add(new TestDrawerItem(100));
+    }
+
+    @Test
+    public void matchesTheNamesWhichContainTheQuery() {
+        assertTrue(mFilter.filter(mItems, "BOX"));
+        assertTrue(mFilter.isActive());
+        assertMatches("box");
+
+        assertTrue(mFilter.filter(mItems, "s"));
+        assertMatches("s");
+    }
+
+    @Test
+    public void anEmptyQueryMatchesAllItems() {
+        mFilter.filter(mItems, "tar");
+        assertTrue(mFilter.filter(mItems, ""));
+        assertFalse(mFilter.isActive());
+        for (IDrawerItem item : mItems) {
+            assertTrue(mFilter.matches(item));
+        }
+        //all items may have changed
+        assertEquals(-1, mFilter.getChangedCount());
+    }
+
+    @Test
+    public void theSameQueryIsNoChange() {
+        assertTrue(mFilter.filter(mItems, "in"));
+        assertFalse(mFilter.filter(mItems, "IN"));
+        assertTrue(mFilter.filter(mItems, null));
+        assertFalse(mFilter.filter(mItems, ""));
+    }
+
+    @Test
+    public void aLongerQueryNarrowsThePreviousResult() {
+        mFilter.filter(mItems, "s");
+        mFilter.filter(mItems, "st");
+        assertMatches("st");
+        mFilter.filter(mItems, "sta");
+        assertMatches("sta");
+    }
+
+    @Test
+    public void theChangedIndicesContainEveryItemWhichChanged() {
+        Random random = new Random(9);
+        String alphabet = "aeinorst";
+        boolean[] previous = matches();
+        for (int i = 0; i < 500; i++) {
+            StringBuilder query = new StringBuilder();
+            int length = 1 + random.nextInt(3);
+            for (int j = 0; j < length; j++) {
+                query.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            }
+            if (!mFilter.filter(mItems, query)) {
+                continue;
+            }
+            assertMatches(query.toString());
+
+            boolean[] current = matches();
+            int changedCount = mFilter.getChangedCount();
+            if (changedCount >= 0) {
+                int[] changed = mFilter.getChanged();
+                for (int index = 0; index < current.length; index++) {
+                    if (current[index] != previous[index]) {
+                        assertTrue("index " + index + " changed with " + query, contains(changed, changedCount, index));
+                    }
+                }
+                //sorted and unique
+                for (int k = 1; k < changedCount; k++) {
+                    assertTrue(changed[k - 1] < changed[k]);
+                }
+            }
+            previous = current;
+        }
+    }
+
+    @Test
+    public void modifiedListsAreIndexedAgain() {
+        mFilter.filter(mItems, "box");
+        mItems.add(0, new TestDrawerItem(200, "Toolbox"));
+        mItems.remove(mItems.size() - 1);
+        mFilter.invalidate();
+        mFilter.filter(mItems, "tool");
+        assertMatches("tool");
+        //the indices don't belong to the previous list
+        assertEquals(-1, mFilter.getChangedCount());
+    }
+
+    @Test
+    public void aForgottenItemIsResolvedAgain() {
+        mFilter.filter(mItems, "box");
+        TestDrawerItem renamed = (TestDrawerItem) mItems.get(2);
+        assertFalse(mFilter.matches(renamed));
+        renamed.withName("Sandbox");
+        mFilter.forget(renamed);
+        assertTrue(mFilter.matches(renamed));
+    }
+
+    private void assertMatches(String query) {
+        String text = query.toLowerCase(Locale.getDefault());
+        for (IDrawerItem item : mItems) {
+            TestDrawerItem testItem = (TestDrawerItem) item;
+            boolean expected = testItem.getName() != null && testItem.getName().getText().toLowerCase(Locale.getDefault()).contains(text);
+            assertEquals(testItem + " for " + query, expected, mFilter.matches(item));
+        }
+    }
+
+    private boolean[] matches() {
+        boolean[] matches = new boolean[mItems.size()];
+        for (int i = 0; i < matches.length; i++) {
+            matches[i] = mFilter.matches(mItems.get(i));
+        }
+        return matches;
+    }
+
+    private static boolean contains(int[] values, int count, int value) {
+        for (int i = 0; i < count; i++) {
+            if (values[i] == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,143 @@
+package com.mikepenz.materialdrawer.adapter;
+
+import com.mikepenz.materialdrawer.model.utils.DrawerItemPayload;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Created by mikepenz on 02.11.15.
+ */
+public class DrawerNotificationBatchTest {
+    private DrawerNotificationBatch mBatch;
+    private RecordingReceiver mReceiver;
+
+    @Before
+    public void setUp() {
+        mBatch = new DrawerNotificationBatch();
+        mReceiver = new RecordingReceiver();
+    }
+
+    @Test
+    public void adjacentInsertsAreMerged() {
+        mBatch.insert(2, 1);
+        mBatch.insert(3, 1);
+        mBatch.insert(4, 2);
+        //inside the previous range
+        mBatch.insert(3, 1);
+        assertDispatched("insert 2 +5");
+    }
+
+    @Test
+    public void adjacentRemovesAreMerged() {
+        mBatch.remove(5, 1);
+        mBatch.remove(5, 2);
+        mBatch.remove(4, 1);
+        assertDispatched("remove 4 +4");
+    }
+
+    @Test
+    public void itemsInsertedAndRemovedInTheBatchAreNeverNotified() {
+        mBatch.insert(3, 2);
+        mBatch.remove(3, 2);
+        assertTrue(mBatch.isEmpty());
+
+        mBatch.insert(3, 3);
+        mBatch.remove(4, 1);
+        assertDispatched("insert 3 +2");
+    }
+
+    @Test
+    public void separateRangesStayInOrder() {
+        mBatch.insert(0, 1);
+        mBatch.remove(5, 1);
+        mBatch.insert(8, 2);
+        assertDispatched("insert 0 +1", "remove 5 +1", "insert 8 +2");
+    }
+
+    @Test
+    public void changesOfTheSamePositionAreMerged() {
+        mBatch.change(2, 1, DrawerItemPayload.BADGE.flag());
+        mBatch.change(2, 1, DrawerItemPayload.BADGE.flag());
+        mBatch.change(2, 1, DrawerItemPayload.NAME.flag());
+        assertDispatched("change 2 +1 BADGE", "change 2 +1 NAME");
+    }
+
+    @Test
+    public void aFullChangeWinsOverPayloads() {
+        mBatch.change(2, 1, DrawerItemPayload.BADGE.flag());
+        mBatch.change(2, 1, 0);
+        mBatch.change(2, 1, DrawerItemPayload.NAME.flag());
+        assertDispatched("change 2 +1");
+    }
+
+    @Test
+    public void adjacentChangesWithTheSamePayloadsAreRanges() {
+        mBatch.change(1, 1, 0);
+        mBatch.change(2, 2, 0);
+        mBatch.change(4, 1, DrawerItemPayload.SELECTION.flag());
+        mBatch.change(5, 1, DrawerItemPayload.SELECTION.flag());
+        assertDispatched("change 1 +3", "change 4 +2 SELECTION");
+    }
+
+    @Test
+    public void changesFollowTheStructuralChanges() {
+        mBatch.change(5, 1, 0);
+        mBatch.change(1, 1, 0);
+        mBatch.insert(2, 2);
+        mBatch.remove(0, 1);
+        //the changes are dispatched last, at their positions after the structural changes
+        assertDispatched("insert 2 +2", "remove 0 +1", "change 0 +1", "change 6 +1");
+    }
+
+    @Test
+    public void changesOfRemovedOrInsertedItemsAreDropped() {
+        mBatch.change(3, 1, 0);
+        mBatch.remove(3, 1);
+        mBatch.insert(7, 1);
+        mBatch.change(7, 1, 0);
+        assertDispatched("remove 3 +1", "insert 7 +1");
+    }
+
+    @Test
+    public void changesFollowMoves() {
+        mBatch.change(1, 1, 0);
+        mBatch.change(3, 1, 0);
+        mBatch.move(1, 4);
+        assertDispatched("move 1 -> 4", "change 2 +1", "change 4 +1");
+    }
+
+    @Test
+    public void aDataSetChangeReplacesEverything() {
+        mBatch.insert(1, 1);
+        mBatch.change(4, 1, 0);
+        mBatch.dataSetChanged();
+        mBatch.remove(0, 1);
+        assertDispatched("changed");
+    }
+
+    @Test
+    public void theBatchIsEmptyAfterTheDispatch() {
+        mBatch.insert(1, 1);
+        mBatch.change(4, 1, 0);
+        assertFalse(mBatch.isEmpty());
+        mBatch.dispatchTo(mReceiver);
+        assertTrue(mBatch.isEmpty());
+
+        RecordingReceiver receiver = new RecordingReceiver();
+        mBatch.dispatchTo(receiver);
+        assertEquals(Collections.<String>emptyList(), receiver.mNotifications);
+    }
+
+    private void assertDispatched(String... notifications) {
+        mBatch.dispatchTo(mReceiver);
+        assertEquals(Arrays.asList(notifications), mReceiver.mNotifications);
+    }
+}
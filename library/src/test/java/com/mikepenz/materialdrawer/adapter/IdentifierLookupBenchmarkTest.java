@@ -0,0 +1,77 @@
+package com.mikepenz.materialdrawer.adapter;
+
+import com.mikepenz.materialdrawer.model.interfaces.IDrawerItem;
+import com.mikepenz.materialdrawer.util.IntIntHashMap;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Created by mikepenz on 02.11.15.
+ * Compares the identifier lookup through the index of the adapter (IntIntHashMap) with the linear scan over all positions
+ * which was used before, for 10k items. The times are printed, the test only fails if the index is not faster.
+ */
+public class IdentifierLookupBenchmarkTest {
+    private static final int ITEM_COUNT = 10000;
+    private static final int LOOKUP_COUNT = 20000;
+    private static final int ROUNDS = 5;
+
+    @Test
+    public void theIndexIsFasterThanTheLinearScan() {
+        List<IDrawerItem> items = new ArrayList<>(ITEM_COUNT);
+        IntIntHashMap index = new IntIntHashMap(ITEM_COUNT, -1);
+        for (int i = 0; i < ITEM_COUNT; i++) {
+            //identifiers like the ones of the IdDistributor, not in the order of the positions
+            int identifier = (i * 7919) % ITEM_COUNT + 1;
+            items.add(new TestDrawerItem(identifier));
+            index.putIfAbsent(identifier, i);
+        }
+
+        Random random = new Random(1);
+        int[] lookups = new int[LOOKUP_COUNT];
+        for (int i = 0; i < LOOKUP_COUNT; i++) {
+            lookups[i] = random.nextInt(ITEM_COUNT) + 1;
+        }
+
+        long bestScan = Long.MAX_VALUE;
+        long bestIndex = Long.MAX_VALUE;
+        //the first rounds warm up the jit
+        for (int round = 0; round < ROUNDS; round++) {
+            long start = System.nanoTime();
+            long scanSum = 0;
+            for (int lookup : lookups) {
+                scanSum = scanSum + scan(items, lookup);
+            }
+            bestScan = Math.min(bestScan, System.nanoTime() - start);
+
+            start = System.nanoTime();
+            long indexSum = 0;
+            for (int lookup : lookups) {
+                indexSum = indexSum + index.get(lookup);
+            }
+            bestIndex = Math.min(bestIndex, System.nanoTime() - start);
+
+            //both have to find the same positions
+            assertEquals(scanSum, indexSum);
+        }
+
+        System.out.println(String.format("identifier lookup of %d items: linear scan %.1f ns, index %.1f ns per lookup",
+                ITEM_COUNT, bestScan / (double) LOOKUP_COUNT, bestIndex / (double) LOOKUP_COUNT));
+        assertTrue("the index has to be faster than the scan", bestIndex < bestScan);
+    }
+
+    private static int scan(List<IDrawerItem> items, int identifier) {
+        for (int i = 0; i < items.size(); i++) {
+            if (items.get(i).getIdentifier() == identifier) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,196 @@
+package com.mikepenz.materialdrawer.adapter;
+
+import com.mikepenz.materialdrawer.model.interfaces.IDrawerItem;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Created by mikepenz on 02.11.15.
+ */
+public class ObservableDrawerItemListTest {
+    private final ArrayList<String> mEvents = new ArrayList<>();
+    private ObservableDrawerItemList mList;
+    private TestDrawerItem[] mItems;
+
+    private final ObservableDrawerItemList.Observer mObserver = new ObservableDrawerItemList.Observer() {
+        @Override
+        public void onItemRangeInserted(int index, int count) {
+            mEvents.add("insert " + index + " +" + count);
+        }
+
+        @Override
+        public void onItemRangeRemoved(int index, List<IDrawerItem> removed) {
+            mEvents.add("remove " + index + " " + removed);
+        }
+
+        @Override
+        public void onItemChanged(int index, IDrawerItem previous) {
+            mEvents.add("change " + index + " " + previous);
+        }
+
+        @Override
+        public void onItemMoved(int fromIndex, int toIndex) {
+            mEvents.add("move " + fromIndex + " -> " + toIndex);
+        }
+    };
+
+    @Before
+    public void setUp() {
+        mItems = new TestDrawerItem[6];
+        for (int i = 0; i < mItems.length; i++) {
+            mItems[i] = new TestDrawerItem(i);
+        }
+        mList = new ObservableDrawerItemList(Arrays.<IDrawerItem>asList(mItems[0], mItems[1], mItems[2]), mObserver);
+    }
+
+    @Test
+    public void addsAreInserts() {
+        mList.add(mItems[3]);
+        mList.add(0, mItems[4]);
+        mList.addAll(Collections.<IDrawerItem>emptyList());
+        mList.addAll(1, Arrays.<IDrawerItem>asList(mItems[5], mItems[5]));
+        assertEvents("insert 3 +1", "insert 0 +1", "insert 1 +2");
+        assertEquals(7, mList.size());
+    }
+
+    @Test
+    public void setIsAChangeOfAnotherInstance() {
+        mList.set(1, mItems[1]);
+        mList.set(1, mItems[4]);
+        assertEvents("change 1 TestDrawerItem(1)");
+    }
+
+    @Test
+    public void moveShiftsTheItemsBetween() {
+        mList.move(0, 2);
+        assertEvents("move 0 -> 2");
+        assertEquals(Arrays.<IDrawerItem>asList(mItems[1], mItems[2], mItems[0]), mList);
+    }
+
+    @Test
+    public void removesPassTheRemovedItems() {
+        assertFalse(mList.remove(mItems[4]));
+        mList.remove(mItems[1]);
+        mList.clear();
+        assertEvents("remove 1 [TestDrawerItem(1)]", "remove 0 [TestDrawerItem(0), TestDrawerItem(2)]");
+    }
+
+    @Test
+    public void subListModificationsAreObserved() {
+        mList.addAll(Arrays.<IDrawerItem>asList(mItems[3], mItems[4]));
+        mEvents.clear();
+
+        mList.subList(1, 3).clear();
+        List<IDrawerItem> subList = mList.subList(1, 2);
+        subList.add(mItems[5]);
+        subList.set(0, mItems[1]);
+        assertEvents("remove 1 [TestDrawerItem(1), TestDrawerItem(2)]", "insert 2 +1", "change 1 TestDrawerItem(3)");
+        assertEquals(Arrays.<IDrawerItem>asList(mItems[0], mItems[1], mItems[5], mItems[4]), mList);
+    }
+
+    @Test
+    public void removeAllRemovesRangesFromTheEnd() {
+        mList.addAll(Arrays.<IDrawerItem>asList(mItems[3], mItems[4], mItems[5]));
+        mEvents.clear();
+
+        mList.removeAll(Arrays.asList(mItems[0], mItems[2], mItems[3], mItems[5]));
+        assertEvents("remove 5 [TestDrawerItem(5)]", "remove 2 [TestDrawerItem(2), TestDrawerItem(3)]", "remove 0 [TestDrawerItem(0)]");
+
+        mList.retainAll(Collections.singletonList(mItems[4]));
+        assertEquals(Collections.<IDrawerItem>singletonList(mItems[4]), mList);
+    }
+
+    @Test
+    public void iteratorModificationsAreObserved() {
+        Iterator<IDrawerItem> iterator = mList.iterator();
+        iterator.next();
+        iterator.remove();
+
+        ListIterator<IDrawerItem> listIterator = mList.listIterator(1);
+        listIterator.add(mItems[3]);
+        listIterator.next();
+        listIterator.set(mItems[4]);
+        assertEvents("remove 0 [TestDrawerItem(0)]", "insert 1 +1", "change 2 TestDrawerItem(2)");
+        assertEquals(Arrays.<IDrawerItem>asList(mItems[1], mItems[3], mItems[4]), mList);
+    }
+
+    @Test
+    public void aDetachedListIsNotObserved() {
+        mList.detach();
+        mList.add(mItems[3]);
+        mList.remove(0);
+        mList.clear();
+        assertTrue(mEvents.isEmpty());
+    }
+
+    @Test
+    public void sortChangesTheMovedPositions() {
+        mList.add(0, mItems[3]);
+        mEvents.clear();
+
+        mList.sort(IDENTIFIER_ORDER);
+        assertEvents("change 0 TestDrawerItem(3)", "change 1 TestDrawerItem(0)", "change 2 TestDrawerItem(1)", "change 3 TestDrawerItem(2)");
+        assertEquals(Arrays.<IDrawerItem>asList(mItems[0], mItems[1], mItems[2], mItems[3]), mList);
+
+        //a sorted list has no changes
+        mEvents.clear();
+        Collections.sort(mList, IDENTIFIER_ORDER);
+        assertTrue(mEvents.isEmpty());
+    }
+
+    @Test
+    public void collectionsSortIsObserved() {
+        mList.set(0, mItems[4]);
+        mEvents.clear();
+
+        Collections.sort(mList, IDENTIFIER_ORDER);
+        assertEvents("change 0 TestDrawerItem(4)", "change 1 TestDrawerItem(1)", "change 2 TestDrawerItem(2)");
+        assertEquals(Arrays.<IDrawerItem>asList(mItems[1], mItems[2], mItems[4]), mList);
+    }
+
+    @Test(expected = ConcurrentModificationException.class)
+    public void aModificationAfterAnUnobservedOneThrows() {
+        UnobservedList list = new UnobservedList(mObserver);
+        //like removeIf or replaceAll, which modify the array directly
+        list.modifyUnobserved();
+        list.add(mItems[3]);
+    }
+
+    private void assertEvents(String... events) {
+        assertEquals(Arrays.asList(events), mEvents);
+    }
+
+    private static final Comparator<IDrawerItem> IDENTIFIER_ORDER = new Comparator<IDrawerItem>() {
+        @Override
+        public int compare(IDrawerItem lhs, IDrawerItem rhs) {
+            return lhs.getIdentifier() - rhs.getIdentifier();
+        }
+    };
+
+    /**
+     * a list which can be modified without the observed methods
+     */
+    private static class UnobservedList extends ObservableDrawerItemList {
+        UnobservedList(Observer observer) {
+            super(Collections.<IDrawerItem>emptyList(), observer);
+        }
+
+        void modifyUnobserved() {
+            modCount++;
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.mikepenz.materialdrawer.adapter;
+
+import com.mikepenz.materialdrawer.model.utils.DrawerItemPayload;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Created by mikepenz on 02.11.15.
+ * Records the dispatched notifications as readable strings, and optionally applies them to a shadow list
+ * the same way the RecyclerView does (inserted positions contain null).
+ */
+class RecordingReceiver implements DrawerNotificationReceiver {
+    final ArrayList<String> mNotifications = new ArrayList<>();
+    final List<Object> mShadow;
+
+    RecordingReceiver() {
+        this(null);
+    }
+
+    RecordingReceiver(List<Object> shadow) {
+        this.mShadow = shadow;
+    }
+
+    @Override
+    public void onDataSetChanged() {
+        mNotifications.add("changed");
+    }
+
+    @Override
+    public void onItemRangeInserted(int position, int count) {
+        mNotifications.add("insert " + position + " +" + count);
+        if (mShadow != null) {
+            for (int i = 0; i < count; i++) {
+                mShadow.add(position, null);
+            }
+        }
+    }
+
+    @Override
+    public void onItemRangeRemoved(int position, int count) {
+        mNotifications.add("remove " + position + " +" + count);
+        if (mShadow != null) {
+            for (int i = 0; i < count; i++) {
+                mShadow.remove(position);
+            }
+        }
+    }
+
+    @Override
+    public void onItemMoved(int fromPosition, int toPosition) {
+        mNotifications.add("move " + fromPosition + " -> " + toPosition);
+        if (mShadow != null) {
+            mShadow.add(toPosition, mShadow.remove(fromPosition));
+        }
+    }
+
+    @Override
+    public void onItemRangeChanged(int position, int count, DrawerItemPayload payload) {
+        mNotifications.add("change " + position + " +" + count + (payload == null ? "" : " " + payload));
+    }
+
+    int count(String prefix) {
+        int count = 0;
+        for (String notification : mNotifications) {
+            if (notification.startsWith(prefix)) {
+                count = count + 1;
+            }
+        }
+        return count;
+    }
+}
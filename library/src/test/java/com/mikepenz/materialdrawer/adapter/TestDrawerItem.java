@@ -0,0 +1,135 @@
+package com.mikepenz.materialdrawer.adapter;
+
+import android.content.Context;
+import android.support.v7.widget.RecyclerView;
+import android.view.View;
+import android.view.ViewGroup;
+
+import com.mikepenz.materialdrawer.holder.StringHolder;
+import com.mikepenz.materialdrawer.model.interfaces.IDrawerItem;
+import com.mikepenz.materialdrawer.model.interfaces.Nameable;
+
+/**
+ * Created by mikepenz on 02.11.15.
+ * A drawerItem without views for the tests of the adapter helpers, which only need the identifier and the name.
+ */
+class TestDrawerItem implements IDrawerItem<TestDrawerItem>, Nameable<TestDrawerItem> {
+    private int mIdentifier;
+    private StringHolder mName;
+    private boolean mSelected = false;
+    private boolean mSelectable = true;
+
+    TestDrawerItem(int identifier) {
+        this.mIdentifier = identifier;
+    }
+
+    TestDrawerItem(int identifier, String name) {
+        this.mIdentifier = identifier;
+        this.mName = new StringHolder(name);
+    }
+
+    @Override
+    public TestDrawerItem withIdentifier(int identifier) {
+        this.mIdentifier = identifier;
+        return this;
+    }
+
+    @Override
+    public int getIdentifier() {
+        return mIdentifier;
+    }
+
+    @Override
+    public TestDrawerItem withName(String name) {
+        this.mName = new StringHolder(name);
+        return this;
+    }
+
+    @Override
+    public TestDrawerItem withName(int nameRes) {
+        this.mName = new StringHolder(nameRes);
+        return this;
+    }
+
+    @Override
+    public TestDrawerItem withName(StringHolder name) {
+        this.mName = name;
+        return this;
+    }
+
+    @Override
+    public StringHolder getName() {
+        return mName;
+    }
+
+    @Override
+    public Object getTag() {
+        return null;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return true;
+    }
+
+    @Override
+    public boolean isSelected() {
+        return mSelected;
+    }
+
+    @Override
+    public TestDrawerItem withSetSelected(boolean selected) {
+        this.mSelected = selected;
+        return this;
+    }
+
+    @Override
+    public boolean isSelectable() {
+        return mSelectable;
+    }
+
+    @Override
+    public TestDrawerItem withSelectable(boolean selectable) {
+        this.mSelectable = selectable;
+        return this;
+    }
+
+    @Override
+    public String getType() {
+        return "TEST_ITEM";
+    }
+
+    @Override
+    public int getLayoutRes() {
+        return 0;
+    }
+
+    @Override
+    public View generateView(Context ctx) {
+        return null;
+    }
+
+    @Override
+    public View generateView(Context ctx, ViewGroup parent) {
+        return null;
+    }
+
+    @Override
+    public RecyclerView.ViewHolder getViewHolder(ViewGroup parent) {
+        return null;
+    }
+
+    @Override
+    public void bindView(RecyclerView.ViewHolder holder) {
+    }
+
+    @Override
+    public boolean equals(Integer id) {
+        return id != null && id == mIdentifier;
+    }
+
+    @Override
+    public String toString() {
+        return "TestDrawerItem(" + mIdentifier + ")";
+    }
+}
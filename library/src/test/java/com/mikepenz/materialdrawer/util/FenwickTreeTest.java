@@ -0,0 +1,127 @@
+package com.mikepenz.materialdrawer.util;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Created by mikepenz on 02.11.15.
+ */
+public class FenwickTreeTest {
+
+    @Test
+    public void sumReturnsThePrefixSums() {
+        int[] values = new int[]{3, 0, 2, 5, 1, 0, 0, 4};
+        FenwickTree tree = new FenwickTree();
+        tree.build(values, values.length);
+        assertEquals(values.length, tree.size());
+        int sum = 0;
+        for (int i = 0; i <= values.length; i++) {
+            assertEquals(sum, tree.sum(i));
+            if (i < values.length) {
+                sum = sum + values[i];
+            }
+        }
+        //counts above the size are cut
+        assertEquals(sum, tree.sum(100));
+    }
+
+    @Test
+    public void mapsBetweenVisiblePositionsAndIndices() {
+        //1 = visible, 0 = hidden
+        int[] visible = new int[]{1, 0, 0, 1, 1, 0, 1, 0, 1, 1};
+        FenwickTree tree = new FenwickTree();
+        tree.build(visible, visible.length);
+
+        int position = 0;
+        for (int index = 0; index < visible.length; index++) {
+            //the position of an item is the amount of visible items before it
+            assertEquals(position, tree.sum(index));
+            if (visible[index] == 1) {
+                assertEquals(index, tree.find(position));
+                position = position + 1;
+            }
+        }
+        //there is no visible item for this position
+        assertEquals(visible.length, tree.find(position));
+    }
+
+    @Test
+    public void addUpdatesSingleValues() {
+        Random random = new Random(7);
+        int[] values = randomFlags(random, 1000);
+        FenwickTree tree = new FenwickTree();
+        tree.build(values, values.length);
+
+        for (int i = 0; i < 5000; i++) {
+            int index = random.nextInt(values.length);
+            int delta = values[index] == 1 ? -1 : 1;
+            values[index] = values[index] + delta;
+            tree.add(index, delta);
+            int check = random.nextInt(values.length + 1);
+            assertEquals(naiveSum(values, check), tree.sum(check));
+        }
+        assertMapping(values, values.length, tree);
+    }
+
+    @Test
+    public void appendMatchesABuiltTree() {
+        Random random = new Random(3);
+        int[] values = randomFlags(random, 300);
+        FenwickTree appended = new FenwickTree();
+        for (int i = 0; i < values.length; i++) {
+            appended.append(values[i]);
+            assertEquals(i + 1, appended.size());
+            assertEquals(naiveSum(values, i + 1), appended.sum(i + 1));
+        }
+        assertMapping(values, values.length, appended);
+    }
+
+    @Test
+    public void truncateDropsTheLastValues() {
+        Random random = new Random(5);
+        int[] values = randomFlags(random, 64);
+        FenwickTree tree = new FenwickTree();
+        tree.build(values, values.length);
+
+        tree.truncate(40);
+        assertEquals(40, tree.size());
+        assertEquals(naiveSum(values, 40), tree.sum(64));
+
+        //values appended after the cut replace the dropped ones
+        for (int i = 40; i < values.length; i++) {
+            values[i] = 1 - values[i];
+            tree.append(values[i]);
+        }
+        assertMapping(values, values.length, tree);
+    }
+
+    private static int[] randomFlags(Random random, int size) {
+        int[] values = new int[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = random.nextInt(3) == 0 ? 0 : 1;
+        }
+        return values;
+    }
+
+    private static int naiveSum(int[] values, int count) {
+        int sum = 0;
+        for (int i = 0; i < count; i++) {
+            sum = sum + values[i];
+        }
+        return sum;
+    }
+
+    private static void assertMapping(int[] visible, int size, FenwickTree tree) {
+        int position = 0;
+        for (int index = 0; index < size; index++) {
+            assertEquals(position, tree.sum(index));
+            if (visible[index] == 1) {
+                assertEquals(index, tree.find(position));
+                position = position + 1;
+            }
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.mikepenz.materialdrawer.util;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Created by mikepenz on 02.11.15.
+ */
+public class IntIntHashMapTest {
+
+    @Test
+    public void getReturnsNoValueForMissingKeys() {
+        IntIntHashMap map = new IntIntHashMap(-1);
+        assertEquals(-1, map.get(42));
+        assertFalse(map.containsKey(42));
+        assertEquals(-1, map.remove(42));
+        assertTrue(map.isEmpty());
+    }
+
+    @Test
+    public void putReturnsThePreviousValue() {
+        IntIntHashMap map = new IntIntHashMap(-1);
+        assertEquals(-1, map.put(7, 1));
+        assertEquals(1, map.put(7, 2));
+        assertEquals(2, map.get(7));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    public void putIfAbsentKeepsTheFirstValue() {
+        IntIntHashMap map = new IntIntHashMap(-1);
+        assertTrue(map.putIfAbsent(3, 10));
+        assertFalse(map.putIfAbsent(3, 20));
+        assertEquals(10, map.get(3));
+    }
+
+    @Test
+    public void theFreeMarkerCanBeUsedAsKey() {
+        IntIntHashMap map = new IntIntHashMap(-1);
+        map.put(Integer.MIN_VALUE, 5);
+        map.put(0, 6);
+        assertEquals(5, map.get(Integer.MIN_VALUE));
+        assertEquals(2, map.size());
+        assertEquals(5, map.remove(Integer.MIN_VALUE));
+        assertFalse(map.containsKey(Integer.MIN_VALUE));
+        assertEquals(6, map.get(0));
+    }
+
+    @Test
+    public void growsAndKeepsAllEntries() {
+        IntIntHashMap map = new IntIntHashMap(1, -1);
+        for (int i = 0; i < 10000; i++) {
+            map.put(i, i * 2);
+        }
+        assertEquals(10000, map.size());
+        for (int i = 0; i < 10000; i++) {
+            assertEquals(i * 2, map.get(i));
+        }
+        int[] keys = map.keys();
+        Arrays.sort(keys);
+        for (int i = 0; i < keys.length; i++) {
+            assertEquals(i, keys[i]);
+        }
+    }
+
+    @Test
+    public void removeShiftsTheFollowingEntriesOfTheProbeSequence() {
+        //a table at the maximum load, so the clusters are long (and wrap around the end of the table).
+        //after every remove all other keys have to be reachable, and the removed key must not be found
+        IntIntHashMap dense = new IntIntHashMap(64, -1);
+        List<Integer> keys = new ArrayList<>();
+        for (int i = 0; i < 64; i++) {
+            keys.add(i * 64);
+            dense.put(i * 64, i);
+        }
+        Collections.shuffle(keys, new Random(1));
+        for (int i = 0; i < keys.size(); i++) {
+            dense.remove(keys.get(i));
+            for (int j = i + 1; j < keys.size(); j++) {
+                assertEquals(keys.get(j) / 64, dense.get(keys.get(j)));
+            }
+            assertFalse(dense.containsKey(keys.get(i)));
+        }
+        assertTrue(dense.isEmpty());
+    }
+
+    @Test
+    public void behavesLikeAHashMapForRandomOperations() {
+        Random random = new Random(42);
+        IntIntHashMap map = new IntIntHashMap(4, -1);
+        Map<Integer, Integer> reference = new HashMap<>();
+        for (int i = 0; i < 200000; i++) {
+            //a small key range, so keys are removed and added again and the clusters are long
+            int key = random.nextInt(512) - 256;
+            int operation = random.nextInt(3);
+            if (operation == 0) {
+                Integer expected = reference.put(key, i);
+                assertEquals(expected == null ? -1 : expected, map.put(key, i));
+            } else if (operation == 1) {
+                Integer expected = reference.remove(key);
+                assertEquals(expected == null ? -1 : expected, map.remove(key));
+            } else {
+                Integer expected = reference.get(key);
+                assertEquals(expected == null ? -1 : expected, map.get(key));
+            }
+            assertEquals(reference.size(), map.size());
+        }
+        for (Map.Entry<Integer, Integer> entry : reference.entrySet()) {
+            assertEquals((int) entry.getValue(), map.get(entry.getKey()));
+        }
+    }
+
+    @Test
+    public void clearRemovesAllEntries() {
+        IntIntHashMap map = new IntIntHashMap(-1);
+        map.put(1, 1);
+        map.put(Integer.MIN_VALUE, 2);
+        map.clear();
+        assertEquals(0, map.size());
+        assertArrayEquals(new int[0], map.keys());
+        assertEquals(-1, map.get(1));
+    }
+}